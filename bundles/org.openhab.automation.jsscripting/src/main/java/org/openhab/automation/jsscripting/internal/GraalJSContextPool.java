@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.oracle.truffle.js.scriptengine.GraalJSScriptEngine;
+
+/**
+ * Keeps GraalJS contexts on the shared {@link org.graalvm.polyglot.Engine} ready for new script engines, so creating a
+ * script engine, e.g. for a transformation or a script condition, does not have to wait for a context to be created.
+ *
+ * Contexts are created in the background: the minimum number of contexts is always kept ready, up to the maximum
+ * number after script engines had to wait for a context. Contexts exceeding the minimum number are closed after they
+ * have not been used for the idle timeout. As the state of a JavaScript context cannot be reset, each context is used
+ * by a single script engine and closed together with it. Contexts are created with the configuration at the time, so
+ * the ready contexts are replaced when the configuration changes.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class GraalJSContextPool {
+
+    /**
+     * A context which has not been used by a script engine yet.
+     */
+    public static final class PooledContext {
+        private final GraalJSScriptEngine delegate;
+        private final AtomicReference<@Nullable Consumer<String>> scriptDependencyListener;
+        private volatile long idleSince;
+
+        PooledContext(GraalJSScriptEngine delegate,
+                AtomicReference<@Nullable Consumer<String>> scriptDependencyListener) {
+            this.delegate = delegate;
+            this.scriptDependencyListener = scriptDependencyListener;
+        }
+
+        GraalJSScriptEngine getDelegate() {
+            return delegate;
+        }
+
+        /**
+         * @return the listener the file system of the context reports loaded dependencies to, once it is set
+         */
+        AtomicReference<@Nullable Consumer<String>> getScriptDependencyListener() {
+            return scriptDependencyListener;
+        }
+    }
+
+    private static final long EVICTION_INTERVAL_SECONDS = 60;
+
+    private final Logger logger = LoggerFactory.getLogger(GraalJSContextPool.class);
+    private final Supplier<PooledContext> factory;
+    private final ScheduledExecutorService scheduler;
+    private final LongSupplier clock;
+    // the most recently created contexts are at the end
+    private final Deque<PooledContext> idle = new ConcurrentLinkedDeque<>();
+    private final @Nullable ScheduledFuture<?> evictionJob;
+
+    private int minSize;
+    private int maxSize;
+    private long idleTimeout;
+    // the number of contexts to keep ready, between minSize and maxSize
+    private int targetSize;
+    private int creating;
+    // incremented when the configuration changes, contexts created for an older generation are discarded
+    private long generation;
+    private boolean closed;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong creationNanos = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+    private long lastLoggedRequests;
+
+    /**
+     * @param factory creates a new context
+     * @param scheduler executor used to create and evict contexts in the background
+     * @param minSize minimum number of contexts kept ready
+     * @param maxSize maximum number of contexts kept ready, 0 to disable the pool
+     * @param idleTimeout time in seconds after which unused contexts exceeding the minimum number are closed
+     */
+    public GraalJSContextPool(Supplier<PooledContext> factory, ScheduledExecutorService scheduler, int minSize,
+            int maxSize, long idleTimeout) {
+        this(factory, scheduler, minSize, maxSize, idleTimeout, System::currentTimeMillis);
+    }
+
+    /**
+     * @param clock the current time in milliseconds, like {@link System#currentTimeMillis()}
+     */
+    GraalJSContextPool(Supplier<PooledContext> factory, ScheduledExecutorService scheduler, int minSize, int maxSize,
+            long idleTimeout, LongSupplier clock) {
+        this.factory = factory;
+        this.scheduler = scheduler;
+        this.clock = clock;
+        configure(minSize, maxSize, idleTimeout);
+        evictionJob = scheduler.scheduleWithFixedDelay(this::evictIdle, EVICTION_INTERVAL_SECONDS,
+                EVICTION_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Applies a changed configuration: the ready contexts, which were created with the previous configuration, are
+     * closed and created again for the new size of the pool.
+     */
+    public void configure(int minSize, int maxSize, long idleTimeout) {
+        List<PooledContext> outdated = new ArrayList<>();
+        synchronized (this) {
+            this.maxSize = Math.max(0, maxSize);
+            this.minSize = Math.max(0, Math.min(minSize, this.maxSize));
+            this.idleTimeout = TimeUnit.SECONDS.toMillis(idleTimeout);
+            targetSize = Math.max(this.minSize, Math.min(targetSize, this.maxSize));
+            generation++;
+            // contexts which are still being created are discarded when they are ready
+            creating = 0;
+            PooledContext context;
+            while ((context = idle.pollFirst()) != null) {
+                outdated.add(context);
+            }
+            refill();
+        }
+        outdated.forEach(this::close);
+    }
+
+    /**
+     * Takes a ready context from the pool or creates a new one if there is none.
+     */
+    public PooledContext acquire() {
+        PooledContext context = idle.pollLast();
+        synchronized (this) {
+            if (context != null) {
+                hits.incrementAndGet();
+            } else {
+                misses.incrementAndGet();
+                targetSize = Math.min(maxSize, targetSize + 1);
+            }
+            refill();
+        }
+        return context != null ? context : create();
+    }
+
+    private PooledContext create() {
+        long start = System.nanoTime();
+        PooledContext context = factory.get();
+        long nanos = System.nanoTime() - start;
+        createdCount.incrementAndGet();
+        creationNanos.addAndGet(nanos);
+        logger.trace("Created GraalJS context in {} ms", TimeUnit.NANOSECONDS.toMillis(nanos));
+        return context;
+    }
+
+    private synchronized void refill() {
+        int missing = targetSize - idle.size() - creating;
+        for (int i = 0; i < missing && !closed; i++) {
+            creating++;
+            long generation = this.generation;
+            try {
+                scheduler.execute(() -> createIdle(generation));
+            } catch (RejectedExecutionException e) {
+                creating--;
+                logger.debug("Creating a GraalJS context in the background was rejected: {}", e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private void createIdle(long generation) {
+        PooledContext context = null;
+        try {
+            context = create();
+        } catch (RuntimeException e) {
+            logger.warn("Failed to create a GraalJS context in the background: {}", e.getMessage());
+        }
+        boolean discard;
+        synchronized (this) {
+            boolean outdated = generation != this.generation;
+            if (!outdated) {
+                creating--;
+            }
+            discard = closed || outdated || idle.size() >= maxSize;
+            if (context != null && !discard) {
+                context.idleSince = clock.getAsLong();
+                idle.offerLast(context);
+            }
+        }
+        if (context != null && discard) {
+            close(context);
+        }
+    }
+
+    private void evictIdle() {
+        long now = clock.getAsLong();
+        int minSize;
+        int maxSize;
+        long idleTimeout;
+        synchronized (this) {
+            minSize = this.minSize;
+            maxSize = this.maxSize;
+            idleTimeout = this.idleTimeout;
+        }
+        while (idle.size() > minSize) {
+            PooledContext oldest = idle.peekFirst();
+            if (oldest == null || (now - oldest.idleSince < idleTimeout && idle.size() <= maxSize)) {
+                break;
+            }
+            if (idle.remove(oldest)) {
+                evictedCount.incrementAndGet();
+                close(oldest);
+            }
+        }
+        synchronized (this) {
+            // shrink back to the contexts which are still ready, they are evicted when they are not needed anymore
+            targetSize = Math.max(this.minSize, Math.min(targetSize, idle.size() + creating));
+            refill();
+        }
+
+        long requests = hits.get() + misses.get();
+        if (logger.isDebugEnabled() && requests != lastLoggedRequests) {
+            lastLoggedRequests = requests;
+            logger.debug("GraalJS context pool: {} ready, {} hits, {} misses, {} created, {} evicted, "
+                    + "average creation time {} ms", idle.size(), hits.get(), misses.get(), createdCount.get(),
+                    evictedCount.get(), String.format("%.1f", getAverageCreationTime()));
+        }
+    }
+
+    /**
+     * Closes all contexts which are ready and stops creating new ones.
+     */
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        ScheduledFuture<?> job = evictionJob;
+        if (job != null) {
+            job.cancel(false);
+        }
+        PooledContext context;
+        while ((context = idle.pollFirst()) != null) {
+            close(context);
+        }
+    }
+
+    private void close(PooledContext context) {
+        try {
+            context.delegate.close();
+        } catch (RuntimeException e) {
+            logger.debug("Failed to close GraalJS context: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return number of script engines which got a context that was ready
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return number of script engines which had to wait for a context to be created
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return average time in milliseconds it took to create a context
+     */
+    public double getAverageCreationTime() {
+        long created = createdCount.get();
+        return created == 0 ? 0 : creationNanos.get() / 1_000_000.0 / created;
+    }
+}
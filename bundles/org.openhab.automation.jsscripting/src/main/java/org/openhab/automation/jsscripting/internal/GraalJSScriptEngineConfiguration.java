@@ -37,6 +37,9 @@ public class GraalJSScriptEngineConfiguration {
     private static final String CFG_DEBUGGER_ENABLED = "debuggerEnabled";
     private static final String CFG_DEBUGGER_PORT = "debuggerPort";
     private static final String CFG_LOCK_ACQUISITION_TIMEOUT = "lockAcquisitionTimeout";
+    private static final String CFG_CONTEXT_POOL_MIN_SIZE = "contextPoolMinSize";
+    private static final String CFG_CONTEXT_POOL_MAX_SIZE = "contextPoolMaxSize";
+    private static final String CFG_CONTEXT_POOL_IDLE_TIMEOUT = "contextPoolIdleTimeout";
 
     private static final int INJECTION_ENABLED_FOR_SCRIPT_MODULES_ONLY = 1;
     private static final int INJECTION_ENABLED_FOR_SCRIPT_MODULES_AND_TRANSFORMATIONS = 2;
@@ -47,6 +50,11 @@ public class GraalJSScriptEngineConfiguration {
     /** The default lock acquisition timeout in seconds */
     private static final long LOCK_ACQUISITION_TIMEOUT_DEFAULT = 5L;
 
+    private static final int CONTEXT_POOL_MIN_SIZE_DEFAULT = 1;
+    private static final int CONTEXT_POOL_MAX_SIZE_DEFAULT = 4;
+    /** The default idle timeout of pooled contexts in seconds */
+    private static final long CONTEXT_POOL_IDLE_TIMEOUT_DEFAULT = 300L;
+
     private int injectionEnabled = INJECTION_ENABLED_FOR_ALL_SCRIPTS;
     private boolean injectionCachingEnabled = true;
     private boolean scriptConditionWrapperEnabled = false;
@@ -55,6 +63,9 @@ public class GraalJSScriptEngineConfiguration {
     private boolean debuggerEnabled = false;
     private int debuggerPort = DEBUGGER_PORT_DEFAULT;
     private long lockAcquisitionTimeout = TimeUnit.SECONDS.toMillis(LOCK_ACQUISITION_TIMEOUT_DEFAULT);
+    private int contextPoolMinSize = CONTEXT_POOL_MIN_SIZE_DEFAULT;
+    private int contextPoolMaxSize = CONTEXT_POOL_MAX_SIZE_DEFAULT;
+    private long contextPoolIdleTimeout = CONTEXT_POOL_IDLE_TIMEOUT_DEFAULT;
 
     /**
      * Create a new configuration instance from the given parameters.
@@ -141,6 +152,12 @@ public class GraalJSScriptEngineConfiguration {
         debuggerPort = ConfigParser.valueAsOrElse(config.get(CFG_DEBUGGER_PORT), Integer.class, DEBUGGER_PORT_DEFAULT);
         lockAcquisitionTimeout = TimeUnit.SECONDS.toMillis(ConfigParser
                 .valueAsOrElse(config.get(CFG_LOCK_ACQUISITION_TIMEOUT), Long.class, LOCK_ACQUISITION_TIMEOUT_DEFAULT));
+        contextPoolMinSize = ConfigParser.valueAsOrElse(config.get(CFG_CONTEXT_POOL_MIN_SIZE), Integer.class,
+                CONTEXT_POOL_MIN_SIZE_DEFAULT);
+        contextPoolMaxSize = ConfigParser.valueAsOrElse(config.get(CFG_CONTEXT_POOL_MAX_SIZE), Integer.class,
+                CONTEXT_POOL_MAX_SIZE_DEFAULT);
+        contextPoolIdleTimeout = ConfigParser.valueAsOrElse(config.get(CFG_CONTEXT_POOL_IDLE_TIMEOUT), Long.class,
+                CONTEXT_POOL_IDLE_TIMEOUT_DEFAULT);
     }
 
     /**
@@ -208,4 +225,25 @@ public class GraalJSScriptEngineConfiguration {
     public long getLockAcquisitionTimeout() {
         return lockAcquisitionTimeout;
     }
+
+    /**
+     * @return The minimum number of GraalJS contexts kept ready for new script engines.
+     */
+    public int getContextPoolMinSize() {
+        return contextPoolMinSize;
+    }
+
+    /**
+     * @return The maximum number of GraalJS contexts kept ready for new script engines, 0 if the pool is disabled.
+     */
+    public int getContextPoolMaxSize() {
+        return contextPoolMaxSize;
+    }
+
+    /**
+     * @return The time in seconds after which unused pooled contexts exceeding the minimum number are closed.
+     */
+    public long getContextPoolIdleTimeout() {
+        return contextPoolIdleTimeout;
+    }
 }
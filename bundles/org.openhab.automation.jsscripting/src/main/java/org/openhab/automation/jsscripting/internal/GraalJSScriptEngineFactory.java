@@ -29,6 +29,7 @@ import org.openhab.automation.jsscripting.internal.util.ThreadLocalSlf4jOutputSt
 import org.openhab.core.OpenHAB;
 import org.openhab.core.automation.module.script.ScriptDependencyTracker;
 import org.openhab.core.automation.module.script.ScriptEngineFactory;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
@@ -61,6 +62,8 @@ public class GraalJSScriptEngineFactory implements ScriptEngineFactory {
 
     private static final String LANG_NOT_INITIALIZED_MSG = "Graal JavaScript language not initialized. Restart openHAB to initialize available Graal languages properly.";
 
+    private static final String CONTEXT_POOL_THREAD_POOL_NAME = "jsscripting";
+
     private static final List<String> SCRIPT_TYPES = List.of(SCRIPT_TYPE, SCRIPT_FILE_EXTENSION, "graaljs",
             // backward compatibility with the MIME type used in openHAB 3.x:
             "application/javascript;version=ECMAScript-2021");
@@ -71,6 +74,10 @@ public class GraalJSScriptEngineFactory implements ScriptEngineFactory {
      * Shared Polyglot {@link Engine} instance to be used by all instances of {@link OpenhabGraalJSScriptEngine}.
      */
     private final Engine engine;
+    /**
+     * Pool of contexts on the shared {@link Engine} which are ready to be used by new script engines.
+     */
+    private final GraalJSContextPool contextPool;
 
     private final JSScriptServiceUtil jsScriptServiceUtil;
     private final JSDependencyTracker jsDependencyTracker;
@@ -117,9 +124,20 @@ public class GraalJSScriptEngineFactory implements ScriptEngineFactory {
 
         if (getLanguage() == null) {
             logger.error(LANG_NOT_INITIALIZED_MSG);
+            this.contextPool = new GraalJSContextPool(this::createContext,
+                    ThreadPoolManager.getScheduledPool(CONTEXT_POOL_THREAD_POOL_NAME), 0, 0, 0);
+        } else {
+            this.contextPool = new GraalJSContextPool(this::createContext,
+                    ThreadPoolManager.getScheduledPool(CONTEXT_POOL_THREAD_POOL_NAME),
+                    configuration.getContextPoolMinSize(), configuration.getContextPoolMaxSize(),
+                    configuration.getContextPoolIdleTimeout());
         }
     }
 
+    private GraalJSContextPool.PooledContext createContext() {
+        return OpenhabGraalJSScriptEngine.createContext(configuration, engine, jsDependencyTracker);
+    }
+
     private Engine.Builder createEngineBuilder() {
         Logger engineLogger = LoggerFactory
                 .getLogger(GraalJSScriptEngineFactory.class.getPackageName() + ".org.graalvm.polyglot.Engine");
@@ -134,12 +152,17 @@ public class GraalJSScriptEngineFactory implements ScriptEngineFactory {
 
     @Deactivate
     public void dispose() {
+        this.contextPool.close();
         this.engine.close();
     }
 
     @Modified
     protected void modified(Map<String, ?> config) {
         configuration.modified(config);
+        if (getLanguage() != null) {
+            contextPool.configure(configuration.getContextPoolMinSize(), configuration.getContextPoolMaxSize(),
+                    configuration.getContextPoolIdleTimeout());
+        }
     }
 
     @Override
@@ -162,7 +185,7 @@ public class GraalJSScriptEngineFactory implements ScriptEngineFactory {
             return null;
         }
         return new DebuggingGraalScriptEngine<>(
-                new OpenhabGraalJSScriptEngine(configuration, engine, jsScriptServiceUtil, jsDependencyTracker));
+                new OpenhabGraalJSScriptEngine(configuration, contextPool.acquire(), jsScriptServiceUtil));
     }
 
     @Override
@@ -34,6 +34,7 @@ import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
@@ -51,6 +52,7 @@ import org.graalvm.polyglot.HostAccess;
 import org.graalvm.polyglot.Source;
 import org.graalvm.polyglot.Value;
 import org.graalvm.polyglot.io.IOAccess;
+import org.openhab.automation.jsscripting.internal.GraalJSContextPool.PooledContext;
 import org.openhab.automation.jsscripting.internal.fs.DelegatingFileSystem;
 import org.openhab.automation.jsscripting.internal.fs.PrefixedSeekableByteChannel;
 import org.openhab.automation.jsscripting.internal.fs.ReadOnlySeekableByteArrayChannel;
@@ -163,8 +165,9 @@ public class OpenhabGraalJSScriptEngine
     private final LifecycleTracker lifecycleTracker = new LifecycleTracker();
     private final GraalJSScriptEngineConfiguration configuration;
 
-    // these fields start as null because they are populated on first use
-    private @Nullable Consumer<String> scriptDependencyListener;
+    // set on first use, read by the file system of the context
+    private final AtomicReference<@Nullable Consumer<String>> scriptDependencyListener;
+    // this field starts as placeholder because it is populated on first use
     private String engineIdentifier = "<uninitialized>";
 
     private boolean initialized = false;
@@ -173,16 +176,27 @@ public class OpenhabGraalJSScriptEngine
     /**
      * Creates an implementation of ScriptEngine {@code (& Invocable)}, wrapping the contained engine,
      * that tracks the script lifecycle and provides hooks for scripts to do so too.
+     *
+     * @param context a context created by {@link #createContext(GraalJSScriptEngineConfiguration, Engine,
+     *            JSDependencyTracker)}, which is closed with this engine
      */
-    public OpenhabGraalJSScriptEngine(GraalJSScriptEngineConfiguration configuration, Engine engine,
-            JSScriptServiceUtil jsScriptServiceUtil, JSDependencyTracker jsDependencyTracker) {
-        super(null); // delegate depends on fields not yet initialized, so we cannot set it immediately
+    public OpenhabGraalJSScriptEngine(GraalJSScriptEngineConfiguration configuration, PooledContext context,
+            JSScriptServiceUtil jsScriptServiceUtil) {
+        super(context.getDelegate());
         this.configuration = configuration;
+        this.scriptDependencyListener = context.getScriptDependencyListener();
         this.jsRuntimeFeatures = jsScriptServiceUtil.getJSRuntimeFeatures(lock);
+    }
 
+    /**
+     * Creates a new GraalJS context on the given engine, to be used by a new {@link OpenhabGraalJSScriptEngine}.
+     */
+    static PooledContext createContext(GraalJSScriptEngineConfiguration configuration, Engine engine,
+            JSDependencyTracker jsDependencyTracker) {
         Logger contextLogger = LoggerFactory
                 .getLogger(OpenhabGraalJSScriptEngine.class.getPackageName() + ".org.graalvm.polyglot.Context");
-        delegate = GraalJSScriptEngine.create(engine, Context.newBuilder(LANGUAGE_ID) //
+        AtomicReference<@Nullable Consumer<String>> scriptDependencyListener = new AtomicReference<>();
+        GraalJSScriptEngine delegate = GraalJSScriptEngine.create(engine, Context.newBuilder(LANGUAGE_ID) //
                 .allowIO(IOAccess.newBuilder() //
                         .fileSystem(new DelegatingFileSystem(FileSystems.getDefault().provider()) {
                             @Override
@@ -190,7 +204,7 @@ public class OpenhabGraalJSScriptEngine
                                     FileAttribute<?>... attrs) throws IOException {
                                 if (configuration.isDependencyTrackingEnabled()
                                         && path.startsWith(GraalJSScriptEngineFactory.JS_LIB_PATH)) {
-                                    Consumer<String> localScriptDependencyListener = scriptDependencyListener;
+                                    Consumer<String> localScriptDependencyListener = scriptDependencyListener.get();
                                     if (localScriptDependencyListener != null) {
                                         localScriptDependencyListener.accept(path.toString());
                                     }
@@ -269,6 +283,9 @@ public class OpenhabGraalJSScriptEngine
                 .option("js.ecmascript-version", "2025") //
                 // enable CommonJS module support
                 .option("js.commonjs-require", "true"));
+        // create the context now instead of on first use
+        delegate.getPolyglotContext().initialize(LANGUAGE_ID);
+        return new PooledContext(delegate, scriptDependencyListener);
     }
 
     @Override
@@ -309,7 +326,7 @@ public class OpenhabGraalJSScriptEngine
                     "Failed to retrieve script dependency listener from engine bindings. Script dependency tracking will be disabled for engine '{}'.",
                     engineIdentifier);
         }
-        scriptDependencyListener = localScriptDependencyListener;
+        scriptDependencyListener.set(localScriptDependencyListener);
 
         ScriptExtensionModuleProvider scriptExtensionModuleProvider = new ScriptExtensionModuleProvider(
                 scriptExtensionAccessor, lock, getLockAcquisitionTimeoutMs(), lifecycleTracker);
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.automation.jsscripting.internal.GraalJSContextPool.PooledContext;
+
+import com.oracle.truffle.js.scriptengine.GraalJSScriptEngine;
+
+/**
+ * Tests the {@link GraalJSContextPool} with a fake scheduler, which runs the background tasks when the test asks for
+ * it, and a fake clock.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class GraalJSContextPoolTest {
+
+    private static final long IDLE_TIMEOUT_SECONDS = 60;
+
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    private final ScheduledFuture<?> evictionJob = mock(ScheduledFuture.class);
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final List<GraalJSScriptEngine> created = new ArrayList<>();
+    private @Nullable Runnable eviction;
+    private long now;
+
+    @BeforeEach
+    public void setUp() {
+        doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(scheduler).execute(any(Runnable.class));
+        doAnswer(invocation -> {
+            eviction = invocation.getArgument(0);
+            return evictionJob;
+        }).when(scheduler).scheduleWithFixedDelay(any(Runnable.class), anyLong(), anyLong(), any(TimeUnit.class));
+    }
+
+    private GraalJSContextPool createPool(int minSize, int maxSize) {
+        return new GraalJSContextPool(this::createContext, scheduler, minSize, maxSize, IDLE_TIMEOUT_SECONDS,
+                () -> now);
+    }
+
+    private PooledContext createContext() {
+        GraalJSScriptEngine delegate = mock(GraalJSScriptEngine.class);
+        created.add(delegate);
+        return new PooledContext(delegate, new AtomicReference<>());
+    }
+
+    private void runTasks() {
+        List<Runnable> pending = new ArrayList<>(tasks);
+        tasks.clear();
+        pending.forEach(Runnable::run);
+    }
+
+    private void evict() {
+        Runnable eviction = this.eviction;
+        assertNotNull(eviction);
+        eviction.run();
+    }
+
+    private int closedCount() {
+        int closed = 0;
+        for (GraalJSScriptEngine delegate : created) {
+            closed += mockingDetails(delegate).getInvocations().stream()
+                    .filter(invocation -> "close".equals(invocation.getMethod().getName())).count();
+        }
+        return closed;
+    }
+
+    @Test
+    public void minimumNumberOfContextsIsCreatedInBackground() {
+        GraalJSContextPool pool = createPool(2, 4);
+        assertEquals(2, tasks.size());
+        assertEquals(0, created.size());
+
+        runTasks();
+        PooledContext context = pool.acquire();
+
+        assertSame(created.get(1), context.getDelegate());
+        assertEquals(1, pool.getHits());
+        assertEquals(0, pool.getMisses());
+        // the taken context is replaced
+        assertEquals(1, tasks.size());
+    }
+
+    @Test
+    public void missesGrowPoolUpToMaximumSize() {
+        GraalJSContextPool pool = createPool(0, 2);
+        assertEquals(0, tasks.size());
+
+        for (int i = 0; i < 3; i++) {
+            pool.acquire();
+        }
+
+        // each miss creates the context in the calling thread and schedules one more ready context, up to maxSize
+        assertEquals(3, pool.getMisses());
+        assertEquals(3, created.size());
+        assertEquals(2, tasks.size());
+
+        runTasks();
+        pool.acquire();
+        pool.acquire();
+        assertEquals(2, pool.getHits());
+    }
+
+    @Test
+    public void maximumSizeZeroDisablesPool() {
+        GraalJSContextPool pool = createPool(1, 0);
+
+        pool.acquire();
+
+        assertEquals(1, pool.getMisses());
+        assertEquals(0, tasks.size());
+    }
+
+    @Test
+    public void readyContextsAboveMinimumAreEvictedWhenIdle() {
+        GraalJSContextPool pool = createPool(1, 3);
+        pool.acquire();
+        pool.acquire();
+        runTasks();
+        // two contexts created for the misses and three ready ones
+        assertEquals(5, created.size());
+
+        now += TimeUnit.SECONDS.toMillis(IDLE_TIMEOUT_SECONDS - 1);
+        evict();
+        assertEquals(0, closedCount());
+
+        now += TimeUnit.SECONDS.toMillis(1);
+        evict();
+        assertEquals(2, closedCount());
+        assertEquals(0, tasks.size());
+
+        pool.acquire();
+        assertEquals(1, pool.getHits());
+    }
+
+    @Test
+    public void reconfigurationReplacesReadyContexts() {
+        GraalJSContextPool pool = createPool(2, 4);
+        runTasks();
+        assertEquals(2, created.size());
+
+        pool.configure(1, 1, IDLE_TIMEOUT_SECONDS);
+
+        assertEquals(2, closedCount());
+        assertEquals(1, tasks.size());
+        runTasks();
+        assertSame(created.get(2), pool.acquire().getDelegate());
+    }
+
+    @Test
+    public void contextsCreatedForPreviousConfigurationAreDiscarded() {
+        GraalJSContextPool pool = createPool(1, 2);
+        pool.configure(1, 2, IDLE_TIMEOUT_SECONDS);
+        assertEquals(2, tasks.size());
+
+        runTasks();
+
+        assertEquals(2, created.size());
+        verify(created.get(0)).close();
+        assertSame(created.get(1), pool.acquire().getDelegate());
+        assertEquals(1, pool.getHits());
+    }
+
+    @Test
+    public void closeClosesReadyContexts() {
+        GraalJSContextPool pool = createPool(2, 4);
+        runTasks();
+
+        pool.close();
+        runTasks();
+
+        assertEquals(2, closedCount());
+        verify(evictionJob).cancel(false);
+        assertEquals(0, tasks.size());
+    }
+}
@@ -19,6 +19,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.graalvm.polyglot.PolyglotException;
 import org.graalvm.polyglot.Value;
+import org.openhab.binding.homeassistant.internal.HomeAssistantPythonBridge.CompiledTemplate;
 import org.openhab.binding.homeassistant.internal.component.AbstractComponent;
 import org.openhab.core.thing.binding.generic.ChannelTransformation;
 import org.slf4j.Logger;
@@ -42,7 +43,7 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
 
     private final HomeAssistantPythonBridge python;
     private final AbstractComponent<?> component;
-    private final Value template;
+    private final CompiledTemplate template;
     private final boolean command;
     private final String defaultValue;
     private final boolean parseValueAsInteger;
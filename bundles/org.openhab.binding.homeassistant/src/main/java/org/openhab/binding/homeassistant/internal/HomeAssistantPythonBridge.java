@@ -15,16 +15,24 @@ package org.openhab.binding.homeassistant.internal;
 import java.io.File;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.PolyglotException;
 import org.graalvm.polyglot.Value;
 import org.graalvm.python.embedding.GraalPyResources;
@@ -32,127 +40,359 @@ import org.graalvm.python.embedding.VirtualFileSystem;
 import org.openhab.binding.homeassistant.internal.config.dto.MqttComponentConfig;
 import org.openhab.binding.homeassistant.internal.exception.ConfigurationException;
 import org.openhab.core.OpenHAB;
+import org.openhab.core.config.core.Configuration;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Centralizes all calls into python to ensure thread safety and a single cached context
  *
+ * Discovery and template creation always use the primary context. Rendering templates can be spread over a bounded
+ * pool of additional contexts sharing one engine, so rendering is not serialized on a single interpreter. The pool
+ * grows on demand up to the configured number of render contexts, each thread prefers the same context, and
+ * templates are compiled once per context.
+ *
  * @author Cody Cutrer - Initial contribution
  */
 @NonNullByDefault
-@Component(service = HomeAssistantPythonBridge.class)
+@Component(service = HomeAssistantPythonBridge.class, configurationPid = "org.openhab.binding.homeassistant")
 public class HomeAssistantPythonBridge {
     private static final String PYTHON = "python";
-    private final Logger logger = LoggerFactory.getLogger(HomeAssistantPythonBridge.class);
-    private final Context context;
-    private final Value newRawTemplateMeth, newCommandTemplateMeth, newValueTemplateMeth, renderCommandTemplateMeth,
-            renderValueTemplateMeth, renderCommandTemplateWithVariablesMeth, renderValueTemplateWithVariablesMeth,
-            processDiscoveryConfigMeth, listMeth;
+    private static final String SETUP_SCRIPT = """
+                # we need to set up the path just like it would have been set up on Linux, even if we're
+                # on Windows
+                import os
+                import sys
 
-    @Activate
-    public HomeAssistantPythonBridge() {
-        VirtualFileSystem vfs = VirtualFileSystem.newBuilder().resourceLoadingClass(HomeAssistantPythonBridge.class)
-                .build();
+                try:
+                    import requests
+                    requests.urllib3.disable_warnings(requests.urllib3.exceptions.InsecureRequestWarning)
+                except Exception:
+                    pass
 
-        // Set cache path if not already configured (e.g., by test environment)
-        if (System.getProperty("polyglot.engine.userResourceCache") == null) {
-            File cachePath = Path.of(OpenHAB.getUserDataFolder(), "cache", "org.graalvm.polyglot").toFile();
-            System.setProperty("polyglot.engine.userResourceCache", cachePath.getAbsolutePath());
+                if os.sep != '/':
+                    sys.path.append(os.path.join(sys.prefix, "lib", "python%d.%d" % sys.version_info[:2], "site-packages"))
+
+                from homeassistant.helpers.template import Template
+                from homeassistant.components.mqtt.models import MqttCommandTemplate, MqttValueTemplate
+                from homeassistant.components.mqtt.discovery import process_discovery_config
+
+                def new_raw_template(template):
+                    return Template(template)
+
+                def new_command_template(template):
+                    return MqttCommandTemplate(template)
+
+                def render_command_template(template, value):
+                    return template.render(value=value)
+
+                def render_command_template_with_variables(template, value, variables):
+                    return template.render(value=value, variables=variables)
+
+                def new_value_template(template):
+                    return MqttValueTemplate(template)
+
+                def render_value_template(template, payload, default):
+                    return template.render_with_possible_json_value(payload=payload, default=default)
+
+                def render_value_template_with_variables(template, payload, default, variables):
+                    return template.render_with_possible_json_value(payload=payload, default=default, variables=variables)
+                """;
+
+    /**
+     * A value or command template which can be rendered in any context of the bridge.
+     */
+    public static final class CompiledTemplate {
+        private final boolean command;
+        private final Value primary;
+        // the template source to compile the template in render contexts, null if it can only be rendered in the
+        // primary context
+        private final @Nullable String source;
+        // renders value templates selecting a field of the JSON payload without python, null for other templates
+        private final @Nullable JsonPathTemplate nativeTemplate;
+
+        private CompiledTemplate(boolean command, Value primary, @Nullable String source) {
+            this.command = command;
+            this.primary = primary;
+            this.source = source;
+            this.nativeTemplate = command || source == null ? null : JsonPathTemplate.parse(source);
         }
-        context = GraalPyResources.contextBuilder(vfs).logHandler(new LogHandler(logger))
-                .option("engine.WarnInterpreterOnly", "false").build();
 
-        Value bindings = context.getBindings(PYTHON);
+        /**
+         * @return whether the template is rendered without python for most payloads
+         */
+        public boolean isNative() {
+            return nativeTemplate != null;
+        }
+    }
+
+    /**
+     * The discovery payload of a component, converted to Java objects.
+     */
+    public static final class DiscoveryPayload {
+        private final Map<String, @Nullable Object> payload;
+        private final boolean migrateDiscovery;
 
-        context.eval(PYTHON,
-                """
-                        # we need to set up the path just like it would have been set up on Linux, even if we're
-                        # on Windows
-                        import os
-                        import sys
+        private DiscoveryPayload(Map<String, @Nullable Object> payload, boolean migrateDiscovery) {
+            this.payload = payload;
+            this.migrateDiscovery = migrateDiscovery;
+        }
 
-                        try:
-                            import requests
-                            requests.urllib3.disable_warnings(requests.urllib3.exceptions.InsecureRequestWarning)
-                        except Exception:
-                            pass
+        public Map<String, @Nullable Object> getPayload() {
+            return payload;
+        }
 
-                        if os.sep != '/':
-                            sys.path.append(os.path.join(sys.prefix, "lib", "python%d.%d" % sys.version_info[:2], "site-packages"))
+        public boolean isMigrateDiscovery() {
+            return migrateDiscovery;
+        }
+    }
 
-                        from homeassistant.helpers.template import Template
-                        from homeassistant.components.mqtt.models import MqttCommandTemplate, MqttValueTemplate
-                        from homeassistant.components.mqtt.discovery import process_discovery_config
+    private class PythonContext {
+        private final Context context;
+        private final Value newRawTemplateMeth, newCommandTemplateMeth, newValueTemplateMeth,
+                renderCommandTemplateMeth, renderValueTemplateMeth, renderCommandTemplateWithVariablesMeth,
+                renderValueTemplateWithVariablesMeth, processDiscoveryConfigMeth, listMeth;
+        private final ReentrantLock lock = new ReentrantLock();
+        // templates compiled in this context, guarded by lock
+        private final Map<CompiledTemplate, Value> templates = new WeakHashMap<>();
 
-                        def new_raw_template(template):
-                            return Template(template)
+        private PythonContext(Context context) {
+            this.context = context;
+            context.eval(PYTHON, SETUP_SCRIPT);
 
-                        def new_command_template(template):
-                            return MqttCommandTemplate(template)
+            Value bindings = context.getBindings(PYTHON);
+            newRawTemplateMeth = bindings.getMember("new_raw_template");
+            newCommandTemplateMeth = bindings.getMember("new_command_template");
+            renderCommandTemplateMeth = bindings.getMember("render_command_template");
+            renderCommandTemplateWithVariablesMeth = bindings.getMember("render_command_template_with_variables");
+            newValueTemplateMeth = bindings.getMember("new_value_template");
+            renderValueTemplateMeth = bindings.getMember("render_value_template");
+            renderValueTemplateWithVariablesMeth = bindings.getMember("render_value_template_with_variables");
+            processDiscoveryConfigMeth = bindings.getMember("process_discovery_config");
+            listMeth = bindings.getMember("list");
+        }
 
-                        def render_command_template(template, value):
-                            return template.render(value=value)
+        private Value getTemplate(CompiledTemplate template) {
+            if (this == primary) {
+                return template.primary;
+            }
+            return templates.computeIfAbsent(template, t -> {
+                Value raw = newRawTemplateMeth.execute(Objects.requireNonNull(t.source));
+                return t.command ? newCommandTemplateMeth.execute(raw) : newValueTemplateMeth.execute(raw);
+            });
+        }
+    }
 
-                        def render_command_template_with_variables(template, value, variables):
-                            return template.render(value=value, variables=variables)
+    private final Logger logger = LoggerFactory.getLogger(HomeAssistantPythonBridge.class);
+    private final VirtualFileSystem vfs;
+    private final @Nullable Engine engine;
+    private final PythonContext primary;
+    // contexts used for rendering, starting with the primary context
+    private final List<PythonContext> renderContexts = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean growing = new AtomicBoolean();
+    private final AtomicInteger nextAffinity = new AtomicInteger();
+    private final ThreadLocal<Integer> affinity = ThreadLocal.withInitial(nextAffinity::getAndIncrement);
+    private volatile int maxRenderContexts;
+    private final AtomicInteger nativeValueTemplates = new AtomicInteger();
+    private final AtomicInteger pythonValueTemplates = new AtomicInteger();
+
+    public HomeAssistantPythonBridge() {
+        this(1);
+    }
 
-                        def new_value_template(template):
-                            return MqttValueTemplate(template)
+    @Activate
+    public HomeAssistantPythonBridge(@Nullable Map<String, Object> properties) {
+        this(new Configuration(properties).as(HomeAssistantConfiguration.class).renderContexts);
+    }
 
-                        def render_value_template(template, payload, default):
-                            return template.render_with_possible_json_value(payload=payload, default=default)
+    /**
+     * @param maxRenderContexts the maximum number of contexts templates are rendered in
+     */
+    public HomeAssistantPythonBridge(int maxRenderContexts) {
+        this.maxRenderContexts = Math.max(1, maxRenderContexts);
+        vfs = VirtualFileSystem.newBuilder().resourceLoadingClass(HomeAssistantPythonBridge.class).build();
 
-                        def render_value_template_with_variables(template, payload, default, variables):
-                            return template.render_with_possible_json_value(payload=payload, default=default, variables=variables)
-                        """);
+        // Set cache path if not already configured (e.g., by test environment)
+        if (System.getProperty("polyglot.engine.userResourceCache") == null) {
+            File cachePath = Path.of(OpenHAB.getUserDataFolder(), "cache", "org.graalvm.polyglot").toFile();
+            System.setProperty("polyglot.engine.userResourceCache", cachePath.getAbsolutePath());
+        }
+        // a shared engine lets the render contexts share parsed and compiled code
+        engine = this.maxRenderContexts > 1 ? Engine.newBuilder().option("engine.WarnInterpreterOnly", "false")
+                .logHandler(new LogHandler(logger)).build() : null;
+        primary = new PythonContext(createContext());
+        renderContexts.add(primary);
+    }
 
-        newRawTemplateMeth = bindings.getMember("new_raw_template");
-        newCommandTemplateMeth = bindings.getMember("new_command_template");
-        renderCommandTemplateMeth = bindings.getMember("render_command_template");
-        renderCommandTemplateWithVariablesMeth = bindings.getMember("render_command_template_with_variables");
-        newValueTemplateMeth = bindings.getMember("new_value_template");
-        renderValueTemplateMeth = bindings.getMember("render_value_template");
-        renderValueTemplateWithVariablesMeth = bindings.getMember("render_value_template_with_variables");
-        processDiscoveryConfigMeth = bindings.getMember("process_discovery_config");
-        listMeth = bindings.getMember("list");
+    @Modified
+    protected void modified(@Nullable Map<String, Object> properties) {
+        // additional contexts are only created on demand, existing ones are kept until the bridge is restarted
+        maxRenderContexts = Math.max(1,
+                new Configuration(properties).as(HomeAssistantConfiguration.class).renderContexts);
+    }
+
+    @Deactivate
+    public void deactivate() {
+        // no more contexts are created, the render contexts include the primary context
+        maxRenderContexts = 1;
+        renderContexts.forEach(c -> c.context.close(true));
+        Engine engine = this.engine;
+        if (engine != null) {
+            engine.close(true);
+        }
+    }
+
+    private Context createContext() {
+        Engine engine = this.engine;
+        if (engine != null) {
+            return GraalPyResources.contextBuilder(vfs).engine(engine).build();
+        }
+        return GraalPyResources.contextBuilder(vfs).logHandler(new LogHandler(logger))
+                .option("engine.WarnInterpreterOnly", "false").build();
     }
 
     public Value newRawTemplate(String template) {
-        return newRawTemplateMeth.execute(template);
+        return primary.newRawTemplateMeth.execute(template);
+    }
+
+    public CompiledTemplate newCommandTemplate(Value template) {
+        return new CompiledTemplate(true, primary.newCommandTemplateMeth.execute(template), getSource(template));
+    }
+
+    public CompiledTemplate newValueTemplate(Value template) {
+        CompiledTemplate compiled = new CompiledTemplate(false, primary.newValueTemplateMeth.execute(template),
+                getSource(template));
+        if (compiled.isNative()) {
+            logger.debug("Value template '{}' is rendered natively ({} native, {} python value templates)",
+                    compiled.source, nativeValueTemplates.incrementAndGet(), pythonValueTemplates.get());
+        } else {
+            logger.debug("Value template '{}' is rendered by python ({} native, {} python value templates)",
+                    compiled.source, nativeValueTemplates.get(), pythonValueTemplates.incrementAndGet());
+        }
+        return compiled;
+    }
+
+    /**
+     * @return number of value templates created so far which are rendered without python for most payloads
+     */
+    public int getNativeValueTemplateCount() {
+        return nativeValueTemplates.get();
     }
 
-    public Value newCommandTemplate(Value template) {
-        return newCommandTemplateMeth.execute(template);
+    /**
+     * @return number of value templates created so far which are always rendered by python
+     */
+    public int getPythonValueTemplateCount() {
+        return pythonValueTemplates.get();
     }
 
-    public String renderCommandTemplate(Value template, Object value) {
-        return renderCommandTemplateMeth.execute(template, value).asString();
+    private static @Nullable String getSource(Value template) {
+        if (template.hasMember("template")) {
+            Value source = template.getMember("template");
+            if (source != null && source.isString()) {
+                return source.asString();
+            }
+        }
+        return null;
     }
 
-    public String renderCommandTemplate(Value template, Object value, Map<String, @Nullable Object> variables) {
-        return renderCommandTemplateWithVariablesMeth.execute(template, value, variables).asString();
+    public String renderCommandTemplate(CompiledTemplate template, Object value) {
+        return render(template, value, null,
+                c -> c.renderCommandTemplateMeth.execute(c.getTemplate(template), value).asString());
     }
 
-    public Value newValueTemplate(Value template) {
-        return newValueTemplateMeth.execute(template);
+    public String renderCommandTemplate(CompiledTemplate template, Object value,
+            Map<String, @Nullable Object> variables) {
+        return render(template, value, variables, c -> c.renderCommandTemplateWithVariablesMeth
+                .execute(c.getTemplate(template), value, variables).asString());
     }
 
-    public String renderValueTemplate(Value template, Object payload, String defaultValue) {
-        return renderValueTemplateMeth.execute(template, payload, defaultValue).asString();
+    public String renderValueTemplate(CompiledTemplate template, Object payload, String defaultValue) {
+        JsonPathTemplate nativeTemplate = template.nativeTemplate;
+        if (nativeTemplate != null && payload instanceof String string) {
+            String result = nativeTemplate.render(string);
+            if (result != null) {
+                return result;
+            }
+        }
+        return render(template, payload, null,
+                c -> c.renderValueTemplateMeth.execute(c.getTemplate(template), payload, defaultValue).asString());
     }
 
-    public String renderValueTemplate(Value template, Object payload, String defaultValue,
+    public String renderValueTemplate(CompiledTemplate template, Object payload, String defaultValue,
             Map<String, @Nullable Object> variables) {
-        return renderValueTemplateWithVariablesMeth.execute(template, payload, defaultValue, variables).asString();
+        return render(template, payload, variables, c -> c.renderValueTemplateWithVariablesMeth
+                .execute(c.getTemplate(template), payload, defaultValue, variables).asString());
+    }
+
+    private String render(CompiledTemplate template, Object value, @Nullable Map<String, @Nullable Object> variables,
+            Function<PythonContext, String> renderer) {
+        // python objects can only be passed to the context they belong to
+        if (maxRenderContexts <= 1 || template.source == null || containsPythonValue(value)
+                || (variables != null && containsPythonValue(variables))) {
+            return renderer.apply(primary);
+        }
+        PythonContext context = acquireRenderContext();
+        try {
+            return renderer.apply(context);
+        } finally {
+            context.lock.unlock();
+        }
+    }
+
+    private static boolean containsPythonValue(@Nullable Object object) {
+        if (object instanceof Value) {
+            return true;
+        } else if (object instanceof Map<?, ?> map) {
+            return map.values().stream().anyMatch(HomeAssistantPythonBridge::containsPythonValue);
+        } else if (object instanceof Collection<?> collection) {
+            return collection.stream().anyMatch(HomeAssistantPythonBridge::containsPythonValue);
+        }
+        return false;
+    }
+
+    /**
+     * Locks an idle render context, preferring the one the current thread used before. If all are busy, a new one
+     * is created if the pool is not full yet, otherwise the thread waits for its preferred context.
+     */
+    private PythonContext acquireRenderContext() {
+        int preferred = affinity.get();
+        List<PythonContext> contexts = renderContexts;
+        int size = contexts.size();
+        for (int i = 0; i < size; i++) {
+            PythonContext context = contexts.get(Math.floorMod(preferred + i, size));
+            if (context.lock.tryLock()) {
+                return context;
+            }
+        }
+        if (size < maxRenderContexts && growing.compareAndSet(false, true)) {
+            try {
+                PythonContext context = new PythonContext(createContext());
+                context.lock.lock();
+                renderContexts.add(context);
+                logger.debug("Created python render context {} of {}", renderContexts.size(), maxRenderContexts);
+                return context;
+            } catch (RuntimeException e) {
+                logger.warn("Failed to create an additional python render context, using {}: {}", size,
+                        e.getMessage());
+                maxRenderContexts = size;
+            } finally {
+                growing.set(false);
+            }
+        }
+        PythonContext context = renderContexts.get(Math.floorMod(preferred, renderContexts.size()));
+        context.lock.lock();
+        return context;
     }
 
     public List<MqttComponentConfig> processDiscoveryConfig(String topic, String payload) {
         try {
             @SuppressWarnings("unchecked")
-            List<Value> configs = (List<Value>) toJava(processDiscoveryConfigMeth.execute(topic, payload));
+            List<Value> configs = (List<Value>) toJava(primary.processDiscoveryConfigMeth.execute(topic, payload));
             if (configs == null || configs.isEmpty()) {
                 throw new ConfigurationException("Invalid configuration");
             }
@@ -162,7 +402,44 @@ public class HomeAssistantPythonBridge {
         }
     }
 
+    /**
+     * Processes a discovery config like {@link #processDiscoveryConfig(String, String)}, but converts the result to
+     * Java objects, so it can be done in any of the render contexts and multiple configs can be processed in parallel.
+     */
+    public List<DiscoveryPayload> processDiscoveryPayloads(String topic, String payload) {
+        PythonContext context = maxRenderContexts <= 1 ? primary : acquireRenderContext();
+        try {
+            Value configs = context.processDiscoveryConfigMeth.execute(topic, payload);
+            if (configs.isNull() || !configs.hasArrayElements() || configs.getArraySize() == 0) {
+                throw new ConfigurationException("Invalid configuration");
+            }
+            List<DiscoveryPayload> payloads = new ArrayList<>();
+            for (long i = 0; i < configs.getArraySize(); i++) {
+                Value discoveryPayload = configs.getArrayElement(i).getMember("discovery_payload");
+                @SuppressWarnings("unchecked")
+                Map<String, @Nullable Object> map = (Map<String, @Nullable Object>) Objects
+                        .requireNonNull(toJava(context, discoveryPayload));
+                Value migrate = discoveryPayload.hasMember("migrate_discovery")
+                        ? discoveryPayload.getMember("migrate_discovery")
+                        : null;
+                payloads.add(new DiscoveryPayload(map, (migrate != null && migrate.isBoolean() && migrate.asBoolean())
+                        || (map.get("migrate_discovery") instanceof Boolean b && b)));
+            }
+            return payloads;
+        } catch (PolyglotException e) {
+            throw new ConfigurationException("Failed to process discovery config for " + topic + ": " + e.getMessage());
+        } finally {
+            if (context != primary) {
+                context.lock.unlock();
+            }
+        }
+    }
+
     public @Nullable Object toJava(Value value) {
+        return toJava(primary, value);
+    }
+
+    private @Nullable Object toJava(PythonContext context, Value value) {
         if (value.isNull()) {
             return null;
         }
@@ -175,7 +452,7 @@ public class HomeAssistantPythonBridge {
         if (value.hasArrayElements()) {
             List<@Nullable Object> list = new ArrayList<>();
             for (long i = 0; i < value.getArraySize(); i++) {
-                list.add(toJava(value.getArrayElement(i)));
+                list.add(toJava(context, value.getArrayElement(i)));
             }
             return list;
         }
@@ -184,16 +461,16 @@ public class HomeAssistantPythonBridge {
             Value iterator = value.getHashKeysIterator();
             while (iterator.hasIteratorNextElement()) {
                 Value key = iterator.getIteratorNextElement();
-                map.put(key.asString(), toJava(Objects.requireNonNull(value.getHashValue(key))));
+                map.put(key.asString(), toJava(context, Objects.requireNonNull(value.getHashValue(key))));
             }
             return map;
         }
         // This is a bit of a pain, but Python sets don't act like Arrays, nor
         // can you use `as(List.class)` to have Graal convert them
         if (value.getMetaObject().getMetaSimpleName().equals("set")) {
-            Value pyList = listMeth.execute(value);
+            Value pyList = context.listMeth.execute(value);
             @SuppressWarnings("unchecked")
-            List<@Nullable Object> list = (List<@Nullable Object>) Objects.requireNonNull(toJava(pyList));
+            List<@Nullable Object> list = (List<@Nullable Object>) Objects.requireNonNull(toJava(context, pyList));
             Set<@Nullable Object> set = new HashSet<@Nullable Object>(list);
             return set;
         }
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homeassistant.internal;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Renders value templates which only select a field of the JSON payload, like
+ * <code>{{ value_json.temperature }}</code> or <code>{{ value_json['state'][0] }}</code>, without calling into
+ * python.
+ *
+ * Only payloads for which the result is known to be the same as the one of the Jinja template are rendered: the
+ * payload must be strict JSON and the selected value a string, boolean, null or a number which python prints the
+ * same way as Java. For everything else {@link #render(String)} returns null and the template has to be rendered by
+ * python.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JsonPathTemplate {
+    private static final String IDENTIFIER = "[A-Za-z][A-Za-z0-9_]*";
+    private static final String SEGMENT = "\\." + IDENTIFIER + "|\\[\\s*(?:'[^'\\\\]*'|\"[^\"\\\\]*\"|\\d+)\\s*\\]";
+    private static final Pattern TEMPLATE_PATTERN = Pattern
+            .compile("\\{\\{\\s*value_json((?:" + SEGMENT + ")+)\\s*\\}\\}");
+    private static final Pattern SEGMENT_PATTERN = Pattern.compile(
+            "\\.(" + IDENTIFIER + ")|\\[\\s*(?:'([^'\\\\]*)'|\"([^\"\\\\]*)\"|(\\d+))\\s*\\]");
+    private static final Pattern INTEGER_PATTERN = Pattern.compile("-?(?:0|[1-9][0-9]{0,17})");
+    private static final Pattern DECIMAL_PATTERN = Pattern.compile("-?(?:0|[1-9][0-9]*)\\.[0-9]+");
+    // attributes of python dicts, which Jinja returns instead of the item with the same key
+    private static final Set<String> DICT_ATTRIBUTES = Set.of("clear", "copy", "fromkeys", "get", "items", "keys",
+            "pop", "popitem", "setdefault", "update", "values");
+
+    private final String template;
+    // String keys for objects, Integer indices for arrays
+    private final List<Object> path;
+
+    private JsonPathTemplate(String template, List<Object> path) {
+        this.template = template;
+        this.path = path;
+    }
+
+    /**
+     * Creates a native template for the given Jinja template.
+     *
+     * @return the template or null if the template is not a plain selection of a JSON field
+     */
+    public static @Nullable JsonPathTemplate parse(String template) {
+        Matcher matcher = TEMPLATE_PATTERN.matcher(template.strip());
+        if (!matcher.matches()) {
+            return null;
+        }
+        List<Object> path = new ArrayList<>();
+        Matcher segment = SEGMENT_PATTERN.matcher(matcher.group(1));
+        while (segment.find()) {
+            String attribute = segment.group(1);
+            if (attribute != null) {
+                if (DICT_ATTRIBUTES.contains(attribute)) {
+                    return null;
+                }
+                path.add(attribute);
+            } else if (segment.group(4) != null) {
+                String index = segment.group(4);
+                if (index.length() > 9) {
+                    return null;
+                }
+                path.add(Integer.valueOf(index));
+            } else {
+                path.add(segment.group(2) != null ? segment.group(2) : segment.group(3));
+            }
+        }
+        return new JsonPathTemplate(template, List.copyOf(path));
+    }
+
+    /**
+     * Renders the template for the given payload.
+     *
+     * @return the rendered value or null if the template has to be rendered by python
+     */
+    public @Nullable String render(String payload) {
+        // python rejects control characters within strings and escaped single quotes, which the JSON reader accepts
+        for (int i = 0; i < payload.length(); i++) {
+            char c = payload.charAt(i);
+            if (c < ' ' || (c == '\\' && payload.startsWith("'", i + 1))) {
+                return null;
+            }
+        }
+        try (JsonReader reader = new JsonReader(new StringReader(payload))) {
+            String result = read(reader, 0);
+            return result != null && reader.peek() == JsonToken.END_DOCUMENT ? result : null;
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private @Nullable String read(JsonReader reader, int depth) throws IOException {
+        if (depth == path.size()) {
+            return readValue(reader);
+        }
+        Object segment = path.get(depth);
+        String result = null;
+        JsonToken token = reader.peek();
+        if (token == JsonToken.BEGIN_OBJECT && segment instanceof String key) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                // for duplicate keys the last one wins, like in python
+                if (reader.nextName().equals(key)) {
+                    result = read(reader, depth + 1);
+                    if (result == null) {
+                        return null;
+                    }
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } else if (token == JsonToken.BEGIN_ARRAY && segment instanceof Integer index) {
+            reader.beginArray();
+            for (int i = 0; reader.hasNext(); i++) {
+                if (i == index) {
+                    result = read(reader, depth + 1);
+                    if (result == null) {
+                        return null;
+                    }
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endArray();
+        }
+        return result;
+    }
+
+    private static @Nullable String readValue(JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case STRING:
+                String string = reader.nextString();
+                // the rendered result is stripped by python, which considers more characters whitespace than Java
+                if (!string.isEmpty() && (isSpace(string.charAt(0)) || isSpace(string.charAt(string.length() - 1)))) {
+                    return null;
+                }
+                return string;
+            case NUMBER:
+                String number = reader.nextString();
+                if (INTEGER_PATTERN.matcher(number).matches()) {
+                    return Long.toString(Long.parseLong(number));
+                } else if (DECIMAL_PATTERN.matcher(number).matches()) {
+                    // within this range python and Java both print the shortest representation without exponent
+                    double value = Double.parseDouble(number);
+                    double magnitude = Math.abs(value);
+                    if (magnitude == 0 || (magnitude >= 1e-3 && magnitude < 1e7)) {
+                        return Double.toString(value);
+                    }
+                }
+                return null;
+            case BOOLEAN:
+                return reader.nextBoolean() ? "True" : "False";
+            case NULL:
+                reader.nextNull();
+                return "None";
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isSpace(char c) {
+        return c <= ' ' || Character.isWhitespace(c) || Character.isSpaceChar(c) || c == '\u0085';
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+}
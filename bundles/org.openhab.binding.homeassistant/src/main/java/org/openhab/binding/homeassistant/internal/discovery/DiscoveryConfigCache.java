@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homeassistant.internal.discovery;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+/**
+ * Caches the outcome of processing discovery configs by topic and a hash of the payload, so retained configs which
+ * did not change since the last start do not have to be processed by python again.
+ *
+ * The cache is stored as JSON file and discarded when it was written by another version of the binding. Entries of
+ * topics which have not been received since the cache was loaded are dropped when it is saved, so configs removed
+ * while openHAB was not running do not stay in the cache forever.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class DiscoveryConfigCache {
+    /**
+     * The outcome of processing a discovery config.
+     */
+    static class Entry {
+        String hash = "";
+        boolean migrateDiscovery;
+        String thingId = "";
+        String thingName = "";
+        Map<String, String> properties = Map.of();
+
+        Entry(String hash, boolean migrateDiscovery, String thingId, String thingName,
+                Map<String, String> properties) {
+            this.hash = hash;
+            this.migrateDiscovery = migrateDiscovery;
+            this.thingId = thingId;
+            this.thingName = thingName;
+            this.properties = properties;
+        }
+    }
+
+    private static class CacheFile {
+        @Nullable
+        String version;
+        @Nullable
+        Map<String, Entry> entries;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(DiscoveryConfigCache.class);
+    private final Gson gson = new Gson();
+    private final @Nullable Path file;
+    private final String version;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // topics received since the cache was loaded
+    private final Set<String> liveTopics = ConcurrentHashMap.newKeySet();
+    private volatile boolean dirty;
+
+    /**
+     * @param file the file the cache is stored in, or null to keep it in memory only
+     * @param version the version of the binding, the cache is discarded when it does not match
+     */
+    DiscoveryConfigCache(@Nullable Path file, String version) {
+        this.file = file;
+        this.version = version;
+        if (file != null && Files.isRegularFile(file)) {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                CacheFile cacheFile = gson.fromJson(reader, CacheFile.class);
+                Map<String, Entry> loaded = cacheFile != null && version.equals(cacheFile.version)
+                        ? cacheFile.entries
+                        : null;
+                if (loaded != null) {
+                    loaded.forEach((topic, entry) -> {
+                        if (topic != null && entry != null && entry.properties != null) {
+                            entries.put(topic, entry);
+                        }
+                    });
+                    logger.debug("Loaded {} cached discovery configs from {}", entries.size(), file);
+                }
+            } catch (IOException | JsonParseException e) {
+                logger.debug("Ignoring cached discovery configs in {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @return the cached outcome for the topic if it was processed with the same payload, null otherwise
+     */
+    @Nullable
+    Entry get(String topic, String hash) {
+        liveTopics.add(topic);
+        Entry entry = entries.get(topic);
+        return entry != null && entry.hash.equals(hash) ? entry : null;
+    }
+
+    void put(String topic, Entry entry) {
+        liveTopics.add(topic);
+        entries.put(topic, entry);
+        dirty = true;
+    }
+
+    void remove(String topic) {
+        liveTopics.remove(topic);
+        if (entries.remove(topic) != null) {
+            dirty = true;
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Drops the entries of topics which have not been received since the cache was loaded and writes the cache to
+     * its file if it changed since it was loaded or last saved.
+     */
+    synchronized void save() {
+        if (entries.keySet().retainAll(liveTopics)) {
+            dirty = true;
+        }
+        Path file = this.file;
+        if (file == null || !dirty) {
+            return;
+        }
+        dirty = false;
+        CacheFile cacheFile = new CacheFile();
+        cacheFile.version = version;
+        Map<String, Entry> snapshot = new HashMap<>(entries);
+        cacheFile.entries = snapshot;
+        try {
+            Files.createDirectories(Objects.requireNonNull(file.toAbsolutePath().getParent()));
+            Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+            try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                gson.toJson(cacheFile, writer);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.debug("Saved {} cached discovery configs to {}", snapshot.size(), file);
+        } catch (IOException e) {
+            logger.warn("Failed to save cached discovery configs to {}: {}", file, e.getMessage());
+        }
+    }
+
+    static String hash(byte[] payload) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(payload));
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -13,14 +13,18 @@
 package org.openhab.binding.homeassistant.internal.discovery;
 
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -32,12 +36,14 @@ import org.openhab.binding.homeassistant.internal.HandlerConfiguration;
 import org.openhab.binding.homeassistant.internal.HomeAssistantBindingConstants;
 import org.openhab.binding.homeassistant.internal.HomeAssistantConfiguration;
 import org.openhab.binding.homeassistant.internal.HomeAssistantPythonBridge;
+import org.openhab.binding.homeassistant.internal.HomeAssistantPythonBridge.DiscoveryPayload;
 import org.openhab.binding.homeassistant.internal.config.dto.AbstractComponentConfiguration;
-import org.openhab.binding.homeassistant.internal.config.dto.MqttComponentConfig;
 import org.openhab.binding.homeassistant.internal.exception.ConfigurationException;
 import org.openhab.binding.mqtt.discovery.AbstractMQTTDiscovery;
 import org.openhab.binding.mqtt.discovery.MQTTTopicDiscoveryService;
 import org.openhab.binding.mqtt.generic.MqttChannelTypeProvider;
+import org.openhab.core.OpenHAB;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.config.discovery.DiscoveryResult;
@@ -47,7 +53,9 @@ import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
 import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.ThingUID;
 import org.openhab.core.thing.type.ThingType;
+import org.osgi.framework.Bundle;
 import org.osgi.framework.Constants;
+import org.osgi.framework.FrameworkUtil;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Modified;
@@ -76,12 +84,28 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
 
     private @Nullable ScheduledFuture<?> future;
     private final HomeAssistantPythonBridge python;
+    private final DiscoveryConfigCache cache;
+    // configs are processed in parallel, but in order for each topic; the latest payload received for a topic waits
+    // here until the topic is processed, with VANISHED for topics that were removed
+    private final Map<String, PendingConfig> pendingConfigs = new ConcurrentHashMap<>();
+    private final ExecutorService processor = ThreadPoolManager.getPool("homeassistant-discovery");
 
     static final String BASE_TOPIC = "homeassistant";
     static final String BIRTH_TOPIC = "homeassistant/status";
     static final String ONLINE_STATUS = "online";
     private volatile long lastEventTime = 0;
     private static final long DISCOVERY_TIMEOUT_MS = 2000;
+    private static final byte[] VANISHED = new byte[0];
+
+    private static class PendingConfig {
+        private final ThingUID bridgeUID;
+        private final byte[] payload;
+
+        private PendingConfig(ThingUID bridgeUID, byte[] payload) {
+            this.bridgeUID = bridgeUID;
+            this.payload = payload;
+        }
+    }
 
     @NonNullByDefault({})
     protected MqttChannelTypeProvider typeProvider;
@@ -92,9 +116,19 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
     @Activate
     public HomeAssistantDiscovery(@Nullable Map<String, Object> properties,
             @Reference HomeAssistantPythonBridge python) {
+        this(properties, python, Path.of(OpenHAB.getUserDataFolder(), "homeassistant", "discovery-cache.json"));
+    }
+
+    /**
+     * @param cacheFile the file processed discovery configs are cached in, or null to not persist them
+     */
+    protected HomeAssistantDiscovery(@Nullable Map<String, Object> properties, HomeAssistantPythonBridge python,
+            @Nullable Path cacheFile) {
         super(null, 3, true, BASE_TOPIC + "/#");
         configuration = (new Configuration(properties)).as(HomeAssistantConfiguration.class);
         this.python = python;
+        Bundle bundle = FrameworkUtil.getBundle(HomeAssistantDiscovery.class);
+        cache = new DiscoveryConfigCache(cacheFile, bundle != null ? bundle.getVersion().toString() : "");
     }
 
     @Reference
@@ -143,7 +177,31 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         }
 
         resetPublishTimer();
+        enqueue(bridgeUID, topic, payload);
+    }
+
+    private void enqueue(ThingUID bridgeUID, String topic, byte[] payload) {
+        if (pendingConfigs.put(topic, new PendingConfig(bridgeUID, payload)) == null) {
+            processor.execute(() -> processPending(topic));
+        }
+    }
+
+    private void processPending(String topic) {
+        PendingConfig pending;
+        do {
+            pending = Objects.requireNonNull(pendingConfigs.get(topic));
+            if (pending.payload == VANISHED) {
+                cache.remove(topic);
+                removeComponent(pending.bridgeUID, topic);
+            } else {
+                processConfig(pending.bridgeUID, topic, pending.payload);
+            }
+            // keep the results from being published while configs are still processed
+            resetPublishTimer();
+        } while (!pendingConfigs.remove(topic, pending));
+    }
 
+    private void processConfig(ThingUID bridgeUID, String topic, byte[] payload) {
         // We will of course find multiple of the same unique Thing IDs, for each different component another one.
         // Therefore the components are assembled into a list and given to the DiscoveryResult label for the user to
         // easily recognize object capabilities.
@@ -151,43 +209,56 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         String payloadString = new String(payload, StandardCharsets.UTF_8);
 
         try {
-            List<MqttComponentConfig> components = python.processDiscoveryConfig(haID.toShortTopic(), payloadString);
-            if (components.isEmpty()) {
-                logger.warn("Home Assistant discovery warning: device {} with no components found; this is a bug",
-                        haID.objectID);
-                return;
+            String hash = DiscoveryConfigCache.hash(payload);
+            DiscoveryConfigCache.Entry entry = cache.get(topic, hash);
+            if (entry == null) {
+                List<DiscoveryPayload> components = python.processDiscoveryPayloads(haID.toShortTopic(),
+                        payloadString);
+                if (components.isEmpty()) {
+                    logger.warn("Home Assistant discovery warning: device {} with no components found; this is a bug",
+                            haID.objectID);
+                    return;
+                }
+                AbstractComponentConfiguration config = AbstractComponentConfiguration
+                        .create(components.getFirst().getPayload());
+                Map<String, String> configProperties = new HashMap<>();
+                config.appendToProperties(new HashMap<>())
+                        .forEach((key, value) -> configProperties.put(key, value.toString()));
+                entry = new DiscoveryConfigCache.Entry(hash, components.getFirst().isMigrateDiscovery(),
+                        config.getThingId(haID.objectID), config.getThingName(), configProperties);
+                cache.put(topic, entry);
             }
-            if (components.getFirst().isMigrateDiscovery()) {
+            if (entry.migrateDiscovery) {
                 // Treat it the same as the component vanishing
-                topicVanished(bridgeUID, connection, topic);
+                removeComponent(bridgeUID, topic);
                 return;
             }
-            AbstractComponentConfiguration config = AbstractComponentConfiguration
-                    .create(components.getFirst().getDiscoveryPayload());
 
-            final String thingID = config.getThingId(haID.objectID);
+            final String thingID = entry.thingId;
             final ThingUID thingUID = new ThingUID(HomeAssistantBindingConstants.HOMEASSISTANT_DEVICE_THING, bridgeUID,
                     thingID);
 
-            // Build properties and DiscoveryResult outside the lock
-            Map<String, Object> properties = new HashMap<>();
-            properties = config.appendToProperties(properties);
+            // Build properties outside the lock
+            Map<String, Object> properties = new HashMap<>(entry.properties);
             properties.put("deviceId", thingID);
             if ("device".equals(haID.component)) {
                 properties.put(HandlerConfiguration.PROPERTY_DEVICE_CONFIG, payloadString);
             }
 
-            DiscoveryResult result = buildResult(thingID, thingUID, config.getThingName(), haID, properties, bridgeUID);
-
-            // Now only mutate shared state under the lock
+            // Components of the same thing may be processed in parallel, so the result is built under the lock
             synchronized (discoveryStateLock) {
+                DiscoveryResult result = buildResult(thingID, thingUID, entry.thingName, haID, properties,
+                        bridgeUID);
                 thingIDPerTopic.put(topic, thingUID);
                 applyResult(thingID, haID, result);
             }
         } catch (ConfigurationException e) {
+            // the outcome of the previous payload of the topic is outdated
+            cache.remove(topic);
             logger.warn("Home Assistant discovery error: invalid configuration of {}: {}", haID.toShortTopic(),
                     e.getMessage());
         } catch (Exception e) {
+            cache.remove(topic);
             logger.warn("Home Assistant discovery error for {}: {}", haID.toShortTopic(), e.getMessage());
         }
     }
@@ -295,6 +366,7 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
                 thingDiscovered(result);
             }
         }
+        cache.save();
     }
 
     @Override
@@ -302,6 +374,10 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         if (!topic.endsWith("/config")) {
             return;
         }
+        enqueue(bridgeUID, topic, VANISHED);
+    }
+
+    private void removeComponent(ThingUID bridgeUID, String topic) {
         ThingUID thingUID;
         HaID haID = new HaID(topic);
         String thingID;
@@ -337,7 +413,7 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
             return;
         }
 
-        // Step 3: heavy work outside lock
+        // Step 3: rebuild the result, under lock as other components of the thing may be processed in parallel
         if (existingThing == null) {
             logger.warn("Could not find discovery result for removed component {}; this is a bug", thingUID);
             return;
@@ -345,10 +421,9 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
 
         resetPublishTimer();
         Map<String, Object> properties = new HashMap<>(existingThing.getProperties());
-        DiscoveryResult result = buildResult(thingID, thingUID, existingThing.getLabel(), haID, properties, bridgeUID);
-
-        // Step 4: commit new result under lock
         synchronized (discoveryStateLock) {
+            DiscoveryResult result = buildResult(thingID, thingUID, existingThing.getLabel(), haID, properties,
+                    bridgeUID);
             applyResult(thingID, haID, result);
         }
     }
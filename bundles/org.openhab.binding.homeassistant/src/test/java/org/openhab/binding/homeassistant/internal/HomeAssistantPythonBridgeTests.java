@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homeassistant.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.homeassistant.internal.HomeAssistantPythonBridge.CompiledTemplate;
+
+/**
+ * Tests rendering templates with multiple render contexts.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class HomeAssistantPythonBridgeTests {
+
+    private static final HomeAssistantPythonBridge BRIDGE = new HomeAssistantPythonBridge(2);
+
+    @AfterAll
+    public static void afterAll() {
+        BRIDGE.deactivate();
+    }
+
+    @Test
+    public void testConcurrentRendering() throws Exception {
+        CompiledTemplate valueTemplate = BRIDGE
+                .newValueTemplate(BRIDGE.newRawTemplate("t{{ value_json.temperature }}"));
+        CompiledTemplate commandTemplate = BRIDGE.newCommandTemplate(BRIDGE.newRawTemplate("{{ value }}-cmd"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                int offset = thread * 100;
+                futures.add(executor.submit(() -> {
+                    for (int i = offset; i < offset + 50; i++) {
+                        assertThat(BRIDGE.renderValueTemplate(valueTemplate, "{\"temperature\": " + i + "}", "none"),
+                                is("t" + i));
+                        assertThat(BRIDGE.renderCommandTemplate(commandTemplate, "ON" + i), is("ON" + i + "-cmd"));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homeassistant.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.homeassistant.internal.HomeAssistantPythonBridge.CompiledTemplate;
+
+/**
+ * Tests rendering value templates without python.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JsonPathTemplateTests {
+
+    private static final HomeAssistantPythonBridge BRIDGE = new HomeAssistantPythonBridge();
+
+    @AfterAll
+    public static void afterAll() {
+        BRIDGE.deactivate();
+    }
+
+    @Test
+    public void testParse() {
+        assertThat(JsonPathTemplate.parse("{{ value_json.temperature }}"), is(notNullValue()));
+        assertThat(JsonPathTemplate.parse("{{value_json.sensor.temperature}}"), is(notNullValue()));
+        assertThat(JsonPathTemplate.parse(" {{ value_json['state'] }}\n"), is(notNullValue()));
+        assertThat(JsonPathTemplate.parse("{{ value_json[\"state\"][0].value }}"), is(notNullValue()));
+
+        assertThat(JsonPathTemplate.parse("{{ value }}"), is(nullValue()));
+        assertThat(JsonPathTemplate.parse("{{ value_json }}"), is(nullValue()));
+        assertThat(JsonPathTemplate.parse("{{ value_json.temperature | float }}"), is(nullValue()));
+        assertThat(JsonPathTemplate.parse("{{ value_json.temperature }} °C"), is(nullValue()));
+        assertThat(JsonPathTemplate.parse("{{ value_json.items }}"), is(nullValue()));
+        assertThat(JsonPathTemplate.parse("{{ value_json._private }}"), is(nullValue()));
+        assertThat(JsonPathTemplate.parse("{{ value_json['a\\'b'] }}"), is(nullValue()));
+    }
+
+    @Test
+    public void testRender() {
+        JsonPathTemplate template = Objects.requireNonNull(JsonPathTemplate.parse("{{ value_json.sensor['temp'] }}"));
+
+        assertThat(template.render("{\"sensor\": {\"temp\": 21.5}}"), is("21.5"));
+        assertThat(template.render("{\"sensor\": {\"temp\": 21}}"), is("21"));
+        assertThat(template.render("{\"sensor\": {\"temp\": \"warm\"}}"), is("warm"));
+        assertThat(template.render("{\"sensor\": {\"temp\": true}}"), is("True"));
+        assertThat(template.render("{\"sensor\": {\"temp\": null}}"), is("None"));
+        assertThat(template.render("{\"sensor\": {\"temp\": 1, \"temp\": 2}}"), is("2"));
+
+        // left to python
+        assertThat(template.render("{\"sensor\": {}}"), is(nullValue()));
+        assertThat(template.render("{\"sensor\": [1]}"), is(nullValue()));
+        assertThat(template.render("{\"sensor\": {\"temp\": [1]}}"), is(nullValue()));
+        assertThat(template.render("{\"sensor\": {\"temp\": 1e3}}"), is(nullValue()));
+        assertThat(template.render("{\"sensor\": {\"temp\": \" warm\"}}"), is(nullValue()));
+        assertThat(template.render("{\"sensor\": {\"temp\": 1}} trailing"), is(nullValue()));
+        assertThat(template.render("{sensor: {temp: 1}}"), is(nullValue()));
+        assertThat(template.render("not json"), is(nullValue()));
+    }
+
+    @Test
+    public void testRenderArray() {
+        JsonPathTemplate template = Objects.requireNonNull(JsonPathTemplate.parse("{{ value_json.values[1] }}"));
+
+        assertThat(template.render("{\"values\": [1, 2, 3]}"), is("2"));
+        assertThat(template.render("{\"values\": [1]}"), is(nullValue()));
+        assertThat(template.render("{\"values\": {\"1\": 2}}"), is(nullValue()));
+    }
+
+    @Test
+    public void testSameResultAsPython() {
+        List<String> payloads = List.of("{\"a\": 0}", "{\"a\": -0}", "{\"a\": 123456789012345678}", "{\"a\": 0.1}",
+                "{\"a\": -0.0}", "{\"a\": 1.50}", "{\"a\": 0.001}", "{\"a\": 9999999.9}", "{\"a\": 1234.5678}",
+                "{\"a\": \"text with spaces\"}", "{\"a\": \"\"}", "{\"a\": \"caf\\u00e9\"}", "{\"a\": false}",
+                "{\"a\": null}", "{\"b\": 1, \"a\": \"x\", \"a\": \"y\"}", "[1]", "\"a\"");
+        CompiledTemplate nativeTemplate = BRIDGE.newValueTemplate(BRIDGE.newRawTemplate("{{ value_json.a }}"));
+        CompiledTemplate pythonTemplate = BRIDGE
+                .newValueTemplate(BRIDGE.newRawTemplate("{% if true %}{{ value_json.a }}{% endif %}"));
+        assertThat(nativeTemplate.isNative(), is(true));
+        assertThat(pythonTemplate.isNative(), is(false));
+
+        JsonPathTemplate template = Objects.requireNonNull(JsonPathTemplate.parse("{{ value_json.a }}"));
+        for (String payload : payloads) {
+            String python = BRIDGE.renderValueTemplate(pythonTemplate, payload, "default");
+            @Nullable
+            String rendered = template.render(payload);
+            if (rendered != null) {
+                assertThat(payload, rendered, is(python));
+            }
+            assertThat(payload, BRIDGE.renderValueTemplate(nativeTemplate, payload, "default"), is(python));
+        }
+    }
+}
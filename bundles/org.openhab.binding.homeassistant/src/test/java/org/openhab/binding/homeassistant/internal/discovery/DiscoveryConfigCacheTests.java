@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homeassistant.internal.discovery;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link DiscoveryConfigCache}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class DiscoveryConfigCacheTests {
+    private static final String VERSION = "5.1.0";
+    private static final String TOPIC_A = "homeassistant/switch/a/config";
+    private static final String TOPIC_B = "homeassistant/switch/b/config";
+
+    private static DiscoveryConfigCache.Entry entry(String hash) {
+        return new DiscoveryConfigCache.Entry(hash, false, "thing", "Thing", Map.of("objectId", "a"));
+    }
+
+    private static String hash(String payload) {
+        return DiscoveryConfigCache.hash(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void entryIsOnlyReturnedForSamePayload() {
+        DiscoveryConfigCache cache = new DiscoveryConfigCache(null, VERSION);
+        cache.put(TOPIC_A, entry(hash("{}")));
+
+        assertThat(cache.get(TOPIC_A, hash("{}")), is(notNullValue()));
+        assertThat(cache.get(TOPIC_A, hash("{\"name\":\"a\"}")), is(nullValue()));
+        assertThat(cache.get(TOPIC_B, hash("{}")), is(nullValue()));
+    }
+
+    @Test
+    public void removedTopicIsNotSaved(@TempDir Path tempDir) {
+        Path file = tempDir.resolve("discovery-cache.json");
+        DiscoveryConfigCache cache = new DiscoveryConfigCache(file, VERSION);
+        cache.put(TOPIC_A, entry(hash("a")));
+        cache.put(TOPIC_B, entry(hash("b")));
+        cache.remove(TOPIC_B);
+        cache.save();
+
+        DiscoveryConfigCache loaded = new DiscoveryConfigCache(file, VERSION);
+        assertThat(loaded.size(), is(1));
+        assertThat(loaded.get(TOPIC_A, hash("a")), is(notNullValue()));
+        assertThat(loaded.get(TOPIC_B, hash("b")), is(nullValue()));
+    }
+
+    @Test
+    public void topicsNotReceivedAfterLoadingAreEvicted(@TempDir Path tempDir) {
+        Path file = tempDir.resolve("discovery-cache.json");
+        DiscoveryConfigCache cache = new DiscoveryConfigCache(file, VERSION);
+        cache.put(TOPIC_A, entry(hash("a")));
+        cache.put(TOPIC_B, entry(hash("b")));
+        cache.save();
+
+        // only topic A is still retained on the broker after a restart
+        cache = new DiscoveryConfigCache(file, VERSION);
+        assertThat(cache.size(), is(2));
+        assertThat(cache.get(TOPIC_A, hash("a")), is(notNullValue()));
+        cache.save();
+
+        assertThat(cache.size(), is(1));
+        assertThat(new DiscoveryConfigCache(file, VERSION).size(), is(1));
+    }
+
+    @Test
+    public void cacheOfOtherVersionIsDiscarded(@TempDir Path tempDir) {
+        Path file = tempDir.resolve("discovery-cache.json");
+        DiscoveryConfigCache cache = new DiscoveryConfigCache(file, VERSION);
+        cache.put(TOPIC_A, entry(hash("a")));
+        cache.save();
+
+        assertThat(new DiscoveryConfigCache(file, "5.2.0").size(), is(0));
+    }
+}
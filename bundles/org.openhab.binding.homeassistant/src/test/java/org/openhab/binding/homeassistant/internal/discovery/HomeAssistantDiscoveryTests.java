@@ -15,8 +15,11 @@ package org.openhab.binding.homeassistant.internal.discovery;
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
 
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -31,6 +34,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.openhab.binding.homeassistant.internal.AbstractHomeAssistantTests;
 import org.openhab.binding.homeassistant.internal.HandlerConfiguration;
@@ -57,7 +61,7 @@ public class HomeAssistantDiscoveryTests extends AbstractHomeAssistantTests {
 
     @BeforeEach
     public void beforeEach() {
-        discovery = new TestHomeAssistantDiscovery(channelTypeProvider, PYTHON);
+        discovery = new TestHomeAssistantDiscovery(channelTypeProvider, PYTHON, null);
     }
 
     @Test
@@ -249,9 +253,43 @@ public class HomeAssistantDiscoveryTests extends AbstractHomeAssistantTests {
         assertThat(result.getProperties().get(HandlerConfiguration.PROPERTY_DEVICE_CONFIG), is(payload));
     }
 
+    @Test
+    public void testCachedConfigIsNotProcessedAgain(@TempDir Path tempDir) throws Exception {
+        Path cacheFile = tempDir.resolve("discovery-cache.json");
+        var discoveryListener = new LatchDiscoveryListener();
+        var latch = discoveryListener.createWaitForThingsDiscoveredLatch(1);
+
+        discovery = new TestHomeAssistantDiscovery(channelTypeProvider, PYTHON, cacheFile);
+        discovery.addDiscoveryListener(discoveryListener);
+        discovery.receivedMessage(HA_UID, bridgeConnection,
+                "homeassistant/climate/0x847127fffe11dd6a_climate_zigbee2mqtt/config",
+                getResourceAsByteArray("component/configTS0601ClimateThermostat.json"));
+        assertTrue(latch.await(DISCOVERY_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        DiscoveryResult processed = discoveryListener.getDiscoveryResults().getFirst();
+        discovery.publishResults();
+        assertTrue(Files.exists(cacheFile));
+
+        // After a restart the unchanged config is taken from the cache, without python
+        HomeAssistantPythonBridge python = mock(HomeAssistantPythonBridge.class);
+        latch = discoveryListener.createWaitForThingsDiscoveredLatch(1);
+        discovery = new TestHomeAssistantDiscovery(channelTypeProvider, python, cacheFile);
+        discovery.addDiscoveryListener(discoveryListener);
+        discovery.receivedMessage(HA_UID, bridgeConnection,
+                "homeassistant/climate/0x847127fffe11dd6a_climate_zigbee2mqtt/config",
+                getResourceAsByteArray("component/configTS0601ClimateThermostat.json"));
+        assertTrue(latch.await(DISCOVERY_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        DiscoveryResult cached = discoveryListener.getDiscoveryResults().getFirst();
+        verifyNoInteractions(python);
+
+        assertThat(cached.getThingUID(), is(processed.getThingUID()));
+        assertThat(cached.getLabel(), is(processed.getLabel()));
+        assertThat(cached.getProperties(), is(processed.getProperties()));
+    }
+
     private static class TestHomeAssistantDiscovery extends HomeAssistantDiscovery {
-        public TestHomeAssistantDiscovery(MqttChannelTypeProvider typeProvider, HomeAssistantPythonBridge python) {
-            super(null, python);
+        public TestHomeAssistantDiscovery(MqttChannelTypeProvider typeProvider, HomeAssistantPythonBridge python,
+                @Nullable Path cacheFile) {
+            super(null, python, cacheFile);
             this.typeProvider = typeProvider;
         }
     }
@@ -158,50 +158,61 @@ public class ChannelState implements MqttMessageSubscriber {
             return;
         }
 
-        // String value: Apply transformations
-        String strValue = new String(payload, StandardCharsets.UTF_8);
-        if (incomingTransformation.isPresent()) {
-            Optional<String> transformedValue = incomingTransformation.apply(strValue);
-            if (transformedValue.isEmpty()) {
-                logger.debug("Transformation '{}' returned null on '{}', discarding message", strValue,
-                        incomingTransformation);
-                receivedOrTimeout();
-                return;
+        Type parsedType = null;
+        if (!incomingTransformation.isPresent() && !config.trigger) {
+            // fast path: common payloads like plain numbers are parsed without decoding them
+            try {
+                parsedType = cachedValue.parsePayload(payload);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                // parse the decoded payload again to log the failure
             }
-            strValue = transformedValue.get();
         }
 
-        // Is trigger?: Special handling
-        if (config.trigger) {
-            try {
-                cachedValue.parseMessage(new StringType(strValue));
-            } catch (IllegalArgumentException e) {
-                // invalid value for this trigger; ignore
+        if (parsedType == null) {
+            // String value: Apply transformations
+            String strValue = new String(payload, StandardCharsets.UTF_8);
+            if (incomingTransformation.isPresent()) {
+                Optional<String> transformedValue = incomingTransformation.apply(strValue);
+                if (transformedValue.isEmpty()) {
+                    logger.debug("Transformation '{}' returned null on '{}', discarding message", strValue,
+                            incomingTransformation);
+                    receivedOrTimeout();
+                    return;
+                }
+                strValue = transformedValue.get();
+            }
+
+            // Is trigger?: Special handling
+            if (config.trigger) {
+                try {
+                    cachedValue.parseMessage(new StringType(strValue));
+                } catch (IllegalArgumentException e) {
+                    // invalid value for this trigger; ignore
+                    receivedOrTimeout();
+                    return;
+                }
+                channelStateUpdateListener.triggerChannel(channelUID, strValue);
                 receivedOrTimeout();
                 return;
             }
-            channelStateUpdateListener.triggerChannel(channelUID, strValue);
-            receivedOrTimeout();
-            return;
-        }
 
-        Command command = TypeParser.parseCommand(cachedValue.getSupportedCommandTypes(), strValue);
-        if (command == null) {
-            logger.warn("Incoming payload '{}' on '{}' not supported by type '{}'", strValue, topic,
-                    cachedValue.getClass().getSimpleName());
-            receivedOrTimeout();
-            return;
-        }
+            Command command = TypeParser.parseCommand(cachedValue.getSupportedCommandTypes(), strValue);
+            if (command == null) {
+                logger.warn("Incoming payload '{}' on '{}' not supported by type '{}'", strValue, topic,
+                        cachedValue.getClass().getSimpleName());
+                receivedOrTimeout();
+                return;
+            }
 
-        Type parsedType;
-        // Map the string to a command, update the cached value and post the command to the framework
-        try {
-            parsedType = cachedValue.parseMessage(command);
-        } catch (IllegalArgumentException | IllegalStateException e) {
-            logger.warn("Command '{}' from channel '{}' not supported by type '{}': {}", strValue, channelUID,
-                    cachedValue.getClass().getSimpleName(), e.getMessage());
-            receivedOrTimeout();
-            return;
+            // Map the string to a command, update the cached value and post the command to the framework
+            try {
+                parsedType = cachedValue.parseMessage(command);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                logger.warn("Command '{}' from channel '{}' not supported by type '{}': {}", strValue, channelUID,
+                        cachedValue.getClass().getSimpleName(), e.getMessage());
+                receivedOrTimeout();
+                return;
+            }
         }
 
         if (parsedType instanceof IgnoreType) {
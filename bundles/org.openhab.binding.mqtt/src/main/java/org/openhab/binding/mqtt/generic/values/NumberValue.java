@@ -151,6 +151,13 @@ public class NumberValue extends Value {
         return parseCommand(command);
     }
 
+    @Override
+    public @Nullable Type parsePayload(byte[] payload) throws IllegalArgumentException {
+        // a plain number is parsed as DecimalType from the decoded payload as well
+        BigDecimal decimal = parseDecimalPayload(payload);
+        return decimal == null ? null : parseCommand(new DecimalType(decimal));
+    }
+
     private BigDecimal getOldValue() {
         BigDecimal val = BigDecimal.ZERO;
         if (state instanceof DecimalType decimalCommand) {
@@ -14,6 +14,8 @@ package org.openhab.binding.mqtt.generic.values;
 
 import static java.util.function.Predicate.not;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -27,6 +29,7 @@ import org.openhab.core.library.types.StringType;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.CommandDescriptionBuilder;
 import org.openhab.core.types.CommandOption;
+import org.openhab.core.types.Type;
 
 /**
  * Implements an on/off boolean value.
@@ -35,10 +38,15 @@ import org.openhab.core.types.CommandOption;
  */
 @NonNullByDefault
 public class OnOffValue extends Value {
+    private static final byte[] ON_PAYLOAD = OnOffType.ON.name().getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] OFF_PAYLOAD = OnOffType.OFF.name().getBytes(StandardCharsets.US_ASCII);
+
     private final Set<String> onStates;
     private final Set<String> offStates;
     private final String onCommand;
     private final String offCommand;
+    private final byte[][] onStatePayloads;
+    private final byte[][] offStatePayloads;
 
     /**
      * Creates a switch On/Off type, that accepts "ON" for on and "OFF" for off.
@@ -93,6 +101,10 @@ public class OnOffValue extends Value {
         this.offStates = Stream.of(offStates).filter(not(String::isBlank)).collect(Collectors.toSet());
         this.onCommand = onCommand;
         this.offCommand = offCommand;
+        this.onStatePayloads = this.onStates.stream().map(state -> state.getBytes(StandardCharsets.UTF_8))
+                .toArray(byte[][]::new);
+        this.offStatePayloads = this.offStates.stream().map(state -> state.getBytes(StandardCharsets.UTF_8))
+                .toArray(byte[][]::new);
     }
 
     @Override
@@ -111,6 +123,31 @@ public class OnOffValue extends Value {
         }
     }
 
+    @Override
+    public @Nullable Type parsePayload(byte[] payload) {
+        // the decoded payload is parsed as OnOffType before it is compared to the configured values
+        if (Arrays.equals(payload, ON_PAYLOAD)) {
+            return OnOffType.ON;
+        } else if (Arrays.equals(payload, OFF_PAYLOAD)) {
+            return OnOffType.OFF;
+        }
+        Type type = parseNullOrIgnorePayload(payload);
+        if (type != null) {
+            return type;
+        }
+        for (byte[] onState : onStatePayloads) {
+            if (Arrays.equals(payload, onState)) {
+                return OnOffType.ON;
+            }
+        }
+        for (byte[] offState : offStatePayloads) {
+            if (Arrays.equals(payload, offState)) {
+                return OnOffType.OFF;
+            }
+        }
+        return null;
+    }
+
     @Override
     public String getMQTTpublishValue(Command command, @Nullable String pattern) {
         String formatPattern = pattern;
@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.mqtt.generic.values;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -20,6 +22,7 @@ import org.openhab.core.library.CoreItemFactory;
 import org.openhab.core.library.types.OpenClosedType;
 import org.openhab.core.library.types.StringType;
 import org.openhab.core.types.Command;
+import org.openhab.core.types.Type;
 
 /**
  * Implements an open/close boolean value.
@@ -28,8 +31,13 @@ import org.openhab.core.types.Command;
  */
 @NonNullByDefault
 public class OpenCloseValue extends Value {
+    private static final byte[] OPEN_PAYLOAD = OpenClosedType.OPEN.name().getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CLOSED_PAYLOAD = OpenClosedType.CLOSED.name().getBytes(StandardCharsets.US_ASCII);
+
     private final String openString;
     private final String closeString;
+    private final byte[] openPayload;
+    private final byte[] closePayload;
 
     /**
      * Creates a contact Open/Close type.
@@ -38,6 +46,8 @@ public class OpenCloseValue extends Value {
         super(CoreItemFactory.CONTACT, List.of(OpenClosedType.class, StringType.class));
         this.openString = OpenClosedType.OPEN.name();
         this.closeString = OpenClosedType.CLOSED.name();
+        this.openPayload = OPEN_PAYLOAD;
+        this.closePayload = CLOSED_PAYLOAD;
     }
 
     /**
@@ -50,6 +60,8 @@ public class OpenCloseValue extends Value {
         super(CoreItemFactory.CONTACT, List.of(OpenClosedType.class, StringType.class));
         this.openString = openValue == null ? OpenClosedType.OPEN.name() : openValue;
         this.closeString = closeValue == null ? OpenClosedType.CLOSED.name() : closeValue;
+        this.openPayload = openString.getBytes(StandardCharsets.UTF_8);
+        this.closePayload = closeString.getBytes(StandardCharsets.UTF_8);
     }
 
     @Override
@@ -68,6 +80,25 @@ public class OpenCloseValue extends Value {
         }
     }
 
+    @Override
+    public @Nullable Type parsePayload(byte[] payload) {
+        // the decoded payload is parsed as OpenClosedType before it is compared to the configured values
+        if (Arrays.equals(payload, OPEN_PAYLOAD)) {
+            return OpenClosedType.OPEN;
+        } else if (Arrays.equals(payload, CLOSED_PAYLOAD)) {
+            return OpenClosedType.CLOSED;
+        }
+        Type type = parseNullOrIgnorePayload(payload);
+        if (type != null) {
+            return type;
+        } else if (Arrays.equals(payload, openPayload)) {
+            return OpenClosedType.OPEN;
+        } else if (Arrays.equals(payload, closePayload)) {
+            return OpenClosedType.CLOSED;
+        }
+        return null;
+    }
+
     @Override
     public String getMQTTpublishValue(Command command, @Nullable String pattern) {
         String formatPattern = pattern;
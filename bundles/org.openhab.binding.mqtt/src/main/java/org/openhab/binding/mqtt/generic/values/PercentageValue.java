@@ -29,6 +29,7 @@ import org.openhab.core.library.types.UpDownType;
 import org.openhab.core.library.unit.Units;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.StateDescriptionFragmentBuilder;
+import org.openhab.core.types.Type;
 import org.openhab.core.types.UnDefType;
 
 /**
@@ -135,6 +136,13 @@ public class PercentageValue extends Value {
         }
     }
 
+    @Override
+    public @Nullable Type parsePayload(byte[] payload) throws IllegalArgumentException {
+        // a plain number is parsed as DecimalType from the decoded payload as well
+        BigDecimal decimal = parseDecimalPayload(payload);
+        return decimal == null ? null : parseCommand(new DecimalType(decimal));
+    }
+
     @Override
     public String getMQTTpublishValue(Command command, @Nullable String pattern) {
         String formatPattern = this.formatOverride;
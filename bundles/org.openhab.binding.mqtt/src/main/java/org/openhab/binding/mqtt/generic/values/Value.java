@@ -14,7 +14,10 @@ package org.openhab.binding.mqtt.generic.values;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -60,6 +63,8 @@ public abstract class Value {
 
     protected @Nullable String nullValue = null;
     protected @Nullable String ignoreValue = null;
+    private byte @Nullable [] nullValuePayload = null;
+    private byte @Nullable [] ignoreValuePayload = null;
 
     protected Value(String itemType, List<Class<? extends Command>> commandTypes) {
         this.itemType = itemType;
@@ -68,10 +73,12 @@ public abstract class Value {
 
     public void setNullValue(@Nullable String nullValue) {
         this.nullValue = nullValue;
+        this.nullValuePayload = nullValue == null ? null : nullValue.getBytes(StandardCharsets.UTF_8);
     }
 
     public void setIgnoreValue(@Nullable String ignoreValue) {
         this.ignoreValue = ignoreValue;
+        this.ignoreValuePayload = ignoreValue == null ? null : ignoreValue.getBytes(StandardCharsets.UTF_8);
     }
 
     /**
@@ -170,6 +177,71 @@ public abstract class Value {
         return parseCommand(command);
     }
 
+    /**
+     * Parses a raw MQTT payload without decoding it to a String first. This is a fast path for the payloads
+     * common for this Value type, like plain decimal numbers or fixed tokens. It is only used if no incoming
+     * transformation is configured and must return the same as {@link #parseMessage(Command)} would for the
+     * decoded payload. The default implementation does not handle any payload.
+     *
+     * @param payload The MQTT payload.
+     * @return The parsed type or null if the payload has to be decoded and parsed by {@link #parseMessage(Command)}.
+     * @exception IllegalArgumentException Thrown if for example a number is out of range.
+     */
+    public @Nullable Type parsePayload(byte[] payload) throws IllegalArgumentException {
+        return null;
+    }
+
+    /**
+     * Handles the configured ignore and null values like {@link #parseMessage(Command)} does for a string.
+     *
+     * @return {@link IgnoreType#SENTINEL}, {@link UnDefType#NULL} or null if the payload is neither.
+     */
+    protected @Nullable Type parseNullOrIgnorePayload(byte[] payload) {
+        if (Arrays.equals(payload, ignoreValuePayload)) {
+            return IgnoreType.SENTINEL;
+        } else if (payload.length == 0 || Arrays.equals(payload, nullValuePayload)) {
+            return UnDefType.NULL;
+        }
+        return null;
+    }
+
+    /**
+     * Parses a plain ASCII decimal number like "-12.5" without exponent. The result equals the one of
+     * {@link BigDecimal#BigDecimal(String)}, including the scale.
+     *
+     * @return The number or null if the payload is not such a number or too long to be parsed without a String.
+     */
+    protected static @Nullable BigDecimal parseDecimalPayload(byte[] payload) {
+        int length = payload.length;
+        int index = length > 0 && payload[0] == '-' ? 1 : 0;
+        // 18 digits always fit into a long
+        if (length == index || length - index > 19) {
+            return null;
+        }
+        long unscaled = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean fraction = false;
+        for (; index < length; index++) {
+            byte b = payload[index];
+            if (b >= '0' && b <= '9') {
+                unscaled = unscaled * 10 + (b - '0');
+                digits++;
+                if (fraction) {
+                    scale++;
+                }
+            } else if (b == '.' && !fraction && digits > 0 && index < length - 1) {
+                fraction = true;
+            } else {
+                return null;
+            }
+        }
+        if (digits > 18) {
+            return null;
+        }
+        return BigDecimal.valueOf(payload[0] == '-' ? -unscaled : unscaled, scale);
+    }
+
     /**
      * Updates the internal value state with the given binary payload.
      *
@@ -18,6 +18,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -37,6 +38,7 @@ import org.openhab.core.library.types.UpDownType;
 import org.openhab.core.library.unit.MetricPrefix;
 import org.openhab.core.library.unit.Units;
 import org.openhab.core.types.Command;
+import org.openhab.core.types.Type;
 import org.openhab.core.types.TypeParser;
 import org.openhab.core.types.UnDefType;
 
@@ -456,4 +458,68 @@ public class ValueTests {
         v.setIgnoreValue("IGNORE");
         assertThat(v.parseMessage(new StringType("IGNORE")), is(IgnoreType.SENTINEL));
     }
+
+    private void assertPayloadParsedLikeMessage(Value v, String... payloads) {
+        for (String payload : payloads) {
+            Type fast = v.parsePayload(payload.getBytes(StandardCharsets.UTF_8));
+            if (fast != null) {
+                Type slow = v.parseMessage(p(v, payload));
+                assertEquals(slow, fast, payload);
+                assertEquals(slow.toString(), fast.toString(), payload);
+            }
+        }
+    }
+
+    @Test
+    public void numberPayloadFastPath() {
+        NumberValue v = new NumberValue(null, null, null, null);
+        assertThat(v.parsePayload("21.50".getBytes()), is(new DecimalType(new BigDecimal("21.50"))));
+        assertThat(v.parsePayload("-3".getBytes()), is(new DecimalType(-3)));
+        assertNull(v.parsePayload("1e3".getBytes()));
+        assertNull(v.parsePayload("NaN".getBytes()));
+        assertNull(v.parsePayload("".getBytes()));
+        assertNull(v.parsePayload("1234567890123456789".getBytes()));
+        assertPayloadParsedLikeMessage(v, "0", "-0", "-0.0", "007", "12.5", "-12.500", "123456789012345678",
+                "12345678901234567.8", "1.", ".5", "-", "+1", "1,5", "1 W");
+
+        NumberValue quantity = new NumberValue(null, new BigDecimal(100), null, Units.WATT);
+        assertThat(quantity.parsePayload("42".getBytes()), is(new QuantityType<>(42, Units.WATT)));
+        assertThrows(IllegalArgumentException.class, () -> quantity.parsePayload("101".getBytes()));
+        assertPayloadParsedLikeMessage(quantity, "42", "0.5", "-1");
+    }
+
+    @Test
+    public void percentagePayloadFastPath() {
+        PercentageValue v = new PercentageValue(new BigDecimal(10), new BigDecimal(110), null, "on", "off", null);
+        assertThat(v.parsePayload("60".getBytes()), is(new PercentType(50)));
+        assertNull(v.parsePayload("on".getBytes()));
+        assertPayloadParsedLikeMessage(v, "10", "110", "33.3", "60.00");
+    }
+
+    @Test
+    public void onOffPayloadFastPath() {
+        OnOffValue v = new OnOffValue("fancyON", "fancyOFF");
+        v.setNullValue("null");
+        v.setIgnoreValue("ignore");
+        assertThat(v.parsePayload("fancyON".getBytes()), is(OnOffType.ON));
+        assertThat(v.parsePayload("OFF".getBytes()), is(OnOffType.OFF));
+        assertThat(v.parsePayload("ignore".getBytes()), is(IgnoreType.SENTINEL));
+        assertThat(v.parsePayload("null".getBytes()), is(UnDefType.NULL));
+        assertThat(v.parsePayload("".getBytes()), is(UnDefType.NULL));
+        assertNull(v.parsePayload("on".getBytes()));
+        assertPayloadParsedLikeMessage(v, "ON", "OFF", "fancyON", "fancyOFF", "null", "ignore", "");
+
+        OnOffValue ignoreOn = new OnOffValue();
+        ignoreOn.setIgnoreValue("ON");
+        assertPayloadParsedLikeMessage(ignoreOn, "ON", "OFF");
+    }
+
+    @Test
+    public void openClosePayloadFastPath() {
+        OpenCloseValue v = new OpenCloseValue("open", "closed");
+        assertThat(v.parsePayload("open".getBytes()), is(OpenClosedType.OPEN));
+        assertThat(v.parsePayload("CLOSED".getBytes()), is(OpenClosedType.CLOSED));
+        assertNull(v.parsePayload("ajar".getBytes()));
+        assertPayloadParsedLikeMessage(v, "OPEN", "CLOSED", "open", "closed", "");
+    }
 }
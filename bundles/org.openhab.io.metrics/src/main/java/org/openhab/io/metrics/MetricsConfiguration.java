@@ -22,6 +22,8 @@ import org.eclipse.jdt.annotation.Nullable;
  */
 @NonNullByDefault
 public class MetricsConfiguration {
+    public int prometheusCacheDurationInSeconds = 5;
+
     public boolean influxMetricsEnabled = false;
     public String influxURL = "http://localhost:8086";
     public String influxDB = "openhab";
@@ -31,11 +33,20 @@ public class MetricsConfiguration {
 
     public boolean jmxMetricsEnabled = false;
 
+    public boolean otlpMetricsEnabled = false;
+    public String otlpURL = "http://localhost:4318/v1/metrics";
+    public @Nullable String otlpHeaders;
+    public Integer otlpUpdateIntervalInSeconds = 60;
+    public Integer otlpSpillLimitInMB = 10;
+
     @Override
     public String toString() {
-        return "MetricsConfiguration{" + "influxMetricsEnabled=" + influxMetricsEnabled + ", influxURL='" + influxURL
-                + '\'' + ", influxDB='" + influxDB + '\'' + ", influxPassword='" + influxPassword + '\''
-                + ", influxUsername='" + influxUsername + '\'' + ", influxUpdateIntervalInSeconds="
-                + influxUpdateIntervalInSeconds + ", jmxMetricsEnabled=" + jmxMetricsEnabled + '}';
+        return "MetricsConfiguration{" + "prometheusCacheDurationInSeconds=" + prometheusCacheDurationInSeconds
+                + ", influxMetricsEnabled=" + influxMetricsEnabled + ", influxURL='" + influxURL + '\'' + ", influxDB='"
+                + influxDB + '\'' + ", influxPassword='" + influxPassword + '\'' + ", influxUsername='" + influxUsername
+                + '\'' + ", influxUpdateIntervalInSeconds=" + influxUpdateIntervalInSeconds + ", jmxMetricsEnabled="
+                + jmxMetricsEnabled + ", otlpMetricsEnabled=" + otlpMetricsEnabled + ", otlpURL='" + otlpURL + '\''
+                + ", otlpUpdateIntervalInSeconds=" + otlpUpdateIntervalInSeconds + ", otlpSpillLimitInMB="
+                + otlpSpillLimitInMB + '}';
     }
 }
@@ -13,14 +13,19 @@
 package org.openhab.io.metrics;
 
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.security.RolesAllowed;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -31,6 +36,7 @@ import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.io.rest.RESTConstants;
 import org.openhab.io.metrics.exporters.InfluxMetricsExporter;
 import org.openhab.io.metrics.exporters.JmxMetricsExporter;
+import org.openhab.io.metrics.exporters.OtlpMetricsExporter;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Modified;
@@ -45,6 +51,7 @@ import org.slf4j.LoggerFactory;
 import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import io.micrometer.prometheusmetrics.PrometheusConfig;
 import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import io.prometheus.metrics.expositionformats.ExpositionFormats;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -68,19 +75,55 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 public class MetricsRestController {
     private final Logger logger = LoggerFactory.getLogger(MetricsRestController.class);
     public static final String PATH_METRICS = "metrics";
+    public static final String CONTENT_TYPE_OPENMETRICS = "application/openmetrics-text";
+    public static final String CONTENT_TYPE_PROTOBUF = "application/vnd.google.protobuf";
     private @Nullable CompositeMeterRegistry meterRegistry;
     private final PrometheusMeterRegistry prometheusMeterRegistry = new PrometheusMeterRegistry(
             PrometheusConfig.DEFAULT);
+    private final PrometheusScrapeCache prometheusScrapeCache = new PrometheusScrapeCache(prometheusMeterRegistry);
+    private final ExpositionFormats expositionFormats = ExpositionFormats.init();
     private final Set<MetricsExporter> metricsExporters = new HashSet<>();
     private @Nullable MetricsConfiguration config;
 
     @GET
     @Path("/prometheus")
-    @Produces(MediaType.TEXT_PLAIN)
+    @Produces({ MediaType.TEXT_PLAIN, CONTENT_TYPE_OPENMETRICS, CONTENT_TYPE_PROTOBUF })
     @Operation(operationId = "getPrometheusMetrics", summary = "Gets openHAB system and core metrics in a Prometheus compatible format.", responses = {
             @ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = String.class))) })
-    public String getPrometheusMetrics() {
-        return prometheusMeterRegistry.scrape();
+    public Response getPrometheusMetrics(@HeaderParam(HttpHeaders.ACCEPT) @Nullable String accept,
+            @HeaderParam(HttpHeaders.ACCEPT_ENCODING) @Nullable String acceptEncoding) {
+        String contentType = negotiateContentType(accept);
+        boolean gzip = acceptsGzip(acceptEncoding);
+        StreamingOutput body = out -> prometheusScrapeCache.write(out, contentType, gzip);
+        Response.ResponseBuilder response = Response.ok(body).header(HttpHeaders.CONTENT_TYPE, contentType)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.build();
+    }
+
+    /**
+     * Negotiates the exposition format (Prometheus text, OpenMetrics text or protobuf) like Prometheus does.
+     *
+     * @return the content type of the exposition format
+     */
+    String negotiateContentType(@Nullable String accept) {
+        return expositionFormats.findWriter(accept).getContentType();
+    }
+
+    static boolean acceptsGzip(@Nullable String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if ("gzip".equals(parts[0].trim().toLowerCase(Locale.ROOT))) {
+                // "gzip;q=0" explicitly refuses gzip
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
     }
 
     @Reference
@@ -101,6 +144,7 @@ public class MetricsRestController {
         logger.info("Metrics service activated, serving the following URL(s): /rest/metrics/prometheus");
         metricsExporters.add(new InfluxMetricsExporter());
         metricsExporters.add(new JmxMetricsExporter());
+        metricsExporters.add(new OtlpMetricsExporter());
         updateConfig(configuration);
         updateMeterRegistry();
     }
@@ -111,8 +155,10 @@ public class MetricsRestController {
     }
 
     private void updateConfig(@Nullable Map<@Nullable String, @Nullable Object> configuration) {
-        this.config = new Configuration(configuration).as(MetricsConfiguration.class);
-        logger.debug("Configuration: {}", this.config);
+        MetricsConfiguration config = new Configuration(configuration).as(MetricsConfiguration.class);
+        this.config = config;
+        logger.debug("Configuration: {}", config);
+        prometheusScrapeCache.setDuration(config.prometheusCacheDurationInSeconds);
         this.metricsExporters.forEach(e -> e.updateExporterState(config));
     }
 
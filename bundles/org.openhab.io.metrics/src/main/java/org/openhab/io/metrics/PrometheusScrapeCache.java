@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+/**
+ * The {@link PrometheusScrapeCache} renders scrapes of the {@link PrometheusMeterRegistry} and keeps them for a
+ * configurable time, so concurrent or closely following scrapes (e.g. by a Prometheus HA pair) are rendered only once
+ * per exposition format. The gzip compressed variant of a scrape is created on first request and cached as well.
+ *
+ * Without a cache duration, scrapes are streamed to the client without buffering.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class PrometheusScrapeCache {
+
+    private static class Scrape {
+        private final long created;
+        private final byte[] body;
+        private byte @Nullable [] gzipBody;
+
+        private Scrape(long created, byte[] body) {
+            this.created = created;
+            this.body = body;
+        }
+    }
+
+    private final PrometheusMeterRegistry registry;
+    private final LongSupplier nanoClock;
+    private final Map<String, Scrape> scrapes = new HashMap<>();
+    private volatile long durationNanos;
+
+    PrometheusScrapeCache(PrometheusMeterRegistry registry) {
+        this(registry, System::nanoTime);
+    }
+
+    /**
+     * @param registry the registry to scrape
+     * @param nanoClock the time source in nanoseconds, like {@link System#nanoTime()}
+     */
+    PrometheusScrapeCache(PrometheusMeterRegistry registry, LongSupplier nanoClock) {
+        this.registry = registry;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Sets the time a scrape is reused, 0 disables the cache.
+     */
+    synchronized void setDuration(long seconds) {
+        durationNanos = TimeUnit.SECONDS.toNanos(Math.max(0, seconds));
+        scrapes.clear();
+    }
+
+    /**
+     * Writes a scrape to the given stream.
+     *
+     * @param out the stream to write to
+     * @param contentType the content type of the exposition format
+     * @param gzip whether the scrape is written gzip compressed
+     */
+    void write(OutputStream out, String contentType, boolean gzip) throws IOException {
+        if (durationNanos == 0) {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out);
+                registry.scrape(gzipOut, contentType);
+                gzipOut.finish();
+            } else {
+                registry.scrape(out, contentType);
+            }
+        } else {
+            out.write(get(contentType, gzip));
+        }
+    }
+
+    private synchronized byte[] get(String contentType, boolean gzip) throws IOException {
+        long now = nanoClock.getAsLong();
+        Scrape scrape = scrapes.get(contentType);
+        if (scrape == null || now - scrape.created >= durationNanos) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream(
+                    scrape != null ? scrape.body.length + 4096 : 64 * 1024);
+            registry.scrape(body, contentType);
+            scrape = new Scrape(now, body.toByteArray());
+            scrapes.put(contentType, scrape);
+        }
+        if (!gzip) {
+            return scrape.body;
+        }
+        byte[] gzipBody = scrape.gzipBody;
+        if (gzipBody == null) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(scrape.body.length / 4 + 64);
+            try (GZIPOutputStream gzipOut = new GZIPOutputStream(compressed)) {
+                gzipOut.write(scrape.body);
+            }
+            gzipBody = compressed.toByteArray();
+            scrape.gzipBody = gzipBody;
+        }
+        return gzipBody;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.binders;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventFilter;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
+import org.openhab.core.items.events.ItemCommandEvent;
+import org.openhab.core.items.events.ItemStateEvent;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.link.ItemChannelLink;
+import org.openhab.core.thing.link.ItemChannelLinkRegistry;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * The {@link BindingMetricsBinder} publishes per binding meters derived from the event bus:
+ * <ul>
+ * <li>{@value #METRIC_COMMANDS}: commands sent to items linked to a channel of the binding</li>
+ * <li>{@value #METRIC_STATE_UPDATES}: state updates of items posted by a channel of the binding</li>
+ * <li>{@value #METRIC_COMMAND_RESPONSE_TIME}: time from a command to an item until a channel of the binding linked to
+ * the item updates its state, i.e. how long the device takes to process the command and report the result. This is
+ * not the time the handler takes to send the command, which is not visible on the event bus.</li>
+ * </ul>
+ * A state update is attributed to a binding if the actor of the event source, or of one of the sources it was
+ * delegated by, is the UID of a channel of the binding linked to the item, so updates by auto-update, rules or the UI
+ * are not counted.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = EventSubscriber.class, immediate = true)
+public class BindingMetricsBinder implements EventSubscriber, MeterBinder {
+
+    public static final String METRIC_COMMANDS = "openhab.binding.commands";
+    public static final String METRIC_STATE_UPDATES = "openhab.binding.state.updates";
+    public static final String METRIC_COMMAND_RESPONSE_TIME = "openhab.binding.command.response.time";
+    private static final String TAG_BINDING = "binding";
+
+    private static final Set<String> EVENT_TYPES = Set.of(ItemCommandEvent.TYPE, ItemStateEvent.TYPE);
+    private static final long MAX_RESPONSE_TIME_NANOS = Duration.ofMinutes(1).toNanos();
+    private static final int MAX_PENDING_COMMANDS = 10_000;
+    private static final String SOURCE_DELEGATION_SEPARATOR = "=>";
+    private static final char SOURCE_ACTOR_SEPARATOR = '$';
+
+    private record BindingMeters(Counter commands, Counter stateUpdates, Timer commandResponseTime) {
+    }
+
+    private final ItemChannelLinkRegistry itemChannelLinkRegistry;
+    private final Map<String, BindingMeters> bindingMeters = new ConcurrentHashMap<>();
+    // start time of the last command per item, until a linked channel updates the item
+    private final Map<String, Long> pendingCommands = new ConcurrentHashMap<>();
+    private @Nullable MeterRegistry meterRegistry;
+
+    @Activate
+    public BindingMetricsBinder(final @Reference MeterRegistryProvider meterRegistryProvider,
+            final @Reference ItemChannelLinkRegistry itemChannelLinkRegistry) {
+        this.itemChannelLinkRegistry = itemChannelLinkRegistry;
+        bindTo(meterRegistryProvider.getOHMeterRegistry());
+    }
+
+    @Deactivate
+    public void deactivate() {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        this.meterRegistry = null;
+        if (meterRegistry != null) {
+            bindingMeters.values().forEach(meters -> {
+                meterRegistry.remove((Meter) meters.commands());
+                meterRegistry.remove((Meter) meters.stateUpdates());
+                meterRegistry.remove((Meter) meters.commandResponseTime());
+            });
+        }
+        bindingMeters.clear();
+        pendingCommands.clear();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Set<String> getSubscribedEventTypes() {
+        return EVENT_TYPES;
+    }
+
+    @Override
+    public @Nullable EventFilter getEventFilter() {
+        return null;
+    }
+
+    @Override
+    public void receive(Event event) {
+        if (event instanceof ItemCommandEvent commandEvent) {
+            handleCommand(commandEvent.getItemName());
+        } else if (event instanceof ItemStateEvent stateEvent) {
+            handleStateUpdate(stateEvent.getItemName(), stateEvent.getSource());
+        }
+    }
+
+    private void handleCommand(String itemName) {
+        Set<ItemChannelLink> links = itemChannelLinkRegistry.getLinks(itemName);
+        if (links.isEmpty()) {
+            return;
+        }
+        links.stream().map(link -> link.getLinkedUID().getBindingId()).distinct().forEach(bindingId -> {
+            BindingMeters meters = getMeters(bindingId);
+            if (meters != null) {
+                meters.commands().increment();
+            }
+        });
+        if (pendingCommands.size() >= MAX_PENDING_COMMANDS) {
+            // commands whose items are never updated by a channel, the next update of these items is meaningless
+            pendingCommands.clear();
+        }
+        pendingCommands.put(itemName, System.nanoTime());
+    }
+
+    private void handleStateUpdate(String itemName, @Nullable String source) {
+        if (source == null) {
+            return;
+        }
+        Set<ChannelUID> sourceChannels = getSourceChannels(source);
+        if (sourceChannels.isEmpty()) {
+            return;
+        }
+        ChannelUID channelUID = null;
+        for (ItemChannelLink link : itemChannelLinkRegistry.getLinks(itemName)) {
+            if (sourceChannels.contains(link.getLinkedUID())) {
+                channelUID = link.getLinkedUID();
+                break;
+            }
+        }
+        if (channelUID == null) {
+            return;
+        }
+        BindingMeters meters = getMeters(channelUID.getBindingId());
+        if (meters == null) {
+            return;
+        }
+        meters.stateUpdates().increment();
+        Long commandTime = pendingCommands.remove(itemName);
+        if (commandTime != null) {
+            long responseTime = System.nanoTime() - commandTime;
+            if (responseTime <= MAX_RESPONSE_TIME_NANOS) {
+                meters.commandResponseTime().record(Duration.ofNanos(responseTime));
+            }
+        }
+    }
+
+    /**
+     * Gets the channels an event source names as actor. A source is a chain of <code>bundle$actor</code> parts
+     * separated by <code>=&gt;</code> if the event was delegated, older sources consist of the channel UID only.
+     */
+    static Set<ChannelUID> getSourceChannels(String source) {
+        Set<ChannelUID> channels = new HashSet<>();
+        for (String part : source.split(SOURCE_DELEGATION_SEPARATOR)) {
+            String actor = part.substring(part.indexOf(SOURCE_ACTOR_SEPARATOR) + 1);
+            try {
+                channels.add(new ChannelUID(actor));
+            } catch (IllegalArgumentException e) {
+                // not a channel, e.g. a rule or the UI
+            }
+        }
+        return channels;
+    }
+
+    private @Nullable BindingMeters getMeters(String bindingId) {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            // an event is delivered while the binder is deactivated
+            return null;
+        }
+        return bindingMeters.computeIfAbsent(bindingId, id -> createMeters(meterRegistry, id));
+    }
+
+    private static BindingMeters createMeters(MeterRegistry meterRegistry, String bindingId) {
+        return new BindingMeters(
+                Counter.builder(METRIC_COMMANDS).description("Commands sent to items linked to the binding")
+                        .tag(TAG_BINDING, bindingId).register(meterRegistry),
+                Counter.builder(METRIC_STATE_UPDATES).description("Item state updates posted by the binding")
+                        .tag(TAG_BINDING, bindingId).register(meterRegistry),
+                Timer.builder(METRIC_COMMAND_RESPONSE_TIME)
+                        .description("Time from a command until the binding updates the item state")
+                        .tag(TAG_BINDING, bindingId).publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofMillis(1)).maximumExpectedValue(Duration.ofMinutes(1))
+                        .register(meterRegistry));
+    }
+}
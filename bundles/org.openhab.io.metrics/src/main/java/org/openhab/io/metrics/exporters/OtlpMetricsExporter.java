@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.exporters;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.OpenHAB;
+import org.openhab.io.metrics.MetricsConfiguration;
+import org.openhab.io.metrics.MetricsExporter;
+
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.ipc.http.HttpSender;
+import io.micrometer.core.ipc.http.HttpUrlConnectionSender;
+import io.micrometer.registry.otlp.AggregationTemporality;
+import io.micrometer.registry.otlp.OtlpConfig;
+import io.micrometer.registry.otlp.OtlpHttpMetricsSender;
+import io.micrometer.registry.otlp.OtlpMeterRegistry;
+
+/**
+ * The {@link OtlpMetricsExporter} class implements a MetricsExporter for the OpenTelemetry protocol (OTLP/HTTP).
+ *
+ * Metrics are aggregated per update interval and published with delta temporality. Payloads that cannot be published
+ * because the collector is not reachable are kept on disk by a {@link SpillingHttpSender} and published later.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class OtlpMetricsExporter extends MetricsExporter {
+
+    private static final Path SPILL_DIRECTORY = Path.of(OpenHAB.getUserDataFolder(), "metrics", "otlp");
+    private static final String SERVICE_NAME = "service.name";
+
+    private @Nullable OtlpMeterRegistry otlpMeterRegistry;
+    private @Nullable CompositeMeterRegistry meterRegistry;
+
+    @Override
+    public void start(CompositeMeterRegistry meterRegistry, MetricsConfiguration metricsConfiguration) {
+        SpillingHttpSender sender = new SpillingHttpSender(new HttpUrlConnectionSender(), SPILL_DIRECTORY,
+                metricsConfiguration.otlpSpillLimitInMB * 1024L * 1024L);
+        OtlpMeterRegistry otlpMeterRegistry = createMeterRegistry(metricsConfiguration, sender);
+        meterRegistry.add(otlpMeterRegistry);
+        this.otlpMeterRegistry = otlpMeterRegistry;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void shutdown() {
+        OtlpMeterRegistry otlpMeterRegistry = this.otlpMeterRegistry;
+        CompositeMeterRegistry meterRegistry = this.meterRegistry;
+        if (otlpMeterRegistry != null) {
+            if (meterRegistry != null) {
+                meterRegistry.remove(otlpMeterRegistry);
+            }
+            // publishes the last interval before closing
+            otlpMeterRegistry.close();
+        }
+        this.otlpMeterRegistry = null;
+        this.meterRegistry = null;
+    }
+
+    /**
+     * Creates the registry which publishes the metrics through the given sender.
+     */
+    static OtlpMeterRegistry createMeterRegistry(MetricsConfiguration metricsConfiguration, HttpSender sender) {
+        return OtlpMeterRegistry.builder(getOtlpConfig(metricsConfiguration))
+                .metricsSender(new OtlpHttpMetricsSender(sender)).build();
+    }
+
+    private static OtlpConfig getOtlpConfig(MetricsConfiguration metricsConfiguration) {
+        return new OtlpConfig() {
+            @Override
+            public String url() {
+                return metricsConfiguration.otlpURL;
+            }
+
+            @Override
+            public Duration step() {
+                return Duration.ofSeconds(metricsConfiguration.otlpUpdateIntervalInSeconds);
+            }
+
+            @Override
+            public AggregationTemporality aggregationTemporality() {
+                return AggregationTemporality.DELTA;
+            }
+
+            @Override
+            public Map<String, String> headers() {
+                return parseHeaders(metricsConfiguration.otlpHeaders);
+            }
+
+            @Override
+            public Map<String, String> resourceAttributes() {
+                Map<String, String> attributes = new HashMap<>(OtlpConfig.super.resourceAttributes());
+                attributes.putIfAbsent(SERVICE_NAME, "openhab");
+                return attributes;
+            }
+
+            @Override
+            @Nullable
+            public String get(@Nullable String k) {
+                return null; // accept the rest of the defaults
+            }
+        };
+    }
+
+    /**
+     * Parses headers given as comma separated list of <code>key=value</code> pairs.
+     */
+    static Map<String, String> parseHeaders(@Nullable String headers) {
+        Map<String, String> result = new HashMap<>();
+        if (headers != null) {
+            for (String header : headers.split(",")) {
+                int index = header.indexOf('=');
+                if (index > 0) {
+                    result.put(header.substring(0, index).trim(), header.substring(index + 1).trim());
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    protected boolean isEnabled(MetricsConfiguration config) {
+        return config.otlpMetricsEnabled;
+    }
+}
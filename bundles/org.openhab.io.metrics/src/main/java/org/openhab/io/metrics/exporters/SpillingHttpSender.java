@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.exporters;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.ipc.http.HttpSender;
+
+/**
+ * The {@link SpillingHttpSender} sends requests with a delegate {@link HttpSender} and keeps the payloads of requests
+ * that failed because the receiver is not reachable or temporarily unavailable in a directory. They are sent again,
+ * oldest first, after the next successful request.
+ *
+ * The spill directory is bounded by a size limit, the oldest payloads are deleted when it is exceeded. Payloads are
+ * sent again to the URL and with the headers of the request that succeeded, so the sender must only be used for a
+ * single endpoint.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SpillingHttpSender implements HttpSender {
+
+    static final String FILE_SUFFIX = ".bin";
+    // limits the time a single publish is delayed after the receiver is back
+    static final int MAX_RESENDS_PER_REQUEST = 20;
+
+    private final Logger logger = LoggerFactory.getLogger(SpillingHttpSender.class);
+
+    private final HttpSender delegate;
+    private final Path spillDirectory;
+    private final long spillLimitBytes;
+    private final Deque<Path> spilledFiles = new ArrayDeque<>();
+    private long spilledBytes;
+    private long sequence;
+
+    /**
+     * @param delegate the sender to send the requests with
+     * @param spillDirectory directory to keep the payloads of failed requests in, created if it does not exist
+     * @param spillLimitBytes maximum total size of the kept payloads, 0 disables spilling
+     */
+    public SpillingHttpSender(HttpSender delegate, Path spillDirectory, long spillLimitBytes) {
+        this.delegate = delegate;
+        this.spillDirectory = spillDirectory;
+        this.spillLimitBytes = spillLimitBytes;
+        loadSpilledFiles();
+    }
+
+    @Override
+    public synchronized Response send(Request request) throws Throwable {
+        Response response;
+        try {
+            response = delegate.send(request);
+        } catch (Throwable e) {
+            spill(request.getEntity());
+            throw e;
+        }
+        if (response.isSuccessful()) {
+            resendSpilled(request);
+        } else if (isRetryable(response.code())) {
+            spill(request.getEntity());
+        }
+        return response;
+    }
+
+    /**
+     * @return number of payloads waiting to be sent again
+     */
+    public synchronized int getSpilledCount() {
+        return spilledFiles.size();
+    }
+
+    /**
+     * @return total size of the payloads waiting to be sent again
+     */
+    public synchronized long getSpilledBytes() {
+        return spilledBytes;
+    }
+
+    static boolean isRetryable(int code) {
+        return code == 408 || code == 429 || code == 502 || code == 503 || code == 504;
+    }
+
+    private void resendSpilled(Request request) {
+        for (int i = 0; i < MAX_RESENDS_PER_REQUEST && !spilledFiles.isEmpty(); i++) {
+            Path file = spilledFiles.getFirst();
+            try {
+                byte[] entity = Files.readAllBytes(file);
+                Request.Builder builder = delegate.post(request.getUrl().toString());
+                for (Map.Entry<String, String> header : request.getRequestHeaders().entrySet()) {
+                    builder.withHeader(header.getKey(), header.getValue());
+                }
+                Response response = builder.withContent(getContentType(request), entity).send();
+                if (!response.isSuccessful() && isRetryable(response.code())) {
+                    return;
+                }
+                if (!response.isSuccessful()) {
+                    logger.debug("Discarding spilled payload {} rejected with status {}", file, response.code());
+                }
+            } catch (IOException e) {
+                logger.debug("Discarding unreadable spilled payload {}: {}", file, e.getMessage());
+            } catch (Throwable e) {
+                logger.debug("Failed to send spilled payload {}: {}", file, e.getMessage());
+                return;
+            }
+            delete(spilledFiles.removeFirst());
+        }
+    }
+
+    private static String getContentType(Request request) {
+        return request.getRequestHeaders().entrySet().stream()
+                .filter(header -> "Content-Type".equalsIgnoreCase(header.getKey())).map(Map.Entry::getValue)
+                .findFirst().orElse("application/x-protobuf");
+    }
+
+    private void spill(byte[] entity) {
+        if (entity.length == 0 || entity.length > spillLimitBytes) {
+            return;
+        }
+        try {
+            Files.createDirectories(spillDirectory);
+            // zero padded, so the file names sort in the order the payloads were written
+            String name = String.format("%013d-%06d%s", System.currentTimeMillis(), sequence++ % 1_000_000,
+                    FILE_SUFFIX);
+            Path file = spillDirectory.resolve(name);
+            Files.write(file, entity);
+            spilledFiles.addLast(file);
+            spilledBytes += entity.length;
+        } catch (IOException e) {
+            logger.warn("Failed to spill metrics payload to '{}': {}", spillDirectory, e.getMessage());
+            return;
+        }
+        while (spilledBytes > spillLimitBytes && !spilledFiles.isEmpty()) {
+            delete(spilledFiles.removeFirst());
+        }
+        logger.debug("Spilled metrics payload, {} payloads ({} bytes) waiting", spilledFiles.size(), spilledBytes);
+    }
+
+    private void delete(Path file) {
+        try {
+            spilledBytes -= Files.size(file);
+            Files.delete(file);
+        } catch (IOException e) {
+            logger.debug("Failed to delete spilled payload {}: {}", file, e.getMessage());
+        }
+        if (spilledFiles.isEmpty()) {
+            spilledBytes = 0;
+        }
+    }
+
+    private void loadSpilledFiles() {
+        if (!Files.isDirectory(spillDirectory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(FILE_SUFFIX)).sorted().forEach(file -> {
+                try {
+                    spilledBytes += Files.size(file);
+                    spilledFiles.addLast(file);
+                } catch (IOException e) {
+                    logger.debug("Ignoring spilled payload {}: {}", file, e.getMessage());
+                }
+            });
+        } catch (IOException e) {
+            logger.warn("Failed to read spilled metrics payloads from '{}': {}", spillDirectory, e.getMessage());
+        }
+        while (spilledBytes > spillLimitBytes && !spilledFiles.isEmpty()) {
+            delete(spilledFiles.removeFirst());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.internal.meters;
+
+import java.time.Duration;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Registers the latency timers of add-ons, so that they all publish the same histogram buckets.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+final class LatencyTimers {
+
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(30);
+
+    private LatencyTimers() {
+    }
+
+    static Timer register(MeterRegistry registry, String name, String description, String tagKey, String tagValue) {
+        return Timer.builder(name).description(description).tag(tagKey, tagValue).publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED).maximumExpectedValue(MAX_EXPECTED).register(registry);
+    }
+}
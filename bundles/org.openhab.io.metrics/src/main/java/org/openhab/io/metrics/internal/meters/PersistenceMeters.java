@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.internal.meters;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Meters of a persistence service, tagged with <code>service=&lt;service id&gt;</code>:
+ * <ul>
+ * <li>{@value #METRIC_STORE_LATENCY}: time to write one batch of states to the database, which is a single state when
+ * the service does not buffer writes. It is measured from the start of the write until it succeeded or failed, so
+ * failed writes are included.</li>
+ * <li>{@value #METRIC_QUERY_LATENCY}: time the database takes to return a query result, or one page of it for results
+ * which are read while they are iterated.</li>
+ * <li>{@value #METRIC_WRITE_QUEUE_DEPTH}: number of states waiting to be written.</li>
+ * </ul>
+ *
+ * The meters are registered while a meter registry is bound. Recording is a no-op while none is bound.
+ *
+ * <p>
+ * This package is copied into the bundles which use it, see <code>bnd.conditionalpackage</code>.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PersistenceMeters {
+
+    public static final String METRIC_STORE_LATENCY = "openhab.persistence.store.latency";
+    public static final String METRIC_QUERY_LATENCY = "openhab.persistence.query.latency";
+    public static final String METRIC_WRITE_QUEUE_DEPTH = "openhab.persistence.write.queue.depth";
+    public static final String TAG_SERVICE = "service";
+
+    private record Meters(MeterRegistry registry, Timer storeLatency, Timer queryLatency, Gauge writeQueueDepth) {
+    }
+
+    private final String serviceId;
+    private final Supplier<Number> writeQueueDepth;
+    private volatile @Nullable Meters meters;
+
+    /**
+     * @param serviceId id of the persistence service, used as tag value
+     * @param writeQueueDepth supplies the number of states waiting to be written
+     */
+    public PersistenceMeters(String serviceId, Supplier<Number> writeQueueDepth) {
+        this.serviceId = serviceId;
+        this.writeQueueDepth = writeQueueDepth;
+    }
+
+    /**
+     * Registers the meters, removing those of a previously bound registry.
+     */
+    public synchronized void bind(MeterRegistry registry) {
+        unbind();
+        meters = new Meters(registry,
+                LatencyTimers.register(registry, METRIC_STORE_LATENCY, "Time to write a batch of states", TAG_SERVICE,
+                        serviceId),
+                LatencyTimers.register(registry, METRIC_QUERY_LATENCY, "Time to read a query result or a page of it",
+                        TAG_SERVICE, serviceId),
+                Gauge.builder(METRIC_WRITE_QUEUE_DEPTH, writeQueueDepth).description("States waiting to be written")
+                        .tag(TAG_SERVICE, serviceId).register(registry));
+    }
+
+    /**
+     * Removes the meters from the bound registry.
+     */
+    public synchronized void unbind() {
+        Meters meters = this.meters;
+        this.meters = null;
+        if (meters != null) {
+            meters.registry().remove(meters.storeLatency());
+            meters.registry().remove(meters.queryLatency());
+            meters.registry().remove(meters.writeQueueDepth());
+        }
+    }
+
+    /**
+     * Records the write of a batch of states, whether it succeeded or failed.
+     *
+     * @param startNanos value of {@link System#nanoTime()} when the write started
+     */
+    public void recordStore(long startNanos) {
+        Meters meters = this.meters;
+        if (meters != null) {
+            meters.storeLatency().record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Records the read of a query result, or of one page of it.
+     *
+     * @param startNanos value of {@link System#nanoTime()} when the read started
+     */
+    public void recordQuery(long startNanos) {
+        Meters meters = this.meters;
+        if (meters != null) {
+            meters.queryLatency().record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
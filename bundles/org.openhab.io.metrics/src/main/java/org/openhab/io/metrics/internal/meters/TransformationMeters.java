@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.internal.meters;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Meter of a transformation service, tagged with <code>type=&lt;transformation type&gt;</code>:
+ * {@value #METRIC_TRANSFORMATION_LATENCY} is the time to transform a value, whether the transformation succeeded or
+ * failed.
+ *
+ * The meter is registered while a meter registry is bound. Recording is a no-op while none is bound.
+ *
+ * <p>
+ * This package is copied into the bundles which use it, see <code>bnd.conditionalpackage</code>.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TransformationMeters {
+
+    public static final String METRIC_TRANSFORMATION_LATENCY = "openhab.transformation.latency";
+    public static final String TAG_TYPE = "type";
+
+    private record Meters(MeterRegistry registry, Timer latency) {
+    }
+
+    private final String type;
+    private volatile @Nullable Meters meters;
+
+    /**
+     * @param type transformation type, used as tag value
+     */
+    public TransformationMeters(String type) {
+        this.type = type;
+    }
+
+    /**
+     * Registers the meter, removing the one of a previously bound registry.
+     */
+    public synchronized void bind(MeterRegistry registry) {
+        unbind();
+        meters = new Meters(registry, LatencyTimers.register(registry, METRIC_TRANSFORMATION_LATENCY,
+                "Time to transform a value", TAG_TYPE, type));
+    }
+
+    /**
+     * Removes the meter from the bound registry.
+     */
+    public synchronized void unbind() {
+        Meters meters = this.meters;
+        this.meters = null;
+        if (meters != null) {
+            meters.registry().remove(meters.latency());
+        }
+    }
+
+    /**
+     * Records a transformation.
+     *
+     * @param startNanos value of {@link System#nanoTime()} when the transformation started
+     */
+    public void record(long startNanos) {
+        Meters meters = this.meters;
+        if (meters != null) {
+            meters.latency().record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the content negotiation of {@link MetricsRestController}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MetricsRestControllerTest {
+
+    private final MetricsRestController controller = new MetricsRestController();
+
+    @Test
+    public void prometheusTextIsDefault() {
+        assertTrue(controller.negotiateContentType(null).startsWith("text/plain; version=0.0.4"));
+        assertTrue(controller.negotiateContentType("*/*").startsWith("text/plain; version=0.0.4"));
+        assertTrue(controller.negotiateContentType("text/plain").startsWith("text/plain; version=0.0.4"));
+    }
+
+    @Test
+    public void openMetricsIsNegotiated() {
+        assertTrue(controller
+                .negotiateContentType("application/openmetrics-text;version=1.0.0,text/plain;version=0.0.4;q=0.5")
+                .startsWith(MetricsRestController.CONTENT_TYPE_OPENMETRICS));
+    }
+
+    @Test
+    public void protobufIsNegotiated() {
+        assertTrue(controller
+                .negotiateContentType("application/vnd.google.protobuf;proto=io.prometheus.client.MetricFamily;"
+                        + "encoding=delimited;q=0.9,text/plain;version=0.0.4;q=0.5")
+                .startsWith(MetricsRestController.CONTENT_TYPE_PROTOBUF));
+    }
+
+    @Test
+    public void gzipIsAccepted() {
+        assertTrue(MetricsRestController.acceptsGzip("gzip"));
+        assertTrue(MetricsRestController.acceptsGzip("deflate, GZIP;q=0.8"));
+        assertTrue(MetricsRestController.acceptsGzip("gzip; q=1"));
+    }
+
+    @Test
+    public void gzipIsNotAcceptedWhenRefusedOrMissing() {
+        assertFalse(MetricsRestController.acceptsGzip(null));
+        assertFalse(MetricsRestController.acceptsGzip("identity"));
+        assertFalse(MetricsRestController.acceptsGzip("gzip;q=0"));
+        assertFalse(MetricsRestController.acceptsGzip("br, gzip; q=0.0"));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+/**
+ * Tests for {@link PrometheusScrapeCache} with a fake clock.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PrometheusScrapeCacheTest {
+
+    private static final String TEXT = "text/plain; version=0.0.4; charset=utf-8";
+    private static final String OPENMETRICS = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+    private final PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    private final Counter counter = Counter.builder("test.events").register(registry);
+    private long now = 1000;
+    private final PrometheusScrapeCache cache = new PrometheusScrapeCache(registry, () -> now);
+
+    @BeforeEach
+    public void setUp() {
+        cache.setDuration(5);
+    }
+
+    private String scrape(String contentType) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        cache.write(out, contentType, false);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private String scrapeGzip(String contentType) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        cache.write(out, contentType, true);
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private void advance(long seconds) {
+        now += TimeUnit.SECONDS.toNanos(seconds);
+    }
+
+    @Test
+    public void scrapeIsReusedWithinCacheDuration() throws IOException {
+        String first = scrape(TEXT);
+        counter.increment();
+        advance(4);
+
+        assertEquals(first, scrape(TEXT));
+    }
+
+    @Test
+    public void scrapeIsRenderedAgainAfterCacheDuration() throws IOException {
+        String first = scrape(TEXT);
+        counter.increment();
+        advance(5);
+
+        String second = scrape(TEXT);
+        assertNotEquals(first, second);
+        assertTrue(second.contains("test_events_total 1.0"));
+    }
+
+    @Test
+    public void formatsAreCachedSeparately() throws IOException {
+        String text = scrape(TEXT);
+        String openMetrics = scrape(OPENMETRICS);
+
+        assertNotEquals(text, openMetrics);
+        assertTrue(openMetrics.endsWith("# EOF\n"));
+        assertEquals(text, scrape(TEXT));
+    }
+
+    @Test
+    public void gzipScrapeHasSameContent() throws IOException {
+        String plain = scrape(TEXT);
+        counter.increment();
+
+        assertEquals(plain, scrapeGzip(TEXT));
+    }
+
+    @Test
+    public void scrapeIsStreamedWithoutCacheDuration() throws IOException {
+        cache.setDuration(0);
+        scrape(TEXT);
+        counter.increment();
+
+        assertTrue(scrape(TEXT).contains("test_events_total 1.0"));
+        counter.increment();
+        assertTrue(scrapeGzip(TEXT).contains("test_events_total 2.0"));
+    }
+
+    @Test
+    public void changingDurationDropsCachedScrapes() throws IOException {
+        scrape(TEXT);
+        counter.increment();
+        cache.setDuration(10);
+
+        assertTrue(scrape(TEXT).contains("test_events_total 1.0"));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.binders;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
+import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.link.ItemChannelLink;
+import org.openhab.core.thing.link.ItemChannelLinkRegistry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for {@link BindingMetricsBinder}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class BindingMetricsBinderTest {
+
+    private static final String ITEM_NAME = "Light";
+    private static final ChannelUID CHANNEL = new ChannelUID("hue:0210:bridge:light1:switch");
+    // shares the first segments of the UID of the linked channel
+    private static final ChannelUID PREFIXED_CHANNEL = new ChannelUID("hue:0210:bridge:light1:switch2");
+
+    private final CompositeMeterRegistry meterRegistry = new CompositeMeterRegistry();
+    private final ItemChannelLinkRegistry linkRegistry = mock(ItemChannelLinkRegistry.class);
+    private @NonNullByDefault({}) BindingMetricsBinder binder;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry.add(new SimpleMeterRegistry());
+        MeterRegistryProvider provider = mock(MeterRegistryProvider.class);
+        when(provider.getOHMeterRegistry()).thenReturn(meterRegistry);
+        when(linkRegistry.getLinks(ITEM_NAME)).thenReturn(Set.of(new ItemChannelLink(ITEM_NAME, CHANNEL)));
+        binder = new BindingMetricsBinder(provider, linkRegistry);
+    }
+
+    private void command() {
+        binder.receive(ItemEventFactory.createCommandEvent(ITEM_NAME, OnOffType.ON));
+    }
+
+    private void stateUpdate(@Nullable String source) {
+        binder.receive(ItemEventFactory.createStateEvent(ITEM_NAME, OnOffType.ON, source));
+    }
+
+    private double count(String name) {
+        Counter counter = meterRegistry.find(name).tag("binding", "hue").counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private long responseCount() {
+        Timer timer = meterRegistry.find(BindingMetricsBinder.METRIC_COMMAND_RESPONSE_TIME).tag("binding", "hue")
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    @Test
+    public void commandAndStateUpdateOfLinkedChannelAreCounted() {
+        command();
+        stateUpdate("org.openhab.core.thing$" + CHANNEL.getAsString());
+
+        assertEquals(1, count(BindingMetricsBinder.METRIC_COMMANDS));
+        assertEquals(1, count(BindingMetricsBinder.METRIC_STATE_UPDATES));
+        assertEquals(1, responseCount());
+    }
+
+    @Test
+    public void delegatedAndPlainChannelSourcesAreAttributed() {
+        stateUpdate("org.openhab.core.automation$rule1=>org.openhab.core.thing$" + CHANNEL.getAsString());
+        stateUpdate(CHANNEL.getAsString());
+
+        assertEquals(2, count(BindingMetricsBinder.METRIC_STATE_UPDATES));
+    }
+
+    @Test
+    public void channelWithLinkedChannelUidAsPrefixIsNotAttributed() {
+        command();
+        stateUpdate("org.openhab.core.thing$" + PREFIXED_CHANNEL.getAsString());
+
+        assertEquals(0, count(BindingMetricsBinder.METRIC_STATE_UPDATES));
+        assertEquals(0, responseCount());
+    }
+
+    @Test
+    public void updatesFromOtherSourcesAreNotAttributed() {
+        command();
+        stateUpdate("org.openhab.core.autoupdate");
+        stateUpdate("org.openhab.ui$admin");
+        stateUpdate(null);
+
+        assertEquals(0, count(BindingMetricsBinder.METRIC_STATE_UPDATES));
+        assertEquals(0, responseCount());
+    }
+
+    @Test
+    public void eventsAfterDeactivationAreIgnored() {
+        command();
+        binder.deactivate();
+
+        assertDoesNotThrow(() -> {
+            command();
+            stateUpdate("org.openhab.core.thing$" + CHANNEL.getAsString());
+        });
+        assertTrue(meterRegistry.find(BindingMetricsBinder.METRIC_COMMANDS).meters().isEmpty());
+    }
+
+    @Test
+    public void sourceChannelsAreParsed() {
+        assertEquals(Set.of(CHANNEL), BindingMetricsBinder
+                .getSourceChannels("org.openhab.core.io.rest$admin=>org.openhab.core.thing$" + CHANNEL.getAsString()));
+        assertEquals(Set.of(), BindingMetricsBinder.getSourceChannels("org.openhab.core.thing"));
+    }
+}
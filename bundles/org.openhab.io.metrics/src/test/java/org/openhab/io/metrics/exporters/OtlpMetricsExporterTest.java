@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.exporters;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.ConnectException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.io.metrics.MetricsConfiguration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.ipc.http.HttpSender;
+import io.micrometer.registry.otlp.OtlpMeterRegistry;
+import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceRequest;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.metrics.v1.Metric;
+import io.opentelemetry.proto.metrics.v1.ResourceMetrics;
+
+/**
+ * Tests for {@link OtlpMetricsExporter}, publishing through the {@link OtlpMeterRegistry} and decoding the payloads
+ * with the OTLP protobuf classes.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class OtlpMetricsExporterTest {
+
+    private static final String COUNTER_NAME = "openhab.test.events";
+
+    private @TempDir @NonNullByDefault({}) Path spillDirectory;
+
+    /**
+     * Stand-in for an OTLP collector, which is either down or receives the payloads.
+     */
+    private static class Collector implements HttpSender {
+        boolean reachable = true;
+        List<ExportMetricsServiceRequest> received = new ArrayList<>();
+
+        @Override
+        public Response send(Request request) throws Throwable {
+            if (!reachable) {
+                throw new ConnectException("Connection refused");
+            }
+            received.add(ExportMetricsServiceRequest.parseFrom(request.getEntity()));
+            return new Response(200, "");
+        }
+    }
+
+    private void publish(HttpSender sender, double count) {
+        OtlpMeterRegistry registry = OtlpMetricsExporter.createMeterRegistry(new MetricsConfiguration(), sender);
+        Counter.builder(COUNTER_NAME).register(registry).increment(count);
+        // publishes the current interval
+        registry.close();
+    }
+
+    private static double getCount(ExportMetricsServiceRequest request) {
+        ResourceMetrics resourceMetrics = request.getResourceMetrics(0);
+        Metric metric = resourceMetrics.getScopeMetricsList().stream()
+                .flatMap(scopeMetrics -> scopeMetrics.getMetricsList().stream())
+                .filter(m -> COUNTER_NAME.equals(m.getName())).findFirst().orElseThrow();
+        return metric.getSum().getDataPoints(0).getAsDouble();
+    }
+
+    @Test
+    public void metricsArePublishedAsOtlpRequest() {
+        Collector collector = new Collector();
+        publish(new SpillingHttpSender(collector, spillDirectory, 1024 * 1024), 3);
+
+        assertEquals(1, collector.received.size());
+        ExportMetricsServiceRequest request = collector.received.getFirst();
+        assertEquals(3, getCount(request));
+        List<KeyValue> attributes = request.getResourceMetrics(0).getResource().getAttributesList();
+        assertTrue(attributes.stream().anyMatch(attribute -> "service.name".equals(attribute.getKey())
+                && "openhab".equals(attribute.getValue().getStringValue())));
+    }
+
+    @Test
+    public void spilledRequestsArePublishedWhenCollectorIsBack() {
+        Collector collector = new Collector();
+        SpillingHttpSender sender = new SpillingHttpSender(collector, spillDirectory, 1024 * 1024);
+
+        collector.reachable = false;
+        publish(sender, 1);
+        assertEquals(1, sender.getSpilledCount());
+
+        collector.reachable = true;
+        publish(sender, 2);
+        assertEquals(0, sender.getSpilledCount());
+        assertEquals(List.of(2.0, 1.0), collector.received.stream().map(OtlpMetricsExporterTest::getCount).toList());
+    }
+}
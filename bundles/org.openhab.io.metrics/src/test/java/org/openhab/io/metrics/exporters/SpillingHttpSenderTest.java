@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.exporters;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.ConnectException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.micrometer.core.ipc.http.HttpSender;
+
+/**
+ * Tests for {@link SpillingHttpSender}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SpillingHttpSenderTest {
+
+    private static final String URL = "http://localhost:4318/v1/metrics";
+
+    private @TempDir @NonNullByDefault({}) Path spillDirectory;
+
+    /**
+     * Stand-in for an OTLP collector, which is either down, answers with a fixed status or receives the payloads.
+     */
+    private static class Collector implements HttpSender {
+        boolean reachable = true;
+        int status = 200;
+        List<String> received = new ArrayList<>();
+
+        @Override
+        public Response send(Request request) throws Throwable {
+            if (!reachable) {
+                throw new ConnectException("Connection refused");
+            }
+            if (status == 200) {
+                received.add(new String(request.getEntity(), StandardCharsets.UTF_8));
+            }
+            return new Response(status, "");
+        }
+    }
+
+    private void send(HttpSender sender, String payload) {
+        try {
+            sender.post(URL).withContent("application/x-protobuf", payload.getBytes(StandardCharsets.UTF_8)).send();
+        } catch (Throwable e) {
+            // a failing collector is expected
+        }
+    }
+
+    @Test
+    public void payloadsAreResentInOrderWhenCollectorIsBack() {
+        Collector collector = new Collector();
+        SpillingHttpSender sender = new SpillingHttpSender(collector, spillDirectory, 1024 * 1024);
+
+        send(sender, "1");
+        collector.reachable = false;
+        send(sender, "2");
+        send(sender, "3");
+        assertEquals(2, sender.getSpilledCount());
+        assertEquals(List.of("1"), collector.received);
+
+        collector.reachable = true;
+        send(sender, "4");
+        assertEquals(List.of("1", "4", "2", "3"), collector.received);
+        assertEquals(0, sender.getSpilledCount());
+        assertEquals(0, sender.getSpilledBytes());
+    }
+
+    @Test
+    public void unavailableCollectorSpillsButRejectedPayloadsAreDropped() {
+        Collector collector = new Collector();
+        SpillingHttpSender sender = new SpillingHttpSender(collector, spillDirectory, 1024 * 1024);
+
+        collector.status = 503;
+        send(sender, "1");
+        collector.status = 400;
+        send(sender, "2");
+        assertEquals(1, sender.getSpilledCount());
+
+        collector.status = 200;
+        send(sender, "3");
+        assertEquals(List.of("3", "1"), collector.received);
+    }
+
+    @Test
+    public void spillIsBoundedByDroppingOldestPayloads() {
+        Collector collector = new Collector();
+        collector.reachable = false;
+        SpillingHttpSender sender = new SpillingHttpSender(collector, spillDirectory, 10);
+
+        send(sender, "aaaa");
+        send(sender, "bbbb");
+        send(sender, "cccc");
+        assertEquals(2, sender.getSpilledCount());
+        assertEquals(8, sender.getSpilledBytes());
+
+        collector.reachable = true;
+        send(sender, "dddd");
+        assertEquals(List.of("dddd", "bbbb", "cccc"), collector.received);
+    }
+
+    @Test
+    public void spilledPayloadsSurviveRestart() {
+        Collector collector = new Collector();
+        collector.reachable = false;
+        send(new SpillingHttpSender(collector, spillDirectory, 1024), "1");
+
+        collector.reachable = true;
+        SpillingHttpSender sender = new SpillingHttpSender(collector, spillDirectory, 1024);
+        assertEquals(1, sender.getSpilledCount());
+        send(sender, "2");
+        assertEquals(List.of("2", "1"), collector.received);
+    }
+
+    @Test
+    public void spillingCanBeDisabled() {
+        Collector collector = new Collector();
+        collector.reachable = false;
+        SpillingHttpSender sender = new SpillingHttpSender(collector, spillDirectory, 0);
+
+        send(sender, "1");
+        assertEquals(0, sender.getSpilledCount());
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.internal.meters;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for {@link PersistenceMeters}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PersistenceMetersTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final PersistenceMeters meters = new PersistenceMeters("jdbc", queueDepth::get);
+
+    private Timer timer(String name) {
+        return registry.get(name).tag(PersistenceMeters.TAG_SERVICE, "jdbc").timer();
+    }
+
+    @Test
+    public void recordingIsIgnoredWhileUnbound() {
+        meters.recordStore(System.nanoTime());
+        meters.recordQuery(System.nanoTime());
+
+        assertTrue(registry.getMeters().isEmpty());
+    }
+
+    @Test
+    public void latenciesAndQueueDepthArePublishedWhileBound() {
+        meters.bind(registry);
+        queueDepth.set(5);
+        meters.recordStore(System.nanoTime() - 2_000_000);
+        meters.recordQuery(System.nanoTime());
+        meters.recordQuery(System.nanoTime());
+
+        assertEquals(1, timer(PersistenceMeters.METRIC_STORE_LATENCY).count());
+        assertTrue(timer(PersistenceMeters.METRIC_STORE_LATENCY).totalTime(TimeUnit.MILLISECONDS) >= 2);
+        assertEquals(2, timer(PersistenceMeters.METRIC_QUERY_LATENCY).count());
+        Gauge gauge = registry.get(PersistenceMeters.METRIC_WRITE_QUEUE_DEPTH).gauge();
+        assertEquals(5, gauge.value());
+    }
+
+    @Test
+    public void metersAreRemovedWhenUnbound() {
+        meters.bind(registry);
+        meters.unbind();
+        meters.recordStore(System.nanoTime());
+
+        assertTrue(registry.getMeters().isEmpty());
+    }
+
+    @Test
+    public void bindingAgainReplacesTheMeters() {
+        SimpleMeterRegistry other = new SimpleMeterRegistry();
+        meters.bind(registry);
+        meters.bind(other);
+        meters.recordStore(System.nanoTime());
+
+        assertTrue(registry.getMeters().isEmpty());
+        assertEquals(1, other.get(PersistenceMeters.METRIC_STORE_LATENCY).timer().count());
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.internal.meters;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for {@link TransformationMeters}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TransformationMetersTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final TransformationMeters meters = new TransformationMeters("REGEX");
+
+    @Test
+    public void transformationsAreRecordedWhileBound() {
+        meters.record(System.nanoTime());
+        meters.bind(registry);
+        meters.record(System.nanoTime());
+
+        assertEquals(1, registry.get(TransformationMeters.METRIC_TRANSFORMATION_LATENCY)
+                .tag(TransformationMeters.TAG_TYPE, "REGEX").timer().count());
+
+        meters.unbind();
+        meters.record(System.nanoTime());
+
+        assertTrue(registry.getMeters().isEmpty());
+    }
+}
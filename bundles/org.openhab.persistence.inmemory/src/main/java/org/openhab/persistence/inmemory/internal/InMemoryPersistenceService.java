@@ -14,6 +14,7 @@ package org.openhab.persistence.inmemory.internal;
 
 import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.util.AbstractList;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
@@ -83,11 +84,16 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
         maxEntries = ConfigParser.valueAsOrElse(config.get(MAX_ENTRIES_CONFIG), Long.class, MAX_ENTRIES_DEFAULT);
 
         persistMap.values().forEach(persistItem -> {
-            Lock lock = persistItem.lock();
+            Lock lock = persistItem.lock;
             lock.lock();
             try {
-                while (persistItem.database().size() > maxEntries) {
-                    persistItem.database().pollFirst();
+                NumericTimeSeries series = persistItem.series;
+                if (series != null) {
+                    series.trim(maxEntries);
+                } else {
+                    while (persistItem.database.size() > maxEntries) {
+                        persistItem.database.pollFirst();
+                    }
                 }
             } finally {
                 lock.unlock();
@@ -158,11 +164,18 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return false;
         }
 
-        Lock lock = persistItem.lock();
+        Lock lock = persistItem.lock;
         lock.lock();
         try {
-            List<PersistEntry> toRemove = persistItem.database().stream().filter(e -> applies(e, filter)).toList();
-            toRemove.forEach(persistItem.database()::remove);
+            NumericTimeSeries series = persistItem.series;
+            if (series != null) {
+                series.remove(NumericTimeSeries.toEpochNanos(filter.getBeginDate(), Long.MIN_VALUE),
+                        NumericTimeSeries.toEpochNanos(filter.getEndDate(), Long.MAX_VALUE),
+                        filter.getState() == null ? null : state -> appliesState(state, filter));
+            } else {
+                List<PersistEntry> toRemove = persistItem.database.stream().filter(e -> applies(e, filter)).toList();
+                toRemove.forEach(persistItem.database::remove);
+            }
         } finally {
             lock.unlock();
         }
@@ -181,7 +194,7 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return List.of();
         }
 
-        Lock lock = persistItem.lock();
+        Lock lock = persistItem.lock;
         lock.lock();
 
         Comparator<PersistEntry> comparator = filter.getOrdering() == FilterCriteria.Ordering.ASCENDING
@@ -189,13 +202,60 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
                 : Comparator.comparing(PersistEntry::timestamp).reversed();
 
         try {
-            return persistItem.database().stream().filter(e -> applies(e, filter)).sorted(comparator)
+            NumericTimeSeries series = persistItem.series;
+            if (series != null) {
+                return querySeries(itemName, series, filter);
+            }
+            return persistItem.database.stream().filter(e -> applies(e, filter)).sorted(comparator)
                     .map(e -> toHistoricItem(itemName, e)).toList();
         } finally {
             lock.unlock();
         }
     }
 
+    /**
+     * Copies the matching range of a numeric series. The historic items are only created when they are accessed.
+     */
+    private List<HistoricItem> querySeries(String itemName, NumericTimeSeries series, FilterCriteria filter) {
+        int from = series.lowerBound(NumericTimeSeries.toEpochNanos(filter.getBeginDate(), Long.MIN_VALUE));
+        int to = series.upperBound(NumericTimeSeries.toEpochNanos(filter.getEndDate(), Long.MAX_VALUE));
+        if (from >= to) {
+            return List.of();
+        }
+        long[] timestamps = series.copyTimestamps(from, to);
+        double[] values = series.copyValues(from, to);
+        byte[] scales = series.copyScales(from, to);
+        int size = timestamps.length;
+        if (filter.getState() != null) {
+            // compact the matching entries to the front
+            size = 0;
+            for (int i = 0; i < timestamps.length; i++) {
+                if (appliesState(series.toState(values[i], scales[i]), filter)) {
+                    timestamps[size] = timestamps[i];
+                    values[size] = values[i];
+                    scales[size] = scales[i];
+                    size++;
+                }
+            }
+        }
+        boolean ascending = filter.getOrdering() == FilterCriteria.Ordering.ASCENDING;
+        int count = size;
+        return new AbstractList<>() {
+            @Override
+            public HistoricItem get(int index) {
+                Objects.checkIndex(index, count);
+                int i = ascending ? index : count - 1 - index;
+                return toHistoricItem(itemName, new PersistEntry(series.toDate(timestamps[i]),
+                        series.toState(values[i], scales[i])));
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
+
     @Override
     public List<PersistenceStrategy> getDefaultStrategies() {
         // persist only forecasts by default
@@ -203,13 +263,24 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
     }
 
     private PersistenceItemInfo toItemInfo(Map.Entry<String, PersistItem> itemEntry) {
-        Lock lock = itemEntry.getValue().lock();
+        PersistItem persistItem = itemEntry.getValue();
+        Lock lock = persistItem.lock;
         lock.lock();
         try {
             String name = itemEntry.getKey();
-            Integer count = itemEntry.getValue().database().size();
-            Instant earliest = itemEntry.getValue().database().first().timestamp().toInstant();
-            Instant latest = itemEntry.getValue().database.last().timestamp.toInstant();
+            NumericTimeSeries series = persistItem.series;
+            Integer count;
+            Instant earliest;
+            Instant latest;
+            if (series != null) {
+                count = series.size();
+                earliest = series.toDate(series.timestamp(0)).toInstant();
+                latest = series.toDate(series.timestamp(count - 1)).toInstant();
+            } else {
+                count = persistItem.database.size();
+                earliest = persistItem.database.first().timestamp().toInstant();
+                latest = persistItem.database.last().timestamp.toInstant();
+            }
             return new PersistenceItemInfo() {
 
                 @Override
@@ -261,24 +332,30 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return;
         }
 
-        PersistItem persistItem = Objects.requireNonNull(persistMap.computeIfAbsent(itemName,
-                k -> new PersistItem(new TreeSet<>(Comparator.comparing(PersistEntry::timestamp)),
-                        new ReentrantLock())));
+        PersistItem persistItem = Objects.requireNonNull(
+                persistMap.computeIfAbsent(itemName, k -> new PersistItem(timestamp, state, maxEntries)));
 
-        Lock lock = persistItem.lock();
+        Lock lock = persistItem.lock;
         lock.lock();
         try {
-            persistItem.database().add(new PersistEntry(timestamp, state));
+            NumericTimeSeries series = persistItem.series;
+            if (series != null) {
+                if (series.add(timestamp, state, maxEntries)) {
+                    return;
+                }
+                // the state or timestamp does not fit into the series, fall back to the generic storage for this item
+                persistItem.convertToGeneric();
+            }
+            persistItem.database.add(new PersistEntry(timestamp, state));
 
             while (persistItem.database.size() > maxEntries) {
-                persistItem.database().pollFirst();
+                persistItem.database.pollFirst();
             }
         } finally {
             lock.unlock();
         }
     }
 
-    @SuppressWarnings("unchecked")
     private boolean applies(PersistEntry entry, FilterCriteria filter) {
         ZonedDateTime beginDate = filter.getBeginDate();
         if (beginDate != null && beginDate.isAfter(entry.timestamp())) {
@@ -288,7 +365,11 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
         if (endDate != null && endDate.isBefore(entry.timestamp())) {
             return false;
         }
+        return appliesState(entry.state(), filter);
+    }
 
+    @SuppressWarnings("unchecked")
+    private boolean appliesState(State state, FilterCriteria filter) {
         State refState = filter.getState();
         FilterCriteria.Operator operator = filter.getOperator();
         if (refState == null) {
@@ -297,14 +378,14 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
         }
 
         if (operator == FilterCriteria.Operator.EQ) {
-            return entry.state().equals(refState);
+            return state.equals(refState);
         }
 
         if (operator == FilterCriteria.Operator.NEQ) {
-            return !entry.state().equals(refState);
+            return !state.equals(refState);
         }
 
-        if (entry.state() instanceof Comparable comparableState && entry.state.getClass().equals(refState.getClass())) {
+        if (state instanceof Comparable comparableState && state.getClass().equals(refState.getClass())) {
             if (operator == FilterCriteria.Operator.GT) {
                 return comparableState.compareTo(refState) > 0;
             }
@@ -326,6 +407,28 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
     private record PersistEntry(ZonedDateTime timestamp, State state) {
     }
 
-    private record PersistItem(TreeSet<PersistEntry> database, Lock lock) {
+    /**
+     * The stored states of an item. Numeric states are kept in a compact {@link NumericTimeSeries} as long as all
+     * states of the item fit into it, all other states in a {@link TreeSet}.
+     */
+    private static class PersistItem {
+        private final Lock lock = new ReentrantLock();
+        private final TreeSet<PersistEntry> database = new TreeSet<>(Comparator.comparing(PersistEntry::timestamp));
+        private @Nullable NumericTimeSeries series;
+
+        PersistItem(ZonedDateTime firstTimestamp, State firstState, long maxEntries) {
+            series = NumericTimeSeries.create(firstTimestamp, firstState, maxEntries);
+        }
+
+        void convertToGeneric() {
+            NumericTimeSeries series = this.series;
+            if (series != null) {
+                for (int i = 0; i < series.size(); i++) {
+                    database.add(new PersistEntry(series.toDate(series.timestamp(i)),
+                            series.toState(series.value(i), series.scale(i))));
+                }
+                this.series = null;
+            }
+        }
     }
 }
@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.function.Predicate;
+
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link NumericTimeSeries} stores the numeric states of an item as a ring buffer of parallel primitive arrays,
+ * holding the timestamps in epoch nanoseconds, the values as doubles and the scales of the values. The entries are
+ * ordered by timestamp, so range lookups are binary searches.
+ *
+ * Only {@link DecimalType} states and {@link QuantityType} states with the same unit are accepted, and only if their
+ * value can be represented as a double without loss. All timestamps must have the same zone, so that they are
+ * returned exactly as they were stored. The series is not thread-safe.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class NumericTimeSeries {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final @Nullable Unit<?> unit;
+    private final ZoneId zone;
+
+    private long[] timestamps;
+    private double[] values;
+    private byte[] scales;
+    private int head;
+    private int size;
+
+    private NumericTimeSeries(@Nullable Unit<?> unit, ZoneId zone, long maxEntries) {
+        this.unit = unit;
+        this.zone = zone;
+        int capacity = (int) Math.max(1, Math.min(INITIAL_CAPACITY, maxEntries));
+        timestamps = new long[capacity];
+        values = new double[capacity];
+        scales = new byte[capacity];
+    }
+
+    /**
+     * Creates a series for states like the given one.
+     *
+     * @param timestamp the timestamp of the first state, its zone is used for all entries
+     * @param state the first state to store
+     * @param maxEntries the maximum number of entries, used to limit the initial capacity
+     * @return the series or <code>null</code> if the state is not supported
+     */
+    static @Nullable NumericTimeSeries create(ZonedDateTime timestamp, State state, long maxEntries) {
+        if (state.getClass() == DecimalType.class) {
+            return new NumericTimeSeries(null, timestamp.getZone(), maxEntries);
+        } else if (state instanceof QuantityType<?> quantity) {
+            return new NumericTimeSeries(quantity.getUnit(), timestamp.getZone(), maxEntries);
+        }
+        return null;
+    }
+
+    /**
+     * Converts a date to epoch nanoseconds, saturating at the limits of the range.
+     *
+     * @param date the date to convert
+     * @param defaultValue the value to return if the date is <code>null</code>
+     */
+    static long toEpochNanos(@Nullable ZonedDateTime date, long defaultValue) {
+        if (date == null) {
+            return defaultValue;
+        }
+        try {
+            return Math.addExact(Math.multiplyExact(date.toEpochSecond(), NANOS_PER_SECOND), date.getNano());
+        } catch (ArithmeticException e) {
+            return date.toEpochSecond() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Adds an entry. Like the generic storage, an existing entry with the same timestamp is kept. The oldest entries
+     * are dropped if the series holds more than <code>maxEntries</code> entries.
+     *
+     * @return <code>false</code> if the state or timestamp is not supported by this series, <code>true</code> otherwise
+     */
+    boolean add(ZonedDateTime date, State state, long maxEntries) {
+        BigDecimal decimal;
+        if (unit == null && state.getClass() == DecimalType.class) {
+            decimal = ((DecimalType) state).toBigDecimal();
+        } else if (unit != null && state instanceof QuantityType<?> quantity && unit.equals(quantity.getUnit())) {
+            decimal = quantity.toBigDecimal();
+        } else {
+            return false;
+        }
+        double value = decimal.doubleValue();
+        int scale = decimal.scale();
+        if (Double.isInfinite(value) || BigDecimal.valueOf(value).compareTo(decimal) != 0 || scale != (byte) scale) {
+            return false;
+        }
+        long timestamp = toEpochNanos(date, 0);
+        if (!zone.equals(date.getZone()) || timestamp == Long.MIN_VALUE || timestamp == Long.MAX_VALUE) {
+            return false;
+        }
+
+        int index = upperBound(timestamp);
+        if (index > 0 && timestamps[physical(index - 1)] == timestamp) {
+            // keep the existing entry
+        } else if (size >= maxEntries && index == 0) {
+            // older than all entries of a full series, it would be dropped right away
+        } else {
+            if (size == timestamps.length) {
+                if (size < Math.min(maxEntries, MAX_CAPACITY)) {
+                    grow((int) Math.min(Math.min(maxEntries, MAX_CAPACITY), (long) size * 2));
+                } else {
+                    head = physical(1);
+                    size--;
+                    index--;
+                }
+            }
+            // shift the newer entries to make room, usually there are none
+            for (int i = size; i > index; i--) {
+                int to = physical(i);
+                int from = physical(i - 1);
+                timestamps[to] = timestamps[from];
+                values[to] = values[from];
+                scales[to] = scales[from];
+            }
+            timestamps[physical(index)] = timestamp;
+            values[physical(index)] = value;
+            scales[physical(index)] = (byte) scale;
+            size++;
+        }
+        trim(maxEntries);
+        return true;
+    }
+
+    /**
+     * Drops the oldest entries until at most <code>maxEntries</code> entries remain.
+     */
+    void trim(long maxEntries) {
+        if (size > maxEntries) {
+            int drop = (int) (size - Math.max(0, maxEntries));
+            head = physical(drop);
+            size -= drop;
+        }
+    }
+
+    /**
+     * Removes all entries within the given time range whose state matches the filter.
+     *
+     * @param begin first timestamp to remove (inclusive)
+     * @param end last timestamp to remove (inclusive)
+     * @param filter the filter for the states, <code>null</code> removes all entries in the range
+     * @return number of removed entries
+     */
+    int remove(long begin, long end, @Nullable Predicate<State> filter) {
+        int from = lowerBound(begin);
+        int to = upperBound(end);
+        int target = from;
+        for (int i = from; i < size; i++) {
+            int source = physical(i);
+            if (i < to && (filter == null || filter.test(toState(values[source], scales[source])))) {
+                continue;
+            }
+            if (target != i) {
+                timestamps[physical(target)] = timestamps[source];
+                values[physical(target)] = values[source];
+                scales[physical(target)] = scales[source];
+            }
+            target++;
+        }
+        int removed = size - target;
+        size = target;
+        return removed;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long timestamp(int index) {
+        return timestamps[physical(index)];
+    }
+
+    double value(int index) {
+        return values[physical(index)];
+    }
+
+    int scale(int index) {
+        return scales[physical(index)];
+    }
+
+    /**
+     * @return index of the first entry with a timestamp not before the given one
+     */
+    int lowerBound(long timestamp) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[physical(mid)] < timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return index of the first entry with a timestamp after the given one
+     */
+    int upperBound(long timestamp) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[physical(mid)] <= timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Copies the timestamps of the entries <code>from</code> (inclusive) to <code>to</code> (exclusive).
+     */
+    long[] copyTimestamps(int from, int to) {
+        long[] copy = new long[to - from];
+        copyRange(timestamps, copy, from, copy.length);
+        return copy;
+    }
+
+    /**
+     * Copies the values of the entries <code>from</code> (inclusive) to <code>to</code> (exclusive).
+     */
+    double[] copyValues(int from, int to) {
+        double[] copy = new double[to - from];
+        copyRange(values, copy, from, copy.length);
+        return copy;
+    }
+
+    /**
+     * Copies the scales of the entries <code>from</code> (inclusive) to <code>to</code> (exclusive).
+     */
+    byte[] copyScales(int from, int to) {
+        byte[] copy = new byte[to - from];
+        copyRange(scales, copy, from, copy.length);
+        return copy;
+    }
+
+    /**
+     * Converts a stored value back to a state of the type and scale that was stored.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    State toState(double value, int scale) {
+        // the value was only accepted if it is exactly representable, so no rounding is needed
+        BigDecimal decimal = BigDecimal.valueOf(value).setScale(scale);
+        Unit<?> unit = this.unit;
+        return unit == null ? new DecimalType(decimal) : new QuantityType(decimal, (Unit) unit);
+    }
+
+    /**
+     * Converts a stored timestamp back to a date in the zone that was stored.
+     */
+    ZonedDateTime toDate(long timestamp) {
+        return ZonedDateTime.ofInstant(Instant.ofEpochSecond(Math.floorDiv(timestamp, NANOS_PER_SECOND),
+                Math.floorMod(timestamp, NANOS_PER_SECOND)), zone);
+    }
+
+    private int physical(int index) {
+        int position = head + index;
+        return position < timestamps.length ? position : position - timestamps.length;
+    }
+
+    /**
+     * Copies <code>length</code> entries starting at <code>from</code> from one of the arrays into the given array.
+     */
+    private void copyRange(Object source, Object target, int from, int length) {
+        int start = physical(from);
+        int firstPart = Math.min(length, timestamps.length - start);
+        System.arraycopy(source, start, target, 0, firstPart);
+        System.arraycopy(source, 0, target, firstPart, length - firstPart);
+    }
+
+    private void grow(int capacity) {
+        long[] newTimestamps = copyTimestamps(0, size);
+        double[] newValues = copyValues(0, size);
+        byte[] newScales = copyScales(0, size);
+        timestamps = new long[capacity];
+        values = new double[capacity];
+        scales = new byte[capacity];
+        System.arraycopy(newTimestamps, 0, timestamps, 0, size);
+        System.arraycopy(newValues, 0, values, 0, size);
+        System.arraycopy(newScales, 0, scales, 0, size);
+        head = 0;
+    }
+}
@@ -16,6 +16,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.Mockito.when;
 
+import java.math.BigDecimal;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
@@ -35,6 +36,7 @@ import org.openhab.core.items.GenericItem;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.HSBType;
 import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
@@ -275,4 +277,67 @@ public class InMemoryPersistenceTests {
 
         // begin date is before first date is already covered by case #1
     }
+
+    @Test
+    public void numericStatesCanBeQueriedByRangeAndState() {
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 0; i < 10; i++) {
+            service.store(item, start.plusHours(i), new QuantityType<>(i + " °C"));
+        }
+
+        filterCriteria.setBeginDate(start.plusHours(2));
+        filterCriteria.setEndDate(start.plusHours(7));
+        filterCriteria.setOperator(FilterCriteria.Operator.GT);
+        filterCriteria.setState(new QuantityType<>("3 °C"));
+        filterCriteria.setOrdering(FilterCriteria.Ordering.DESCENDING);
+
+        List<HistoricItem> result = new ArrayList<>();
+        service.query(filterCriteria).forEach(result::add);
+
+        assertThat(result, hasSize(4));
+        assertThat(result.getFirst().getState(), is(new QuantityType<>("7 °C")));
+        assertThat(result.getFirst().getTimestamp(), is(start.plusHours(7)));
+        assertThat(result.getLast().getState(), is(new QuantityType<>("4 °C")));
+    }
+
+    @Test
+    public void mixedStatesAreKept() {
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        service.store(item, start, new DecimalType(1));
+        service.store(item, start.plusHours(1), new DecimalType(2));
+        service.store(item, start.plusHours(2), new StringType("three"));
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        List<State> result = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> result.add(h.getState()));
+
+        assertThat(result, contains(new DecimalType(1), new DecimalType(2), new StringType("three")));
+    }
+
+    @Test
+    public void numericStatesAreReturnedAsStored() {
+        ZonedDateTime time = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 123_456_789, ZoneId.of("America/New_York"));
+        service.store(item, time, new DecimalType(new BigDecimal("21.50")));
+
+        HistoricItem historicItem = service.query(filterCriteria).iterator().next();
+
+        assertThat(((DecimalType) historicItem.getState()).toBigDecimal(), is(new BigDecimal("21.50")));
+        assertThat(historicItem.getTimestamp(), is(time));
+    }
+
+    @Test
+    public void firstStateIsKeptForTheSameTimestamp() {
+        ZonedDateTime time = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        service.store(item, time, new DecimalType(1));
+        service.store(item, time, new DecimalType(2));
+        assertThat(service.query(filterCriteria).iterator().next().getState(), is(new DecimalType(1)));
+
+        // the same for the generic storage
+        service.store(item, time.plusHours(1), new StringType("one"));
+        service.store(item, time.plusHours(1), new StringType("two"));
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        List<State> result = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> result.add(h.getState()));
+        assertThat(result, contains(new DecimalType(1), new StringType("one")));
+    }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.SIUnits;
+
+/**
+ * The {@link NumericTimeSeriesTest} contains tests for the {@link NumericTimeSeries}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class NumericTimeSeriesTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Berlin");
+
+    private NumericTimeSeries createSeries() {
+        return Objects.requireNonNull(NumericTimeSeries.create(time(0), new DecimalType(0), 100));
+    }
+
+    private static ZonedDateTime time(long epochNanos) {
+        return ZonedDateTime.ofInstant(Instant.EPOCH.plusNanos(epochNanos), ZONE);
+    }
+
+    private static BigDecimal toDecimal(NumericTimeSeries series, int index) {
+        return ((DecimalType) series.toState(series.value(index), series.scale(index))).toBigDecimal();
+    }
+
+    @Test
+    public void onlyNumericStatesAreSupported() {
+        assertThat(NumericTimeSeries.create(time(0), new StringType("1"), 100), is(nullValue()));
+        assertThat(NumericTimeSeries.create(time(0), new PercentType(1), 100), is(nullValue()));
+
+        NumericTimeSeries series = createSeries();
+        assertThat(series.add(time(1), new QuantityType<>("1 °C"), 100), is(false));
+        assertThat(series.add(time(1), new DecimalType(new BigDecimal("0.12345678901234567890")), 100), is(false));
+        assertThat(series.add(time(1), new DecimalType(new BigDecimal("0.1")), 100), is(true));
+        assertThat(series.toState(series.value(0), series.scale(0)), is(new DecimalType(new BigDecimal("0.1"))));
+    }
+
+    @Test
+    public void quantitiesKeepTheirUnit() {
+        QuantityType<?> state = new QuantityType<>(21.5, SIUnits.CELSIUS);
+        NumericTimeSeries series = Objects.requireNonNull(NumericTimeSeries.create(time(0), state, 100));
+
+        assertThat(series.add(time(1), state, 100), is(true));
+        assertThat(series.add(time(2), new QuantityType<>("70 °F"), 100), is(false));
+        assertThat(series.toState(series.value(0), series.scale(0)), is(state));
+    }
+
+    @Test
+    public void entriesAreOrderedByTimestamp() {
+        NumericTimeSeries series = createSeries();
+        series.add(time(30), new DecimalType(3), 100);
+        series.add(time(10), new DecimalType(1), 100);
+        series.add(time(20), new DecimalType(2), 100);
+        // the first value for a timestamp is kept
+        series.add(time(20), new DecimalType(4), 100);
+
+        assertThat(series.size(), is(3));
+        assertThat(series.copyTimestamps(0, 3), is(new long[] { 10, 20, 30 }));
+        assertThat(series.copyValues(0, 3), is(new double[] { 1, 2, 3 }));
+    }
+
+    @Test
+    public void valuesKeepTheirScale() {
+        NumericTimeSeries series = createSeries();
+        series.add(time(1), new DecimalType(new BigDecimal("21.50")), 100);
+        series.add(time(2), new DecimalType(new BigDecimal("1E+3")), 100);
+        series.add(time(3), new DecimalType(20), 100);
+
+        // BigDecimal.equals also compares the scale
+        assertThat(toDecimal(series, 0), is(new BigDecimal("21.50")));
+        assertThat(toDecimal(series, 1), is(new BigDecimal("1E+3")));
+        assertThat(toDecimal(series, 2), is(new BigDecimal(20)));
+        assertThat(series.copyScales(0, 3), is(new byte[] { 2, -3, 0 }));
+    }
+
+    @Test
+    public void timestampsKeepTheirZoneAndPrecision() {
+        NumericTimeSeries series = createSeries();
+        ZonedDateTime timestamp = ZonedDateTime.of(2024, 3, 15, 10, 30, 15, 123_456_789, ZONE);
+
+        assertThat(series.add(timestamp, new DecimalType(1), 100), is(true));
+        assertThat(series.add(timestamp.withZoneSameInstant(ZoneId.of("UTC")), new DecimalType(2), 100), is(false));
+        assertThat(series.toDate(series.timestamp(0)), is(timestamp));
+    }
+
+    @Test
+    public void oldestEntriesAreDroppedWhenFull() {
+        NumericTimeSeries series = createSeries();
+        for (int i = 0; i < 50; i++) {
+            series.add(time(i), new DecimalType(i), 20);
+        }
+        // older than all remaining entries
+        series.add(time(5), new DecimalType(5), 20);
+
+        assertThat(series.size(), is(20));
+        assertThat(series.timestamp(0), is(30L));
+        assertThat(series.timestamp(19), is(49L));
+
+        series.trim(5);
+        assertThat(series.size(), is(5));
+        assertThat(series.value(0), is(45.0));
+    }
+
+    @Test
+    public void rangeLookupUsesInclusiveBounds() {
+        NumericTimeSeries series = createSeries();
+        for (int i = 0; i < 10; i++) {
+            series.add(time(i * 10), new DecimalType(i), 100);
+        }
+
+        assertThat(series.lowerBound(20), is(2));
+        assertThat(series.upperBound(20), is(3));
+        assertThat(series.lowerBound(25), is(3));
+        assertThat(series.upperBound(1000), is(10));
+    }
+
+    @Test
+    public void removeDeletesMatchingEntriesInRange() {
+        NumericTimeSeries series = createSeries();
+        for (int i = 0; i < 10; i++) {
+            series.add(time(i * 10), new DecimalType(i), 100);
+        }
+
+        assertThat(series.remove(20, 60, state -> ((DecimalType) state).intValue() % 2 == 0), is(3));
+        assertThat(series.copyTimestamps(0, series.size()), is(new long[] { 0, 10, 30, 50, 70, 80, 90 }));
+
+        assertThat(series.remove(Long.MIN_VALUE, 30, null), is(3));
+        assertThat(series.copyValues(0, series.size()), is(new double[] { 5, 7, 8, 9 }));
+    }
+}
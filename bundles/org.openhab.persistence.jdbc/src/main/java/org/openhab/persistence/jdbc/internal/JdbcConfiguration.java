@@ -66,6 +66,12 @@ public class JdbcConfiguration {
 
     private int errReconnectThreshold = 0;
 
+    private int writeQueueSize = 10000;
+    private int writeBatchSize = 500;
+    private int writeFlushDelay = 1000;
+    private JdbcWriteQueue.OverflowPolicy writeQueueFullPolicy = JdbcWriteQueue.OverflowPolicy.BLOCK;
+    private int queryFetchSize = 1000;
+
     public int timerCount = 0;
     public int time1000Statements = 0;
     public long timer1000 = 0;
@@ -191,6 +197,41 @@ public class JdbcConfiguration {
             logger.debug("JDBC::updateConfig: rebuildTableNames={}", rebuildTableNames);
         }
 
+        String qs = (String) configuration.get("writeQueueSize");
+        if (qs != null && !qs.isBlank() && isNumericPattern.matcher(qs).matches()) {
+            writeQueueSize = Math.max(1, Integer.parseInt(qs));
+            logger.debug("JDBC::updateConfig: writeQueueSize={}", writeQueueSize);
+        }
+
+        String bs = (String) configuration.get("writeBatchSize");
+        if (bs != null && !bs.isBlank() && isNumericPattern.matcher(bs).matches()) {
+            writeBatchSize = Math.max(1, Integer.parseInt(bs));
+            logger.debug("JDBC::updateConfig: writeBatchSize={}", writeBatchSize);
+        }
+
+        String fl = (String) configuration.get("writeFlushDelay");
+        if (fl != null && !fl.isBlank() && isNumericPattern.matcher(fl).matches()) {
+            writeFlushDelay = Integer.parseInt(fl);
+            logger.debug("JDBC::updateConfig: writeFlushDelay={}", writeFlushDelay);
+        }
+
+        String qp = (String) configuration.get("writeQueueFullPolicy");
+        if (qp != null && !qp.isBlank()) {
+            try {
+                writeQueueFullPolicy = JdbcWriteQueue.OverflowPolicy.valueOf(qp.trim().toUpperCase());
+                logger.debug("JDBC::updateConfig: writeQueueFullPolicy={}", writeQueueFullPolicy);
+            } catch (IllegalArgumentException e) {
+                logger.warn("JDBC::updateConfig: Unknown writeQueueFullPolicy '{}', using '{}'", qp,
+                        writeQueueFullPolicy);
+            }
+        }
+
+        String fs = (String) configuration.get("queryFetchSize");
+        if (fs != null && !fs.isBlank() && isNumericPattern.matcher(fs).matches()) {
+            queryFetchSize = Math.max(1, Integer.parseInt(fs));
+            logger.debug("JDBC::updateConfig: queryFetchSize={}", queryFetchSize);
+        }
+
         // undocumented
         String ac = (String) configuration.get("maximumPoolSize");
         if (ac != null && !ac.isBlank()) {
@@ -404,6 +445,26 @@ public class JdbcConfiguration {
         return tableIdDigitCount;
     }
 
+    public int getWriteQueueSize() {
+        return writeQueueSize;
+    }
+
+    public int getWriteBatchSize() {
+        return writeBatchSize;
+    }
+
+    public int getWriteFlushDelay() {
+        return writeFlushDelay;
+    }
+
+    public JdbcWriteQueue.OverflowPolicy getWriteQueueFullPolicy() {
+        return writeQueueFullPolicy;
+    }
+
+    public int getQueryFetchSize() {
+        return queryFetchSize;
+    }
+
     public JdbcBaseDAO getDBDAO() {
         return dBDAO;
     }
@@ -427,6 +488,7 @@ public class JdbcConfiguration {
         dBDAO.initAfterFirstDbConnection();
         // Running once again to prior external configured SqlTypes!
         setSqlTypes();
+        dBDAO.clearSqlCache();
         this.dbConnected = dbConnected;
     }
 
@@ -39,6 +39,7 @@ import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
 import org.openhab.persistence.jdbc.internal.dto.JdbcPersistenceItemInfo;
+import org.openhab.persistence.jdbc.internal.dto.JdbcStoreRequest;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.slf4j.Logger;
@@ -215,20 +216,25 @@ public class JdbcMapper {
         logTime("alterTableColumn", timerStart, System.currentTimeMillis());
     }
 
-    protected void storeItemValue(Item item, State itemState, @Nullable ZonedDateTime date, @Nullable String alias)
+    protected void storeItemValue(Item item, State itemState, ZonedDateTime date, @Nullable String alias)
             throws JdbcException {
         logger.debug("JDBC::storeItemValue: item={} state={} date={}", item, itemState, date);
         String tableName = getTable(item, alias);
         long timerStart = System.currentTimeMillis();
-        if (date == null) {
-            conf.getDBDAO().doStoreItemValue(item, itemState, new ItemVO(tableName, null));
-        } else {
-            conf.getDBDAO().doStoreItemValue(item, itemState, new ItemVO(tableName, null), date);
-        }
+        conf.getDBDAO().doStoreItemValue(item, itemState, new ItemVO(tableName, null), date);
         logTime("storeItemValue", timerStart, System.currentTimeMillis());
         errCnt = 0;
     }
 
+    protected int storeItemValues(Map<String, List<JdbcStoreRequest>> requestsByTable) throws JdbcSQLException {
+        logger.debug("JDBC::storeItemValues: tables={}", requestsByTable.size());
+        long timerStart = System.currentTimeMillis();
+        int rows = conf.getDBDAO().doStoreItemValues(requestsByTable);
+        logTime("storeItemValues", timerStart, System.currentTimeMillis());
+        errCnt = 0;
+        return rows;
+    }
+
     public long getRowCount(String tableName) throws JdbcSQLException {
         return conf.getDBDAO().doGetRowCount(tableName);
     }
@@ -246,6 +252,17 @@ public class JdbcMapper {
         return result;
     }
 
+    /**
+     * Like {@link #getHistItemFilterQuery}, but the result is read from the database while it is iterated.
+     */
+    protected Iterable<HistoricItem> streamHistItemFilterQuery(FilterCriteria filter, int numberDecimalcount,
+            String table, Item item) {
+        logger.debug("JDBC::streamHistItemFilterQuery filter='{}' numberDecimalcount='{}' table='{}' itemName='{}'",
+                filter, numberDecimalcount, table, item.getName());
+        return conf.getDBDAO().doStreamHistItemFilterQuery(item, filter, numberDecimalcount, table, item.getName(),
+                timeZoneProvider.getTimeZone(), conf.getQueryFetchSize());
+    }
+
     protected void deleteItemValues(FilterCriteria filter, String table) throws JdbcSQLException {
         logger.debug("JDBC::deleteItemValues filter='{}' table='{}' itemName='{}'", true, table, filter.getItemName());
         long timerStart = System.currentTimeMillis();
@@ -16,6 +16,7 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -30,6 +31,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.i18n.TimeZoneProvider;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
@@ -43,9 +45,12 @@ import org.openhab.core.persistence.QueryablePersistenceService;
 import org.openhab.core.persistence.strategy.PersistenceStrategy;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
+import org.openhab.io.metrics.internal.meters.PersistenceMeters;
 import org.openhab.persistence.jdbc.internal.db.JdbcBaseDAO;
+import org.openhab.persistence.jdbc.internal.db.JdbcHistoricItemIterable;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
+import org.openhab.persistence.jdbc.internal.dto.JdbcStoreRequest;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.osgi.framework.BundleContext;
@@ -54,6 +59,8 @@ import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -77,6 +84,12 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
             new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID));
 
+    private @Nullable JdbcWriteQueue writeQueue;
+    private final PersistenceMeters meters = new PersistenceMeters(JdbcPersistenceServiceConstants.SERVICE_ID, () -> {
+        JdbcWriteQueue writeQueue = this.writeQueue;
+        return writeQueue == null ? 0 : writeQueue.getQueueDepth();
+    });
+
     @Activate
     public JdbcPersistenceService(final @Reference ItemRegistry itemRegistry,
             final @Reference TimeZoneProvider timeZoneProvider) {
@@ -98,6 +111,8 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     public void activate(BundleContext bundleContext, Map<Object, Object> configuration) {
         logger.debug("JDBC::activate: persistence service activated");
         updateConfig(configuration);
+        writeQueue = new JdbcWriteQueue(scheduler, this::internalStore, conf.getWriteQueueSize(),
+                conf.getWriteBatchSize(), conf.getWriteFlushDelay(), conf.getWriteQueueFullPolicy());
     }
 
     /**
@@ -120,10 +135,25 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     @Deactivate
     public void deactivate(final int reason) {
         logger.debug("JDBC::deactivate:  persistence bundle stopping. Disconnecting from database. reason={}", reason);
+        JdbcWriteQueue writeQueue = this.writeQueue;
+        if (writeQueue != null) {
+            // Write what is still queued before the connection goes away
+            writeQueue.close();
+            this.writeQueue = null;
+        }
         // closeConnection();
         initialized = false;
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        meters.bind(meterRegistryProvider.getOHMeterRegistry());
+    }
+
+    void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        meters.unbind();
+    }
+
     @Override
     public String getId() {
         logger.debug("JDBC::getName: returning name 'jdbc' for queryable persistence service.");
@@ -137,47 +167,112 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
     @Override
     public void store(Item item) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), null));
+        enqueue(item, ZonedDateTime.now(), item.getState(), null);
     }
 
     @Override
     public void store(Item item, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), alias));
+        enqueue(item, ZonedDateTime.now(), item.getState(), alias);
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state) {
-        scheduler.execute(() -> internalStore(item, date, state, null));
+        enqueue(item, date, state, null);
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, date, state, alias));
+        enqueue(item, date, state, alias);
     }
 
-    private synchronized void internalStore(Item item, @Nullable ZonedDateTime date, State state,
-            @Nullable String alias) {
+    private void enqueue(Item item, ZonedDateTime date, State state, @Nullable String alias) {
         // Do not store undefined/uninitialized data
         if (state instanceof UnDefType) {
             logger.debug("JDBC::store: ignore Item '{}' because it is UnDefType", item.getName());
             return;
         }
-        if (!checkDBAccessability()) {
-            logger.warn(
-                    "JDBC::store: No connection to database. Cannot persist state '{}' for item '{}'! Will retry connecting to database when error count:{} equals errReconnectThreshold:{}",
-                    state, item, errCnt, conf.getErrReconnectThreshold());
+        JdbcWriteQueue writeQueue = this.writeQueue;
+        if (writeQueue == null) {
+            logger.warn("JDBC::store: Service is not active. Cannot persist state '{}' for item '{}'!", state,
+                    item.getName());
             return;
         }
+        writeQueue.enqueue(new JdbcStoreRequest(item, state, date, alias));
+    }
+
+    private List<JdbcStoreRequest> internalStore(List<JdbcStoreRequest> requests) {
+        if (!checkDBAccessability()) {
+            logger.debug(
+                    "JDBC::store: No connection to database. Cannot persist {} states yet! Will retry connecting to database when error count:{} equals errReconnectThreshold:{}",
+                    requests.size(), errCnt, conf.getErrReconnectThreshold());
+            return requests;
+        }
+        Map<String, List<JdbcStoreRequest>> requestsByTable = new LinkedHashMap<>();
+        List<JdbcStoreRequest> unwritten = new ArrayList<>();
+        for (JdbcStoreRequest request : requests) {
+            try {
+                String tableName = getTable(request.item(), request.alias());
+                requestsByTable.computeIfAbsent(tableName, t -> new ArrayList<>()).add(request);
+            } catch (JdbcException e) {
+                if (e instanceof JdbcSQLException sqlException && sqlException.isConnectionError()) {
+                    unwritten.add(request);
+                } else {
+                    logger.warn("JDBC::store: Unable to store item", e);
+                }
+            }
+        }
+        if (requestsByTable.isEmpty()) {
+            return unwritten;
+        }
+        long storeStart = System.nanoTime();
         try {
-            long timerStart = System.currentTimeMillis();
-            storeItemValue(item, state, date, alias);
+            int rows = storeItemValues(requestsByTable);
             if (logger.isDebugEnabled()) {
-                logger.debug("JDBC: Stored item '{}' as '{}' in SQL database at {} in {} ms.", item.getName(), state,
-                        new Date(), System.currentTimeMillis() - timerStart);
+                logger.debug("JDBC: Stored {} values for {} items in SQL database at {} in {} ms.", rows,
+                        requestsByTable.size(), new Date(), (System.nanoTime() - storeStart) / 1_000_000);
             }
         } catch (JdbcException e) {
-            logger.warn("JDBC::store: Unable to store item", e);
+            if (e instanceof JdbcSQLException sqlException && sqlException.isConnectionError()) {
+                // Do not try the values one by one against a database which cannot be reached
+                logger.debug("JDBC::store: Lost connection while storing {} values: {}", requests.size(),
+                        e.getMessage());
+                requestsByTable.values().forEach(unwritten::addAll);
+                return unwritten;
+            }
+            // Store one by one, so a single failing value does not prevent the others from being stored
+            logger.debug("JDBC::store: Batch of {} values failed, storing them one by one: {}", requests.size(),
+                    e.getMessage());
+            for (List<JdbcStoreRequest> tableRequests : requestsByTable.values()) {
+                for (JdbcStoreRequest request : tableRequests) {
+                    try {
+                        storeItemValue(request.item(), request.state(), request.date(), request.alias());
+                    } catch (JdbcException e1) {
+                        logger.warn("JDBC::store: Unable to store item", e1);
+                    }
+                }
+            }
+        } finally {
+            meters.recordStore(storeStart);
         }
+        return unwritten;
+    }
+
+    /**
+     * Writes queued states, so that queries and removals see them. While the database cannot be reached, the queued
+     * states are written by the pending retry instead, so the caller is not blocked by a failing write.
+     */
+    private void flushWriteQueue() {
+        JdbcWriteQueue writeQueue = this.writeQueue;
+        if (writeQueue != null && !writeQueue.isRetryPending()) {
+            writeQueue.flush();
+        }
+    }
+
+    /**
+     * Get the write queue, if the service is active.
+     */
+    public @Nullable JdbcWriteQueue getWriteQueue() {
+        return writeQueue;
     }
 
     @Override
@@ -220,6 +315,7 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
             logger.warn("JDBC::query: database not connected, query aborted for item '{}'", filter.getItemName());
             return List.of();
         }
+        flushWriteQueue();
 
         // Get the item name from the filter
         // Also get the Item object so we can determine the type
@@ -259,20 +355,12 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
             return List.of();
         }
 
-        try {
-            long timerStart = System.currentTimeMillis();
-            List<HistoricItem> items = getHistItemFilterQuery(filter, conf.getNumberDecimalcount(), table, item);
-            if (logger.isDebugEnabled()) {
-                logger.debug("JDBC: Query for item '{}' returned {} rows in {} ms", itemName, items.size(),
-                        System.currentTimeMillis() - timerStart);
-            }
-            // Success
-            errCnt = 0;
-            return items;
-        } catch (JdbcSQLException e) {
-            logger.warn("JDBC::query: Unable to query item", e);
-            return List.of();
+        // rows are read from the database while the result is iterated, so memory use does not depend on its size
+        Iterable<HistoricItem> result = streamHistItemFilterQuery(filter, conf.getNumberDecimalcount(), table, item);
+        if (result instanceof JdbcHistoricItemIterable pages) {
+            pages.withPageQueryListener(meters::recordQuery);
         }
+        return result;
     }
 
     private void updateConfig(Map<Object, Object> configuration) {
@@ -307,6 +395,7 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
             logger.warn("JDBC::remove: database not connected, remove aborted for item '{}'", filter.getItemName());
             return false;
         }
+        flushWriteQueue();
 
         // Get the item name from the filter
         // Also get the Item object so we can determine the type
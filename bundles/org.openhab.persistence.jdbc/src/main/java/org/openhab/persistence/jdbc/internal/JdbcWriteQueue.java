@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.persistence.jdbc.internal.dto.JdbcStoreRequest;
+import org.openhab.persistence.jdbc.internal.utils.MovingAverage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded write-ahead queue for store requests.
+ *
+ * Requests are flushed in batches of up to <code>batchSize</code> entries. A flush is triggered by the first
+ * request after the previous flush, optionally delayed to collect more requests, or immediately when a full batch is
+ * waiting. While a flush is running, new requests accumulate and are written by the next flush, so batches grow
+ * with the load without adding latency when idle. While the database cannot be reached, the requests which were not
+ * written are kept and written again later, waiting up to a minute between attempts.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcWriteQueue {
+
+    /**
+     * What to do with a store request when the queue is full.
+     */
+    public enum OverflowPolicy {
+        /** Block the caller until there is space in the queue, unless the database cannot be reached. */
+        BLOCK,
+        /** Discard the request. */
+        DROP
+    }
+
+    /**
+     * Writes a batch of store requests to the database.
+     */
+    @FunctionalInterface
+    public interface BatchWriter {
+        /**
+         * @param requests the requests to write
+         * @return the requests which have not been written because the database could not be reached, they are
+         *         written again later
+         */
+        List<JdbcStoreRequest> write(List<JdbcStoreRequest> requests);
+    }
+
+    private static final long MIN_RETRY_DELAY_MS = 1000;
+    private static final long MAX_RETRY_DELAY_MS = 60000;
+
+    private final Logger logger = LoggerFactory.getLogger(JdbcWriteQueue.class);
+
+    private final BlockingQueue<JdbcStoreRequest> queue;
+    private final ScheduledExecutorService scheduler;
+    private final BatchWriter batchWriter;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushDelay;
+    private final OverflowPolicy overflowPolicy;
+
+    private final AtomicBoolean flushPending = new AtomicBoolean();
+    // set while an immediate flush for a full batch is submitted, but not started yet
+    private final AtomicBoolean fullBatchFlushPending = new AtomicBoolean();
+    private final Object flushLock = new Object();
+    // requests of a failed attempt, written first by the next flush
+    private volatile List<JdbcStoreRequest> retryRequests = List.of();
+
+    // retry state, guarded by this
+    private @Nullable ScheduledFuture<?> retryJob;
+    private boolean retryPending;
+    private long retryDelay = MIN_RETRY_DELAY_MS;
+    private boolean closed;
+
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong flushedCount = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private volatile long lastFlushTime;
+    private volatile long maxFlushTime;
+    private final MovingAverage flushTimeAverage = new MovingAverage(100);
+
+    /**
+     * @param scheduler executor used for flushing
+     * @param batchWriter writes a batch of requests to the database
+     * @param capacity maximum number of pending requests
+     * @param batchSize maximum number of requests passed to the flush handler at once
+     * @param flushDelay time in milliseconds to wait for more requests before flushing a batch which is not full
+     * @param overflowPolicy what to do when the queue is full
+     */
+    public JdbcWriteQueue(ScheduledExecutorService scheduler, BatchWriter batchWriter, int capacity, int batchSize,
+            long flushDelay, OverflowPolicy overflowPolicy) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.scheduler = scheduler;
+        this.batchWriter = batchWriter;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushDelay = flushDelay;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Adds a request to the queue and schedules a flush if none is pending.
+     *
+     * @param request the request to add
+     * @return true if the request was queued, false if it was dropped
+     */
+    public boolean enqueue(JdbcStoreRequest request) {
+        // do not block the caller until the database can be reached again
+        if (overflowPolicy == OverflowPolicy.BLOCK && !isRetryPending()) {
+            try {
+                queue.put(request);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                droppedCount.incrementAndGet();
+                return false;
+            }
+        } else if (!queue.offer(request)) {
+            if (droppedCount.getAndIncrement() % capacity == 0) {
+                logger.warn("JDBC::store: Write queue is full ({} entries), dropping states. Dropped so far: {}",
+                        capacity, droppedCount.get());
+            }
+            return false;
+        }
+        enqueuedCount.incrementAndGet();
+        scheduleFlush();
+        return true;
+    }
+
+    private void scheduleFlush() {
+        if (isRetryPending()) {
+            // the pending retry writes the queue once the database can be reached again
+            return;
+        }
+        if (flushPending.compareAndSet(false, true)) {
+            if (flushDelay > 0 && queue.size() < batchSize) {
+                scheduler.schedule(this::flush, flushDelay, TimeUnit.MILLISECONDS);
+                return;
+            }
+            fullBatchFlushPending.set(true);
+            scheduler.execute(this::flush);
+        } else if (queue.size() >= batchSize && fullBatchFlushPending.compareAndSet(false, true)) {
+            // a full batch must not wait for the delayed flush which is already scheduled
+            scheduler.execute(this::flush);
+        }
+    }
+
+    /**
+     * Writes all pending requests in batches of at most <code>batchSize</code>.
+     *
+     * @return false if requests could not be written because the database cannot be reached, they are kept and
+     *         written again later
+     */
+    public boolean flush() {
+        flushPending.set(false);
+        fullBatchFlushPending.set(false);
+        synchronized (flushLock) {
+            List<JdbcStoreRequest> batch = new ArrayList<>(retryRequests);
+            retryRequests = List.of();
+            if (batch.isEmpty()) {
+                queue.drainTo(batch, batchSize);
+            }
+            while (!batch.isEmpty()) {
+                long timerStart = System.currentTimeMillis();
+                List<JdbcStoreRequest> unwritten = List.of();
+                try {
+                    unwritten = batchWriter.write(batch);
+                } catch (RuntimeException e) {
+                    logger.warn("JDBC::flush: Failed to store {} queued states", batch.size(), e);
+                }
+                long duration = System.currentTimeMillis() - timerStart;
+                lastFlushTime = duration;
+                maxFlushTime = Math.max(maxFlushTime, duration);
+                synchronized (flushTimeAverage) {
+                    flushTimeAverage.add(duration);
+                }
+                flushedCount.addAndGet(batch.size() - unwritten.size());
+                flushCount.incrementAndGet();
+                if (!unwritten.isEmpty()) {
+                    retryRequests = List.copyOf(unwritten);
+                    retryLater(unwritten.size());
+                    return false;
+                }
+                logger.debug("JDBC::flush: Flushed {} queued states in {} ms, {} remaining", batch.size(), duration,
+                        queue.size());
+                batch.clear();
+                queue.drainTo(batch, batchSize);
+            }
+        }
+        boolean retried;
+        synchronized (this) {
+            retried = retryPending;
+            retryPending = false;
+            retryDelay = MIN_RETRY_DELAY_MS;
+        }
+        if (retried && !queue.isEmpty()) {
+            // requests queued while the retry was pending did not schedule a flush
+            scheduleFlush();
+        }
+        return true;
+    }
+
+    private synchronized void retryLater(int unwritten) {
+        if (closed) {
+            logger.warn("JDBC::flush: No connection to database. {} queued states are lost.", unwritten + queue.size());
+            retryRequests = List.of();
+            queue.clear();
+            return;
+        }
+        logger.warn("JDBC::flush: No connection to database. Writing {} queued states again in {} ms.", unwritten,
+                retryDelay);
+        try {
+            retryJob = scheduler.schedule(this::flush, retryDelay, TimeUnit.MILLISECONDS);
+            retryPending = true;
+            retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY_MS);
+        } catch (RejectedExecutionException e) {
+            logger.debug("JDBC::flush: Retry of write queue rejected: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Stops retrying and writes the remaining requests.
+     */
+    public void close() {
+        ScheduledFuture<?> job;
+        synchronized (this) {
+            closed = true;
+            retryPending = false;
+            job = retryJob;
+        }
+        if (job != null) {
+            job.cancel(false);
+        }
+        flush();
+    }
+
+    /**
+     * @return true while requests are kept because the database could not be reached
+     */
+    public synchronized boolean isRetryPending() {
+        return retryPending;
+    }
+
+    /**
+     * @return number of requests waiting to be written, including those waiting for a retry
+     */
+    public int getQueueDepth() {
+        return queue.size() + retryRequests.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getEnqueuedCount() {
+        return enqueuedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getFlushedCount() {
+        return flushedCount.get();
+    }
+
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    /**
+     * @return duration of the last flush in milliseconds
+     */
+    public long getLastFlushTime() {
+        return lastFlushTime;
+    }
+
+    /**
+     * @return longest flush duration in milliseconds
+     */
+    public long getMaxFlushTime() {
+        return maxFlushTime;
+    }
+
+    /**
+     * @return average duration of the last 100 flushes in milliseconds
+     */
+    public double getAverageFlushTime() {
+        synchronized (flushTimeAverage) {
+            return flushTimeAverage.getAverageDouble();
+        }
+    }
+}
@@ -33,6 +33,7 @@ import org.openhab.persistence.jdbc.internal.ItemTableCheckEntry;
 import org.openhab.persistence.jdbc.internal.ItemTableCheckEntryStatus;
 import org.openhab.persistence.jdbc.internal.JdbcPersistenceService;
 import org.openhab.persistence.jdbc.internal.JdbcPersistenceServiceConstants;
+import org.openhab.persistence.jdbc.internal.JdbcWriteQueue;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -50,6 +51,7 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
     private static final String CMD_SCHEMA = "schema";
     private static final String CMD_TABLES = "tables";
     private static final String CMD_RELOAD = "reload";
+    private static final String CMD_QUEUE = "queue";
     private static final String SUBCMD_SCHEMA_CHECK = "check";
     private static final String SUBCMD_SCHEMA_FIX = "fix";
     private static final String SUBCMD_TABLES_LIST = "list";
@@ -57,7 +59,7 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
     private static final String PARAMETER_ALL = "all";
     private static final String PARAMETER_FORCE = "force";
     private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(
-            List.of(CMD_SCHEMA, CMD_TABLES, CMD_RELOAD), false);
+            List.of(CMD_SCHEMA, CMD_TABLES, CMD_RELOAD, CMD_QUEUE), false);
     private static final StringsCompleter SUBCMD_SCHEMA_COMPLETER = new StringsCompleter(
             List.of(SUBCMD_SCHEMA_CHECK, SUBCMD_SCHEMA_FIX), false);
     private static final StringsCompleter SUBCMD_TABLES_COMPLETER = new StringsCompleter(
@@ -134,6 +136,9 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
         } else if (args.length == 1 && CMD_RELOAD.equalsIgnoreCase(args[0])) {
             reload(persistenceService, console);
             return true;
+        } else if (args.length == 1 && CMD_QUEUE.equalsIgnoreCase(args[0])) {
+            printQueueStatistics(persistenceService, console);
+            return true;
         }
         return false;
     }
@@ -249,6 +254,22 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
         console.println("Item index reloaded.");
     }
 
+    private void printQueueStatistics(JdbcPersistenceService persistenceService, Console console) {
+        JdbcWriteQueue writeQueue = persistenceService.getWriteQueue();
+        if (writeQueue == null) {
+            console.println("Write queue is not active.");
+            return;
+        }
+        console.println(String.format("Queue depth:        %d/%d", writeQueue.getQueueDepth(),
+                writeQueue.getCapacity()));
+        console.println(String.format("Queued states:      %d", writeQueue.getEnqueuedCount()));
+        console.println(String.format("Dropped states:     %d", writeQueue.getDroppedCount()));
+        console.println(String.format("Flushed states:     %d", writeQueue.getFlushedCount()));
+        console.println(String.format("Flushes:            %d", writeQueue.getFlushCount()));
+        console.println(String.format("Flush latency:      last %d ms, avg %.2f ms, max %d ms",
+                writeQueue.getLastFlushTime(), writeQueue.getAverageFlushTime(), writeQueue.getMaxFlushTime()));
+    }
+
     @Override
     public List<String> getUsages() {
         return Arrays.asList(buildCommandUsage(CMD_SCHEMA + " " + SUBCMD_SCHEMA_CHECK, "check schema integrity"),
@@ -258,7 +279,8 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
                 buildCommandUsage(
                         CMD_TABLES + " " + SUBCMD_TABLES_CLEAN + " [<itemName>]" + " [" + PARAMETER_FORCE + "]",
                         "clean inconsistent items (remove from index and drop tables)"),
-                buildCommandUsage(CMD_RELOAD, "reload item index/schema"));
+                buildCommandUsage(CMD_RELOAD, "reload item index/schema"),
+                buildCommandUsage(CMD_QUEUE, "show write queue statistics"));
     }
 
     @Override
@@ -13,17 +13,25 @@
 package org.openhab.persistence.jdbc.internal.db;
 
 import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import javax.measure.Quantity;
@@ -60,6 +68,7 @@ import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
 import org.openhab.persistence.jdbc.internal.dto.JdbcHistoricItem;
+import org.openhab.persistence.jdbc.internal.dto.JdbcStoreRequest;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.openhab.persistence.jdbc.internal.utils.DbMetaData;
 import org.openhab.persistence.jdbc.internal.utils.StringUtilsExt;
@@ -79,6 +88,11 @@ public class JdbcBaseDAO {
     protected String urlSuffix = "";
     public final Map<String, String> sqlTypes = new HashMap<>();
 
+    // Rendered statements only contain placeholders for values, so they can be reused per table. Stable SQL strings
+    // also let the driver and the database reuse their prepared statements on each pooled connection.
+    private final Map<String, String> insertSqlCache = new ConcurrentHashMap<>();
+    private final Map<String, String> querySqlCache = new ConcurrentHashMap<>();
+
     // Get Database Meta data
     protected @Nullable DbMetaData dbMeta;
 
@@ -246,6 +260,14 @@ public class JdbcBaseDAO {
         dbMeta = new DbMetaData();// get DB information
     }
 
+    /**
+     * Discards the cached statements, e.g. after SQL templates or types have been changed.
+     */
+    public void clearSqlCache() {
+        insertSqlCache.clear();
+        querySqlCache.clear();
+    }
+
     public Properties getConnectionProperties() {
         Properties properties = new Properties(databaseProps.size());
         properties.putAll(databaseProps);
@@ -430,13 +452,11 @@ public class JdbcBaseDAO {
         }
     }
 
-    public void doStoreItemValue(Item item, State itemState, ItemVO vo) throws JdbcSQLException {
+    public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
         ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
-                new String[] { "#tableName#", "#tablePrimaryValue#" },
-                new String[] { formattedIdentifier(storedVO.getTableName()), sqlTypes.get("tablePrimaryValue") });
-        Object[] params = { storedVO.getValue(), storedVO.getValue() };
-        logger.debug("JDBC::doStoreItemValue sql={} value='{}'", sql, storedVO.getValue());
+        String sql = getStoreItemValueSql(storedVO);
+        Object[] params = storeItemValueParamsProvider(storedVO, date);
+        logger.debug("JDBC::doStoreItemValue sql={} date={} value='{}'", sql, date, storedVO.getValue());
         try {
             Yank.execute(sql, params);
         } catch (YankSQLException e) {
@@ -444,28 +464,68 @@ public class JdbcBaseDAO {
         }
     }
 
-    public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
-        ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
-                new String[] { "#tableName#", "#tablePrimaryValue#" },
-                new String[] { formattedIdentifier(storedVO.getTableName()), "?" });
-        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
-        Object[] params = { timestamp, storedVO.getValue(), storedVO.getValue() };
-        logger.debug("JDBC::doStoreItemValue sql={} timestamp={} value='{}'", sql, timestamp, storedVO.getValue());
-        try {
-            Yank.execute(sql, params);
-        } catch (YankSQLException e) {
+    /**
+     * Stores a batch of values in a single transaction. Values for the same table are sent as one JDBC batch, which
+     * drivers supporting it (e.g. MySQL, PostgreSQL) rewrite into multi-row inserts.
+     *
+     * @param requestsByTable queued store requests grouped by item table
+     * @return number of rows written
+     * @throws JdbcSQLException on SQL errors, in which case the whole batch has been rolled back
+     */
+    public int doStoreItemValues(Map<String, List<JdbcStoreRequest>> requestsByTable) throws JdbcSQLException {
+        // A later value for the same timestamp replaces an earlier one, as the upsert of a single store would do.
+        // This also prevents rewritten multi-row upserts from touching the same row twice.
+        Map<String, Map<Long, Object[]>> batches = new LinkedHashMap<>();
+        for (Entry<String, List<JdbcStoreRequest>> entry : requestsByTable.entrySet()) {
+            for (JdbcStoreRequest request : entry.getValue()) {
+                ItemVO storedVO = storeItemValueProvider(request.item(), request.state(),
+                        new ItemVO(entry.getKey(), null));
+                String sql = getStoreItemValueSql(storedVO);
+                Object[] params = storeItemValueParamsProvider(storedVO, request.date());
+                batches.computeIfAbsent(sql, k -> new LinkedHashMap<>()).put(request.date().toInstant().toEpochMilli(),
+                        params);
+            }
+        }
+        logger.debug("JDBC::doStoreItemValues tables={} statements={}", requestsByTable.size(), batches.size());
+
+        int rows = 0;
+        try (Connection connection = Yank.getDefaultConnectionPool().getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                for (Entry<String, Map<Long, Object[]>> batch : batches.entrySet()) {
+                    try (PreparedStatement statement = connection.prepareStatement(batch.getKey())) {
+                        for (Object[] params : batch.getValue().values()) {
+                            for (int i = 0; i < params.length; i++) {
+                                statement.setObject(i + 1, params[i]);
+                            }
+                            statement.addBatch();
+                        }
+                        statement.executeBatch();
+                    }
+                    rows += batch.getValue().size();
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
             throw new JdbcSQLException(e);
         }
+        return rows;
     }
 
     public List<HistoricItem> doGetHistItemFilterQuery(Item item, FilterCriteria filter, int numberDecimalcount,
             String table, String name, ZoneId timeZone) throws JdbcSQLException {
-        String sql = histItemFilterQueryProvider(filter, numberDecimalcount, table, name, timeZone);
-        logger.debug("JDBC::doGetHistItemFilterQuery sql={}", sql);
+        String sql = getHistItemFilterQuerySql(filter, numberDecimalcount, table, name, timeZone);
+        Object[] params = histItemFilterParamsProvider(filter, timeZone, true);
+        logger.debug("JDBC::doGetHistItemFilterQuery sql={} params={}", sql, params);
         List<Object[]> m;
         try {
-            m = Yank.queryObjectArrays(sql, null);
+            m = Yank.queryObjectArrays(sql, params);
         } catch (YankSQLException e) {
             throw new JdbcSQLException(e);
         }
@@ -481,11 +541,92 @@ public class JdbcBaseDAO {
                 .collect(Collectors.<HistoricItem> toList());
     }
 
+    /**
+     * Queries the history of an item like {@link #doGetHistItemFilterQuery}, but returns a lazy result, which is read
+     * from the database in pages while it is iterated.
+     *
+     * @param fetchSize number of rows read from the database at once
+     */
+    public Iterable<HistoricItem> doStreamHistItemFilterQuery(Item item, FilterCriteria filter, int numberDecimalcount,
+            String table, String name, ZoneId timeZone, int fetchSize) {
+        // the first page is read with the paged statement, bound to the offset of the filter, every following page
+        // with the keyset statement, bound to the time of the last row read
+        String sql = getHistItemFilterQuerySql(pagedFilter(filter, fetchSize), numberDecimalcount, table, name,
+                timeZone);
+        String keysetSql = getHistItemFilterQuerySql(new KeysetFilterCriteria(filter, fetchSize), numberDecimalcount,
+                table, name, timeZone);
+        Object[] filterParams = histItemFilterParamsProvider(filter, timeZone, false);
+        int offset = filter.getPageSize() != Integer.MAX_VALUE ? filter.getPageNumber() * filter.getPageSize() : 0;
+        // we already retrieve the unit here once as it is a very costly operation
+        String itemName = item.getName();
+        Unit<? extends Quantity<?>> unit = item instanceof NumberItem numberItem ? numberItem.getUnit() : null;
+        return new JdbcHistoricItemIterable((after, pageSize) -> {
+            String pageSql = after == null ? sql : keysetSql;
+            Object[] params = after == null ? appendParams(filterParams, offset, pageSize)
+                    : appendParams(filterParams, after, 0, pageSize);
+            logger.debug("JDBC::doStreamHistItemFilterQuery sql={} params={}", pageSql, params);
+            return queryRows(pageSql, params);
+        }, filter.getPageSize(), fetchSize, (time, value) -> new JdbcHistoricItem(itemName,
+                objectAsState(item, unit, value), objectAsInstant(time)));
+    }
+
+    private String getHistItemFilterQuerySql(FilterCriteria filter, int numberDecimalcount, String table, String name,
+            ZoneId timeZone) {
+        String key = table + "|" + name + "|" + numberDecimalcount + "|" + (filter.getBeginDate() != null) + "|"
+                + (filter.getEndDate() != null) + "|" + filter.getOrdering() + "|"
+                + (filter.getPageSize() != Integer.MAX_VALUE) + "|" + (filter instanceof KeysetFilterCriteria);
+        return querySqlCache.computeIfAbsent(key,
+                k -> histItemFilterQueryProvider(filter, numberDecimalcount, table, name, timeZone));
+    }
+
+    /**
+     * Copies the parts of a filter which are rendered into the query statement, with paging enabled.
+     */
+    private static FilterCriteria pagedFilter(FilterCriteria filter, int pageSize) {
+        if (filter.getPageSize() != Integer.MAX_VALUE) {
+            return filter;
+        }
+        FilterCriteria paged = new FilterCriteria();
+        paged.setBeginDate(filter.getBeginDate());
+        paged.setEndDate(filter.getEndDate());
+        paged.setOrdering(filter.getOrdering());
+        paged.setPageSize(pageSize);
+        return paged;
+    }
+
+    /**
+     * Copies the parts of a filter which are rendered into the query statement, with paging enabled and restricted to
+     * the rows behind a time bound, see {@link #resolveTimeFilter(FilterCriteria, ZoneId)}.
+     */
+    static class KeysetFilterCriteria extends FilterCriteria {
+        KeysetFilterCriteria(FilterCriteria filter, int pageSize) {
+            setBeginDate(filter.getBeginDate());
+            setEndDate(filter.getEndDate());
+            setOrdering(filter.getOrdering());
+            setPageSize(pageSize);
+        }
+    }
+
+    private static Object[] appendParams(Object[] params, Object... additionalParams) {
+        Object[] allParams = Arrays.copyOf(params, params.length + additionalParams.length);
+        System.arraycopy(additionalParams, 0, allParams, params.length, additionalParams.length);
+        return allParams;
+    }
+
+    private List<Object[]> queryRows(String sql, Object[] params) throws JdbcSQLException {
+        try {
+            return Objects.requireNonNullElse(Yank.queryObjectArrays(sql, params), List.of());
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+    }
+
     public void doDeleteItemValues(FilterCriteria filter, String table, ZoneId timeZone) throws JdbcSQLException {
         String sql = histItemFilterDeleteProvider(filter, table, timeZone);
-        logger.debug("JDBC::doDeleteItemValues sql={}", sql);
+        Object[] params = histItemFilterParamsProvider(filter, timeZone, false);
+        logger.debug("JDBC::doDeleteItemValues sql={} params={}", sql, params);
         try {
-            Yank.execute(sql, null);
+            Yank.execute(sql, params);
         } catch (YankSQLException e) {
             throw new JdbcSQLException(e);
         }
@@ -508,6 +649,10 @@ public class JdbcBaseDAO {
      *************/
     static final DateTimeFormatter JDBC_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
+    /**
+     * Renders the query statement for a filter. Time bounds and paging must be rendered as placeholders, see
+     * {@link #histItemFilterParamsProvider(FilterCriteria, ZoneId, boolean)}, as the statement is cached per table.
+     */
     protected String histItemFilterQueryProvider(FilterCriteria filter, int numberDecimalcount, String table,
             String simpleName, ZoneId timeZone) {
         logger.debug(
@@ -517,9 +662,9 @@ public class JdbcBaseDAO {
         String filterString = resolveTimeFilter(filter, timeZone);
         filterString += (filter.getOrdering() == Ordering.ASCENDING) ? " ORDER BY time ASC" : " ORDER BY time DESC";
         if (filter.getPageSize() != Integer.MAX_VALUE) {
-            filterString += " LIMIT " + filter.getPageNumber() * filter.getPageSize() + "," + filter.getPageSize();
+            filterString += " LIMIT ?,?";
         }
-        // SELECT time, ROUND(value,3) FROM number_item_0114 ORDER BY time DESC LIMIT 0,1
+        // SELECT time, ROUND(value,3) FROM number_item_0114 ORDER BY time DESC LIMIT ?,?
         // rounding HALF UP
         String queryString = "NUMBERITEM".equalsIgnoreCase(simpleName) && numberDecimalcount > -1
                 ? "SELECT time, ROUND(value," + numberDecimalcount + ") FROM " + formattedIdentifier(table)
@@ -531,6 +676,49 @@ public class JdbcBaseDAO {
         return queryString;
     }
 
+    private String getStoreItemValueSql(ItemVO storedVO) {
+        return insertSqlCache.computeIfAbsent(storedVO.getTableName() + "|" + storedVO.getDbType(),
+                k -> storeItemValueSqlProvider(storedVO));
+    }
+
+    /**
+     * Renders the insert statement for a value with an explicit timestamp, bound as first parameter.
+     */
+    protected String storeItemValueSqlProvider(ItemVO storedVO) {
+        return StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
+                new String[] { "#tableName#", "#tablePrimaryValue#" },
+                new String[] { formattedIdentifier(storedVO.getTableName()), "?" });
+    }
+
+    /**
+     * Provides the parameters for the statement rendered by {@link #storeItemValueSqlProvider(ItemVO)}.
+     */
+    protected Object[] storeItemValueParamsProvider(ItemVO storedVO, ZonedDateTime date) {
+        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
+        return new Object[] { timestamp, storedVO.getValue(), storedVO.getValue() };
+    }
+
+    /**
+     * Provides the parameters for the statements rendered by the query and delete providers: the begin and end date
+     * if set, followed by offset and page size if the result is paged.
+     */
+    protected Object[] histItemFilterParamsProvider(FilterCriteria filter, ZoneId timeZone, boolean paging) {
+        List<Object> params = new ArrayList<>(4);
+        ZonedDateTime beginDate = filter.getBeginDate();
+        if (beginDate != null) {
+            params.add(JDBC_DATE_FORMAT.format(beginDate.withZoneSameInstant(timeZone)));
+        }
+        ZonedDateTime endDate = filter.getEndDate();
+        if (endDate != null) {
+            params.add(JDBC_DATE_FORMAT.format(endDate.withZoneSameInstant(timeZone)));
+        }
+        if (paging && filter.getPageSize() != Integer.MAX_VALUE) {
+            params.add(filter.getPageNumber() * filter.getPageSize());
+            params.add(filter.getPageSize());
+        }
+        return params.toArray();
+    }
+
     protected String histItemFilterDeleteProvider(FilterCriteria filter, String table, ZoneId timeZone) {
         logger.debug("JDBC::histItemFilterDeleteProvider filter = {}, table = {}", filter, table);
 
@@ -541,21 +729,37 @@ public class JdbcBaseDAO {
         return deleteString;
     }
 
+    /**
+     * Renders the condition for the time bounds of a filter. A page continuing a query result is additionally
+     * restricted to the rows behind the time of the last row read, which is bound after the time bounds.
+     */
     protected String resolveTimeFilter(FilterCriteria filter, ZoneId timeZone) {
         String filterString = "";
         ZonedDateTime beginDate = filter.getBeginDate();
         if (beginDate != null) {
             filterString += filterString.isEmpty() ? " WHERE" : " AND";
-            filterString += " TIME>='" + JDBC_DATE_FORMAT.format(beginDate.withZoneSameInstant(timeZone)) + "'";
+            filterString += " TIME>=" + timeFilterParameterProvider();
         }
         ZonedDateTime endDate = filter.getEndDate();
         if (endDate != null) {
             filterString += filterString.isEmpty() ? " WHERE" : " AND";
-            filterString += " TIME<='" + JDBC_DATE_FORMAT.format(endDate.withZoneSameInstant(timeZone)) + "'";
+            filterString += " TIME<=" + timeFilterParameterProvider();
+        }
+        if (filter instanceof KeysetFilterCriteria) {
+            // the time of the last row read is bound as returned by the database, so it keeps its precision
+            filterString += filterString.isEmpty() ? " WHERE" : " AND";
+            filterString += filter.getOrdering() == Ordering.ASCENDING ? " TIME>?" : " TIME<?";
         }
         return filterString;
     }
 
+    /**
+     * Renders the placeholder for a time bound, which is bound as a string formatted with {@link #JDBC_DATE_FORMAT}.
+     */
+    protected String timeFilterParameterProvider() {
+        return "?";
+    }
+
     private String updateItemTableNamesProvider(ItemVO itemTable) {
         String newTableName = itemTable.getNewTableName();
         if (newTableName == null) {
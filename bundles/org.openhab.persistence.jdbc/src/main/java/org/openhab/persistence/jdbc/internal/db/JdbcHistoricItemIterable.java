@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.db;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.LongConsumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Lazily iterates the result of a history query.
+ *
+ * The result is read in pages of a bounded number of rows, which are converted while they are consumed. Each page is
+ * queried on its own and releases its connection before it is returned, so no connection is held while the result is
+ * iterated or when an iteration is abandoned. Each page after the first continues behind the time of the last row
+ * read, so deep results are not read with an ever growing offset. Each iteration queries the database again.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcHistoricItemIterable implements Iterable<HistoricItem> {
+
+    /**
+     * Queries one page of the result.
+     */
+    @FunctionalInterface
+    public interface PageQuery {
+        /**
+         * @param after time of the last row read, as returned by the database, or <code>null</code> for the first page
+         * @param limit maximum number of rows to return
+         * @return the rows of the page in the order of the query, each holding time and value
+         */
+        List<Object[]> query(@Nullable Object after, int limit) throws JdbcSQLException;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(JdbcHistoricItemIterable.class);
+
+    private final PageQuery pageQuery;
+    private final int limit;
+    private final int pageSize;
+    private final BiFunction<Object, Object, HistoricItem> rowMapper;
+
+    private volatile @Nullable LongConsumer pageQueryListener;
+
+    /**
+     * @param pageQuery queries a page of rows
+     * @param limit maximum number of rows to iterate, {@link Integer#MAX_VALUE} for all
+     * @param pageSize maximum number of rows queried at once
+     * @param rowMapper converts time and value of a row into a {@link HistoricItem}
+     */
+    public JdbcHistoricItemIterable(PageQuery pageQuery, int limit, int pageSize,
+            BiFunction<Object, Object, HistoricItem> rowMapper) {
+        this.pageQuery = pageQuery;
+        this.limit = limit;
+        this.pageSize = Math.max(1, pageSize);
+        this.rowMapper = rowMapper;
+    }
+
+    /**
+     * Sets a listener which is told when each page query has returned or failed. It is passed the value of
+     * {@link System#nanoTime()} when the query started.
+     *
+     * @return this iterable
+     */
+    public JdbcHistoricItemIterable withPageQueryListener(LongConsumer listener) {
+        pageQueryListener = listener;
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException from <code>hasNext()</code> and <code>next()</code> if a page cannot be read
+     */
+    @Override
+    public Iterator<HistoricItem> iterator() {
+        return new PageIterator();
+    }
+
+    private class PageIterator implements Iterator<HistoricItem> {
+        private List<Object[]> page = List.of();
+        private int index;
+        private int position;
+        private boolean lastPage;
+
+        @Override
+        public boolean hasNext() {
+            if (index < page.size()) {
+                return true;
+            }
+            if (lastPage || position >= limit) {
+                return false;
+            }
+            int size = (int) Math.min(pageSize, (long) limit - position);
+            Object after = page.isEmpty() ? null : page.getLast()[0];
+            List<Object[]> next = queryPage(after, size);
+            // a short page is the end of the result
+            lastPage = next.size() < size;
+            page = next;
+            index = 0;
+            position += next.size();
+            return !next.isEmpty();
+        }
+
+        @Override
+        public HistoricItem next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object[] row = page.get(index++);
+            return rowMapper.apply(row[0], row[1]);
+        }
+
+        private List<Object[]> queryPage(@Nullable Object after, int size) {
+            long timerStart = System.nanoTime();
+            try {
+                List<Object[]> rows = pageQuery.query(after, size);
+                logger.debug("JDBC::query: Page at row {} returned {} rows in {} ms", position, rows.size(),
+                        (System.nanoTime() - timerStart) / 1_000_000);
+                return rows;
+            } catch (JdbcSQLException e) {
+                throw new IllegalStateException(
+                        "Reading query result failed after " + position + " rows: " + e.getMessage(), e);
+            } finally {
+                LongConsumer listener = pageQueryListener;
+                if (listener != null) {
+                    listener.accept(timerStart);
+                }
+            }
+        }
+    }
+}
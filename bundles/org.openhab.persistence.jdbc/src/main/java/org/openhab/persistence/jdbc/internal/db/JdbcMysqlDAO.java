@@ -76,6 +76,8 @@ public class JdbcMysqlDAO extends JdbcBaseDAO {
         databaseProps.setProperty("dataSource.prepStmtCacheSqlLimit", "2048");
         databaseProps.setProperty("dataSource.jdbcCompliantTruncation", "false");// jdbc standard max varchar max length
                                                                                  // of 21845
+        // Send batched inserts as multi-row statements
+        databaseProps.setProperty("dataSource.rewriteBatchedStatements", "true");
 
         // Properties for HikariCP
         // Use driverClassName
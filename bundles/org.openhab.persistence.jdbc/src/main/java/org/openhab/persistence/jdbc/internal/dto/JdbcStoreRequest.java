@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.dto;
+
+import java.time.ZonedDateTime;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.Item;
+import org.openhab.core.types.State;
+
+/**
+ * Represents a single state waiting in the write queue to be stored.
+ *
+ * @param item the item to store the state for
+ * @param state the state to store
+ * @param date the time of the state, captured when the store was requested
+ * @param alias the alias of the item, or <code>null</code> to use the item name
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public record JdbcStoreRequest(Item item, State state, ZonedDateTime date, @Nullable String alias) {
+}
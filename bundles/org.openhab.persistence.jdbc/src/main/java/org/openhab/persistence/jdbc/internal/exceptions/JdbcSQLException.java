@@ -12,13 +12,17 @@
  */
 package org.openhab.persistence.jdbc.internal.exceptions;
 
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
 import java.util.Objects;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.knowm.yank.exceptions.YankSQLException;
 
 /**
- * This exception wraps a {@link YankSQLException}.
+ * This exception wraps a {@link YankSQLException} or a plain {@link SQLException}.
  *
  * @author Jacob Laursen - Initial contribution
  */
@@ -30,4 +34,24 @@ public class JdbcSQLException extends JdbcException {
     public JdbcSQLException(YankSQLException sqlException) {
         super(Objects.requireNonNull(sqlException.getMessage()));
     }
+
+    public JdbcSQLException(SQLException sqlException) {
+        super(Objects.requireNonNullElse(sqlException.getMessage(), sqlException.getClass().getName()), sqlException);
+    }
+
+    /**
+     * @return true if the database could not be reached, so the statement may succeed when it is executed again later
+     */
+    public boolean isConnectionError() {
+        for (@Nullable Throwable cause = getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException e) {
+                String state = e.getSQLState();
+                if (e instanceof SQLTransientException || e instanceof SQLRecoverableException
+                        || (state != null && state.startsWith("08"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
 }
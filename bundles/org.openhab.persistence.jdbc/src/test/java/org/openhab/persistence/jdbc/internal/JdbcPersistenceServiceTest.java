@@ -13,14 +13,27 @@
 package org.openhab.persistence.jdbc.internal;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openhab.core.i18n.TimeZoneProvider;
+import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.library.items.NumberItem;
 import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.persistence.jdbc.internal.db.JdbcBaseDAO;
 
 /**
  * Tests the {@link JdbcPersistenceService}.
@@ -30,8 +43,14 @@ import org.openhab.core.persistence.FilterCriteria;
 @NonNullByDefault
 public class JdbcPersistenceServiceTest {
 
-    private final JdbcPersistenceService jdbcPersistenceService = new JdbcPersistenceService(mock(ItemRegistry.class),
-            mock(TimeZoneProvider.class)) {
+    private static final String ITEM_NAME = "Test";
+    private static final String TABLE_NAME = "test_0001";
+
+    private final ItemRegistry itemRegistry = mock(ItemRegistry.class);
+    private final TimeZoneProvider timeZoneProvider = mock(TimeZoneProvider.class);
+    private final JdbcBaseDAO dao = mock(JdbcBaseDAO.class);
+    private final JdbcPersistenceService jdbcPersistenceService = new JdbcPersistenceService(itemRegistry,
+            timeZoneProvider) {
         @Override
         protected boolean checkDBAccessability() {
             return true;
@@ -44,8 +63,33 @@ public class JdbcPersistenceServiceTest {
         filter = new FilterCriteria();
     }
 
+    private void setupNumberItemQuery() throws ItemNotFoundException {
+        JdbcConfiguration conf = mock(JdbcConfiguration.class);
+        when(conf.getDBDAO()).thenReturn(dao);
+        when(conf.getNumberDecimalcount()).thenReturn(3);
+        when(conf.getQueryFetchSize()).thenReturn(1000);
+        jdbcPersistenceService.conf = conf;
+        jdbcPersistenceService.itemNameToTableNameMap.put(ITEM_NAME, TABLE_NAME);
+        when(itemRegistry.getItem(ITEM_NAME)).thenReturn(new NumberItem(ITEM_NAME));
+        when(timeZoneProvider.getTimeZone()).thenReturn(ZoneId.of("UTC"));
+        when(dao.doStreamHistItemFilterQuery(any(), any(), anyInt(), anyString(), anyString(), any(), anyInt()))
+                .thenReturn(List.of());
+        filter.setItemName(ITEM_NAME);
+    }
+
     @Test
     void removeThrowsIllegalArgumentExceptionIfItemNameOfFilterIsNull() {
         assertThrows(IllegalArgumentException.class, () -> jdbcPersistenceService.remove(filter));
     }
+
+    @Test
+    void queryStreamsStoredValues() throws ItemNotFoundException {
+        setupNumberItemQuery();
+        filter.setBeginDate(ZonedDateTime.now().minusDays(365));
+
+        jdbcPersistenceService.query(filter);
+
+        verify(dao).doStreamHistItemFilterQuery(any(), eq(filter), eq(3), eq(TABLE_NAME), eq(ITEM_NAME), any(),
+                eq(1000));
+    }
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.persistence.jdbc.internal.dto.JdbcStoreRequest;
+
+/**
+ * Tests the {@link JdbcWriteQueue}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcWriteQueueTest {
+
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    private final List<Integer> batchSizes = new ArrayList<>();
+    private boolean connected = true;
+
+    private JdbcWriteQueue createQueue(int capacity, int batchSize, long flushDelay,
+            JdbcWriteQueue.OverflowPolicy policy) {
+        return new JdbcWriteQueue(scheduler, batch -> {
+            if (!connected) {
+                return batch;
+            }
+            batchSizes.add(batch.size());
+            return List.of();
+        }, capacity, batchSize, flushDelay, policy);
+    }
+
+    private JdbcStoreRequest createRequest(int value) {
+        return new JdbcStoreRequest(new NumberItem("Test"), new DecimalType(value), ZonedDateTime.now(), null);
+    }
+
+    @Test
+    void flushWritesAllQueuedRequestsInBatches() {
+        JdbcWriteQueue queue = createQueue(10, 2, 0, JdbcWriteQueue.OverflowPolicy.BLOCK);
+        for (int i = 0; i < 5; i++) {
+            queue.enqueue(createRequest(i));
+        }
+
+        queue.flush();
+
+        assertThat(batchSizes, contains(2, 2, 1));
+        assertThat(queue.getQueueDepth(), is(0));
+        assertThat(queue.getFlushedCount(), is(5L));
+        assertThat(queue.getFlushCount(), is(3L));
+    }
+
+    @Test
+    void enqueueSchedulesOneFlushUntilFlushed() {
+        JdbcWriteQueue queue = createQueue(10, 5, 0, JdbcWriteQueue.OverflowPolicy.BLOCK);
+        queue.enqueue(createRequest(1));
+        queue.enqueue(createRequest(2));
+        verify(scheduler, times(1)).execute(any());
+
+        queue.flush();
+        queue.enqueue(createRequest(3));
+        verify(scheduler, times(2)).execute(any());
+    }
+
+    @Test
+    void enqueueDelaysFlushUntilBatchIsFull() {
+        JdbcWriteQueue queue = createQueue(10, 5, 100, JdbcWriteQueue.OverflowPolicy.BLOCK);
+        queue.enqueue(createRequest(1));
+
+        verify(scheduler).schedule(any(Runnable.class), eq(100L), eq(TimeUnit.MILLISECONDS));
+        verify(scheduler, never()).execute(any());
+    }
+
+    @Test
+    void enqueueFlushesFullBatchWithoutWaitingForDelay() {
+        JdbcWriteQueue queue = createQueue(10, 3, 100, JdbcWriteQueue.OverflowPolicy.BLOCK);
+        queue.enqueue(createRequest(1));
+        queue.enqueue(createRequest(2));
+        verify(scheduler, never()).execute(any());
+
+        queue.enqueue(createRequest(3));
+        queue.enqueue(createRequest(4));
+
+        verify(scheduler, times(1)).schedule(any(Runnable.class), eq(100L), eq(TimeUnit.MILLISECONDS));
+        verify(scheduler, times(1)).execute(any());
+
+        queue.flush();
+        assertThat(batchSizes, contains(3, 1));
+    }
+
+    @Test
+    void enqueueDropsRequestsWhenFull() {
+        JdbcWriteQueue queue = createQueue(2, 5, 0, JdbcWriteQueue.OverflowPolicy.DROP);
+
+        assertThat(queue.enqueue(createRequest(1)), is(true));
+        assertThat(queue.enqueue(createRequest(2)), is(true));
+        assertThat(queue.enqueue(createRequest(3)), is(false));
+        assertThat(queue.getQueueDepth(), is(2));
+        assertThat(queue.getDroppedCount(), is(1L));
+        verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    @Test
+    void flushKeepsRequestsWhileDisconnectedAndRetriesLater() {
+        JdbcWriteQueue queue = createQueue(10, 2, 0, JdbcWriteQueue.OverflowPolicy.BLOCK);
+        for (int i = 0; i < 3; i++) {
+            queue.enqueue(createRequest(i));
+        }
+        connected = false;
+
+        assertThat(queue.flush(), is(false));
+
+        assertThat(queue.isRetryPending(), is(true));
+        assertThat(queue.getQueueDepth(), is(3));
+        assertThat(queue.getFlushedCount(), is(0L));
+        verify(scheduler).schedule(any(Runnable.class), eq(1000L), eq(TimeUnit.MILLISECONDS));
+
+        connected = true;
+        assertThat(queue.flush(), is(true));
+
+        assertThat(batchSizes, contains(2, 1));
+        assertThat(queue.isRetryPending(), is(false));
+        assertThat(queue.getQueueDepth(), is(0));
+        assertThat(queue.getFlushedCount(), is(3L));
+    }
+
+    @Test
+    void retryDelayIsDoubled() {
+        JdbcWriteQueue queue = createQueue(10, 2, 0, JdbcWriteQueue.OverflowPolicy.BLOCK);
+        queue.enqueue(createRequest(1));
+        connected = false;
+
+        queue.flush();
+        queue.flush();
+
+        verify(scheduler).schedule(any(Runnable.class), eq(1000L), eq(TimeUnit.MILLISECONDS));
+        verify(scheduler).schedule(any(Runnable.class), eq(2000L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void enqueueDoesNotScheduleFlushOrBlockWhileRetryIsPending() {
+        JdbcWriteQueue queue = createQueue(2, 5, 0, JdbcWriteQueue.OverflowPolicy.BLOCK);
+        queue.enqueue(createRequest(1));
+        connected = false;
+        queue.flush();
+
+        assertThat(queue.enqueue(createRequest(2)), is(true));
+        assertThat(queue.enqueue(createRequest(3)), is(true));
+        assertThat(queue.enqueue(createRequest(4)), is(false));
+
+        verify(scheduler, times(1)).execute(any());
+        assertThat(queue.getDroppedCount(), is(1L));
+    }
+}
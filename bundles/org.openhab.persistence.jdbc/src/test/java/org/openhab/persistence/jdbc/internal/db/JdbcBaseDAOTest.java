@@ -23,7 +23,6 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Objects;
 import java.util.stream.Stream;
 
 import javax.measure.Quantity;
@@ -178,10 +177,8 @@ public class JdbcBaseDAOTest {
         filter.setEndDate(parseDateTimeString("2022-01-15T15:01:44"));
 
         String sql = jdbcBaseDAO.histItemFilterQueryProvider(filter, 0, DB_TABLE_NAME, "TEST", UTC_ZONE_ID);
-        assertThat(sql, is("SELECT time, value FROM " + DB_TABLE_NAME + " WHERE TIME>='" //
-                + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getBeginDate())) + "'" //
-                + " AND TIME<='" + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getEndDate()))
-                + "' ORDER BY time DESC"));
+        assertThat(sql,
+                is("SELECT time, value FROM " + DB_TABLE_NAME + " WHERE TIME>=? AND TIME<=? ORDER BY time DESC"));
     }
 
     @Test
@@ -189,7 +186,46 @@ public class JdbcBaseDAOTest {
         filter.setPageSize(1);
 
         String sql = jdbcBaseDAO.histItemFilterQueryProvider(filter, 0, DB_TABLE_NAME, "TEST", UTC_ZONE_ID);
-        assertThat(sql, is("SELECT time, value FROM " + DB_TABLE_NAME + " ORDER BY time DESC LIMIT 0,1"));
+        assertThat(sql, is("SELECT time, value FROM " + DB_TABLE_NAME + " ORDER BY time DESC LIMIT ?,?"));
+    }
+
+    @Test
+    void testHistItemFilterQueryProviderForKeysetPageReturnsQueryBehindLastTimeDescendingOrder() {
+        filter.setBeginDate(parseDateTimeString("2022-01-10T15:01:44"));
+
+        String sql = jdbcBaseDAO.histItemFilterQueryProvider(new JdbcBaseDAO.KeysetFilterCriteria(filter, 100), 0,
+                DB_TABLE_NAME, "TEST", UTC_ZONE_ID);
+        assertThat(sql, is("SELECT time, value FROM " + DB_TABLE_NAME
+                + " WHERE TIME>=? AND TIME<? ORDER BY time DESC LIMIT ?,?"));
+    }
+
+    @Test
+    void testHistItemFilterQueryProviderForKeysetPageReturnsQueryBehindLastTimeAscendingOrder() {
+        filter.setOrdering(Ordering.ASCENDING);
+
+        String sql = jdbcBaseDAO.histItemFilterQueryProvider(new JdbcBaseDAO.KeysetFilterCriteria(filter, 100), 0,
+                DB_TABLE_NAME, "TEST", UTC_ZONE_ID);
+        assertThat(sql, is("SELECT time, value FROM " + DB_TABLE_NAME + " WHERE TIME>? ORDER BY time ASC LIMIT ?,?"));
+    }
+
+    @Test
+    void testHistItemFilterParamsProviderReturnsDatesAndPaging() {
+        filter.setBeginDate(parseDateTimeString("2022-01-10T15:01:44"));
+        filter.setEndDate(parseDateTimeString("2022-01-15T15:01:44"));
+        filter.setPageSize(10);
+        filter.setPageNumber(2);
+
+        Object[] params = jdbcBaseDAO.histItemFilterParamsProvider(filter, UTC_ZONE_ID, true);
+        assertThat(params, is(new Object[] { "2022-01-10 15:01:44", "2022-01-15 15:01:44", 20, 10 }));
+    }
+
+    @Test
+    void testHistItemFilterParamsProviderWithoutPagingReturnsDatesOnly() {
+        filter.setBeginDate(parseDateTimeString("2022-01-10T15:01:44"));
+        filter.setPageSize(10);
+
+        Object[] params = jdbcBaseDAO.histItemFilterParamsProvider(filter, UTC_ZONE_ID, false);
+        assertThat(params, is(new Object[] { "2022-01-10 15:01:44" }));
     }
 
     @Test
@@ -204,10 +240,7 @@ public class JdbcBaseDAOTest {
         filter.setEndDate(parseDateTimeString("2022-01-15T15:01:44"));
 
         String sql = jdbcBaseDAO.histItemFilterDeleteProvider(filter, DB_TABLE_NAME, UTC_ZONE_ID);
-        assertThat(sql, is("DELETE FROM " + DB_TABLE_NAME + " WHERE TIME>='" //
-                + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getBeginDate())) + "'" //
-                + " AND TIME<='" + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getEndDate()))
-                + "'"));
+        assertThat(sql, is("DELETE FROM " + DB_TABLE_NAME + " WHERE TIME>=? AND TIME<=?"));
     }
 
     @Test
@@ -221,8 +254,7 @@ public class JdbcBaseDAOTest {
         filter.setBeginDate(parseDateTimeString("2022-01-10T15:01:44"));
 
         String sql = jdbcBaseDAO.resolveTimeFilter(filter, UTC_ZONE_ID);
-        assertThat(sql, is(" WHERE TIME>='"
-                + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getBeginDate())) + "'"));
+        assertThat(sql, is(" WHERE TIME>=?"));
     }
 
     @Test
@@ -230,8 +262,7 @@ public class JdbcBaseDAOTest {
         filter.setEndDate(parseDateTimeString("2022-01-15T15:01:44"));
 
         String sql = jdbcBaseDAO.resolveTimeFilter(filter, UTC_ZONE_ID);
-        assertThat(sql, is(" WHERE TIME<='"
-                + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getEndDate())) + "'"));
+        assertThat(sql, is(" WHERE TIME<=?"));
     }
 
     @Test
@@ -240,11 +271,7 @@ public class JdbcBaseDAOTest {
         filter.setEndDate(parseDateTimeString("2022-01-15T15:01:44"));
 
         String sql = jdbcBaseDAO.resolveTimeFilter(filter, UTC_ZONE_ID);
-        assertThat(sql,
-                is(" WHERE TIME>='" + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getBeginDate()))
-                        + "'" //
-                        + " AND TIME<='"
-                        + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getEndDate())) + "'"));
+        assertThat(sql, is(" WHERE TIME>=? AND TIME<=?"));
     }
 
     private ZonedDateTime parseDateTimeString(String dts) {
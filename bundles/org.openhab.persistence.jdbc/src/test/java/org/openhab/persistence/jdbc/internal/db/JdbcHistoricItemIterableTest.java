@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.db;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.persistence.jdbc.internal.dto.JdbcHistoricItem;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
+
+/**
+ * Tests the {@link JdbcHistoricItemIterable}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcHistoricItemIterableTest {
+
+    private final List<String> pageQueries = new ArrayList<>();
+    private int failAfter = -1;
+    private int rows;
+
+    private JdbcHistoricItemIterable createIterable(int rows, int offset, int limit, int pageSize) {
+        this.rows = rows;
+        // the query continues behind the time of the last row, which is the index of the row
+        return new JdbcHistoricItemIterable((after, pageLimit) -> {
+            pageQueries.add(after + "," + pageLimit);
+            if (after != null && (Integer) after == failAfter) {
+                throw new JdbcSQLException(new SQLException("Connection lost"));
+            }
+            int start = after == null ? offset : (Integer) after + 1;
+            return IntStream.range(start, Math.min(this.rows, start + pageLimit)).mapToObj(i -> new Object[] { i, i })
+                    .toList();
+        }, limit, pageSize, (time, value) -> new JdbcHistoricItem("Test", new DecimalType((Integer) value),
+                Instant.ofEpochSecond((Integer) time)));
+    }
+
+    private List<Integer> values(Iterable<HistoricItem> iterable) {
+        List<Integer> values = new ArrayList<>();
+        iterable.forEach(item -> values.add(((DecimalType) item.getState()).intValue()));
+        return values;
+    }
+
+    @Test
+    void iteratesAllRowsPageByPage() {
+        JdbcHistoricItemIterable iterable = createIterable(7, 0, Integer.MAX_VALUE, 3);
+
+        assertThat(values(iterable), contains(0, 1, 2, 3, 4, 5, 6));
+        assertThat(pageQueries, contains("null,3", "2,3", "5,3"));
+    }
+
+    @Test
+    void fullLastPageEndsWithEmptyPage() {
+        JdbcHistoricItemIterable iterable = createIterable(6, 0, Integer.MAX_VALUE, 3);
+
+        assertThat(values(iterable), contains(0, 1, 2, 3, 4, 5));
+        assertThat(pageQueries, contains("null,3", "2,3", "5,3"));
+    }
+
+    @Test
+    void abandonedIterationQueriesOnlyFirstPage() {
+        JdbcHistoricItemIterable iterable = createIterable(10, 0, Integer.MAX_VALUE, 3);
+
+        Iterator<HistoricItem> iterator = iterable.iterator();
+        assertThat(iterator.hasNext(), is(true));
+        iterator.next();
+
+        // no page is pending when the iterator is abandoned, so no connection can be held by it
+        assertThat(pageQueries, contains("null,3"));
+    }
+
+    @Test
+    void iteratingAgainQueriesAgain() {
+        JdbcHistoricItemIterable iterable = createIterable(2, 0, Integer.MAX_VALUE, 3);
+
+        assertThat(values(iterable), contains(0, 1));
+        rows = 3;
+        assertThat(values(iterable), contains(0, 1, 2));
+        assertThat(pageQueries, contains("null,3", "null,3"));
+    }
+
+    @Test
+    void iteratingMultiPageResultAgainReturnsSameRows() {
+        JdbcHistoricItemIterable iterable = createIterable(5, 0, Integer.MAX_VALUE, 3);
+
+        assertThat(values(iterable), contains(0, 1, 2, 3, 4));
+        assertThat(values(iterable), contains(0, 1, 2, 3, 4));
+        assertThat(pageQueries, contains("null,3", "2,3", "null,3", "2,3"));
+    }
+
+    @Test
+    void iteratorsAreIndependent() {
+        JdbcHistoricItemIterable iterable = createIterable(5, 0, Integer.MAX_VALUE, 2);
+
+        Iterator<HistoricItem> first = iterable.iterator();
+        first.next();
+        first.next();
+        first.next();
+
+        assertThat(values(iterable), contains(0, 1, 2, 3, 4));
+        assertThat(((DecimalType) first.next().getState()).intValue(), is(3));
+    }
+
+    @Test
+    void pagedFilterIsReadWithinItsWindow() {
+        JdbcHistoricItemIterable iterable = createIterable(10, 2, 4, 3);
+
+        assertThat(values(iterable), contains(2, 3, 4, 5));
+        assertThat(pageQueries, contains("null,3", "4,1"));
+    }
+
+    @Test
+    void failedPageIsReported() {
+        failAfter = 2;
+        JdbcHistoricItemIterable iterable = createIterable(10, 0, Integer.MAX_VALUE, 3);
+
+        Iterator<HistoricItem> iterator = iterable.iterator();
+        iterator.next();
+        iterator.next();
+        iterator.next();
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, iterator::hasNext);
+        assertInstanceOf(JdbcSQLException.class, e.getCause());
+    }
+
+    @Test
+    void pageQueryListenerIsToldEachPageQuery() {
+        List<Long> pageStarts = new ArrayList<>();
+        long start = System.nanoTime();
+        JdbcHistoricItemIterable iterable = createIterable(5, 0, Integer.MAX_VALUE, 3)
+                .withPageQueryListener(pageStarts::add);
+
+        assertThat(values(iterable), contains(0, 1, 2, 3, 4));
+        assertThat(pageStarts.size(), is(2));
+        assertTrue(pageStarts.getFirst() - start >= 0);
+        assertTrue(pageStarts.get(1) - pageStarts.getFirst() >= 0);
+    }
+
+    @Test
+    void pageQueryListenerIsToldFailedPageQuery() {
+        failAfter = 2;
+        List<Long> pageStarts = new ArrayList<>();
+        JdbcHistoricItemIterable iterable = createIterable(10, 0, Integer.MAX_VALUE, 3)
+                .withPageQueryListener(pageStarts::add);
+
+        assertThrows(IllegalStateException.class, () -> values(iterable));
+        assertThat(pageStarts.size(), is(2));
+    }
+}
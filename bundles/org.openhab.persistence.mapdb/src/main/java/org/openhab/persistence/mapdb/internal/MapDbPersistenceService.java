@@ -27,7 +27,12 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -37,6 +42,7 @@ import org.mapdb.DB;
 import org.mapdb.DBMaker;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.persistence.FilterCriteria;
@@ -66,11 +72,18 @@ import com.google.gson.GsonBuilder;
  * @author Martin Kühl - Port to 3.x
  */
 @NonNullByDefault
-@Component(service = { PersistenceService.class, QueryablePersistenceService.class }, property = Constants.SERVICE_PID
-        + "=org.openhab.mapdb")
+@Component(service = { PersistenceService.class,
+        QueryablePersistenceService.class }, configurationPid = "org.openhab.mapdb", //
+        property = Constants.SERVICE_PID + "=org.openhab.mapdb")
+@ConfigurableService(category = "persistence", label = "MapDB Persistence Service", description_uri = MapDbPersistenceService.CONFIG_URI)
 public class MapDbPersistenceService implements QueryablePersistenceService {
 
-    private static final String SERVICE_ID = "mapdb";
+    public static final String SERVICE_ID = "mapdb";
+    protected static final String CONFIG_URI = "persistence:mapdb";
+    private static final String CONFIG_COMMIT_INTERVAL = "commitInterval";
+    private static final String CONFIG_COMMIT_BATCH_SIZE = "commitBatchSize";
+    private static final long DEFAULT_COMMIT_INTERVAL_MS = 1000;
+    private static final int DEFAULT_COMMIT_BATCH_SIZE = 100;
     private static final String SERVICE_LABEL = "MapDB";
     private static final Path DB_DIR = new File(OpenHAB.getUserDataFolder(), "persistence").toPath().resolve("mapdb");
     private static final Path BACKUP_DIR = DB_DIR.resolve("backup");
@@ -80,9 +93,27 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
     private final Logger logger = LoggerFactory.getLogger(MapDbPersistenceService.class);
 
     private final ExecutorService threadPool = ThreadPoolManager.getPool(getClass().getSimpleName());
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("org.openhab.mapdb");
     private final AtomicInteger pendingTasks = new AtomicInteger(0);
     private volatile boolean active;
 
+    /**
+     * group commit: updates are collected for up to <code>commitInterval</code> milliseconds or
+     * <code>commitBatchSize</code> updates and then committed at once
+     */
+    private long commitInterval = DEFAULT_COMMIT_INTERVAL_MS;
+    private int commitBatchSize = DEFAULT_COMMIT_BATCH_SIZE;
+    private final AtomicInteger uncommittedCount = new AtomicInteger(0);
+    private final AtomicBoolean commitPending = new AtomicBoolean();
+    private final Object commitLock = new Object();
+    private @Nullable ScheduledFuture<?> commitJob;
+
+    private final AtomicLong commitCount = new AtomicLong();
+    private final AtomicLong committedCount = new AtomicLong();
+    private volatile long lastCommitTime;
+    private volatile long maxCommitTime;
+    private final AtomicLong totalCommitTime = new AtomicLong();
+
     /**
      * holds the local instance of the MapDB database
      */
@@ -93,9 +124,15 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
     private transient Gson mapper = new GsonBuilder().setDateFormat(DateTimeType.DATE_PATTERN_JSON_COMPAT)
             .registerTypeHierarchyAdapter(State.class, new StateTypeAdapter()).create();
 
-    @Activate
     public void activate() {
+        activate(Map.of());
+    }
+
+    @Activate
+    public void activate(Map<String, @Nullable Object> config) {
         logger.debug("MapDB persistence service is being activated");
+        commitInterval = getConfigValue(config, CONFIG_COMMIT_INTERVAL, DEFAULT_COMMIT_INTERVAL_MS);
+        commitBatchSize = (int) getConfigValue(config, CONFIG_COMMIT_BATCH_SIZE, DEFAULT_COMMIT_BATCH_SIZE);
         active = true;
 
         try {
@@ -167,7 +204,13 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         if (pendingTasks.get() > 0) {
             logger.warn("Timed out waiting for MapDB persistence tasks; {} tasks still pending.", pendingTasks.get());
         }
+        ScheduledFuture<?> commitJob = this.commitJob;
+        if (commitJob != null) {
+            commitJob.cancel(false);
+            this.commitJob = null;
+        }
         if (db != null) {
+            commit();
             db.close();
         }
     }
@@ -222,7 +265,7 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
                 try {
                     String json = serialize(mItem);
                     map.put(localAlias, json);
-                    db.commit();
+                    scheduleCommit();
                     logger.debug("Stored '{}' with state '{}' as '{}' in MapDB database", localAlias, state, json);
                 } finally {
                     pendingTasks.decrementAndGet();
@@ -235,6 +278,88 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         }
     }
 
+    private void scheduleCommit() {
+        if (uncommittedCount.incrementAndGet() >= commitBatchSize || commitInterval <= 0) {
+            commit();
+        } else if (commitPending.compareAndSet(false, true)) {
+            try {
+                commitJob = scheduler.schedule(this::commit, commitInterval, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                commit();
+            }
+        }
+    }
+
+    /**
+     * Commits all updates since the last commit.
+     */
+    private void commit() {
+        commitPending.set(false);
+        synchronized (commitLock) {
+            int count = uncommittedCount.getAndSet(0);
+            if (count == 0) {
+                return;
+            }
+            long timerStart = System.currentTimeMillis();
+            try {
+                db.commit();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to commit {} updates to MapDB database: {}", count, e.getMessage());
+                return;
+            }
+            long duration = System.currentTimeMillis() - timerStart;
+            lastCommitTime = duration;
+            maxCommitTime = Math.max(maxCommitTime, duration);
+            totalCommitTime.addAndGet(duration);
+            committedCount.addAndGet(count);
+            commitCount.incrementAndGet();
+            logger.debug("Committed {} updates to MapDB database in {} ms", count, duration);
+        }
+    }
+
+    /**
+     * @return number of commits to the database file
+     */
+    public long getCommitCount() {
+        return commitCount.get();
+    }
+
+    /**
+     * @return number of stored updates which have been committed
+     */
+    public long getCommittedCount() {
+        return committedCount.get();
+    }
+
+    /**
+     * @return number of stored updates waiting for the next commit
+     */
+    public int getUncommittedCount() {
+        return uncommittedCount.get();
+    }
+
+    /**
+     * @return duration of the last commit in milliseconds
+     */
+    public long getLastCommitTime() {
+        return lastCommitTime;
+    }
+
+    /**
+     * @return longest commit duration in milliseconds
+     */
+    public long getMaxCommitTime() {
+        return maxCommitTime;
+    }
+
+    /**
+     * @return average commit duration in milliseconds
+     */
+    public double getAverageCommitTime() {
+        long commits = commitCount.get();
+        return commits == 0 ? 0 : (double) totalCommitTime.get() / commits;
+    }
+
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
         String json = map.get(filter.getItemName());
@@ -275,6 +400,19 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         return Optional.of(item);
     }
 
+    private long getConfigValue(Map<String, @Nullable Object> config, String key, long defaultValue) {
+        Object value = config.get(key);
+        if (value == null || value.toString().isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return value instanceof Number number ? number.longValue() : Long.parseLong(value.toString().trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid value '{}' for configuration parameter '{}', using {}", value, key, defaultValue);
+            return defaultValue;
+        }
+    }
+
     private static <T> Stream<T> streamOptional(Optional<T> opt) {
         return opt.isPresent() ? Stream.of(opt.get()) : Stream.empty();
     }
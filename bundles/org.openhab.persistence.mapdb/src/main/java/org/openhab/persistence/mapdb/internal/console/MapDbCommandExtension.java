@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal.console;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.console.Console;
+import org.openhab.core.io.console.ConsoleCommandCompleter;
+import org.openhab.core.io.console.StringsCompleter;
+import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
+import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.openhab.core.persistence.PersistenceService;
+import org.openhab.core.persistence.PersistenceServiceRegistry;
+import org.openhab.persistence.mapdb.internal.MapDbPersistenceService;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link MapDbCommandExtension} is responsible for handling console commands
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = ConsoleCommandExtension.class)
+public class MapDbCommandExtension extends AbstractConsoleCommandExtension implements ConsoleCommandCompleter {
+
+    private static final String CMD_STATS = "stats";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_STATS), false);
+
+    private final PersistenceServiceRegistry persistenceServiceRegistry;
+
+    @Activate
+    public MapDbCommandExtension(final @Reference PersistenceServiceRegistry persistenceServiceRegistry) {
+        super(MapDbPersistenceService.SERVICE_ID, "Interact with the MapDB persistence service.");
+        this.persistenceServiceRegistry = persistenceServiceRegistry;
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        MapDbPersistenceService persistenceService = getPersistenceService();
+        if (persistenceService == null) {
+            console.println("No MapDB persistence service installed.");
+            return;
+        }
+        if (args.length == 1 && CMD_STATS.equalsIgnoreCase(args[0])) {
+            printStatistics(persistenceService, console);
+            return;
+        }
+        printUsage(console);
+    }
+
+    private void printStatistics(MapDbPersistenceService persistenceService, Console console) {
+        console.println("Commits:             " + persistenceService.getCommitCount());
+        console.println("Committed updates:   " + persistenceService.getCommittedCount());
+        console.println("Uncommitted updates: " + persistenceService.getUncommittedCount());
+        console.println("Last commit time:    " + persistenceService.getLastCommitTime() + " ms");
+        console.println("Max commit time:     " + persistenceService.getMaxCommitTime() + " ms");
+        console.println(String.format("Avg commit time:     %.1f ms", persistenceService.getAverageCommitTime()));
+    }
+
+    private @Nullable MapDbPersistenceService getPersistenceService() {
+        for (PersistenceService persistenceService : persistenceServiceRegistry.getAll()) {
+            if (persistenceService instanceof MapDbPersistenceService service) {
+                return service;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return List.of(buildCommandUsage(CMD_STATS, "show commit statistics"));
+    }
+
+    @Override
+    public @Nullable ConsoleCommandCompleter getCompleter() {
+        return this;
+    }
+
+    @Override
+    public boolean complete(String[] args, int cursorArgumentIndex, int cursorPosition, List<String> candidates) {
+        if (cursorArgumentIndex <= 0) {
+            return CMD_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
+        }
+        return false;
+    }
+}
@@ -21,6 +21,7 @@ import static org.mockito.Mockito.when;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Map;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -293,6 +294,29 @@ class MapDbPersistenceServiceTest {
         logger.debug("Ending queryWithTimeRange with reloadAfterStore={}", reloadAfterStore);
     }
 
+    @Test
+    void storesAreCommittedInGroups() throws Exception {
+        service.deactivate();
+        service.activate(Map.of("commitInterval", "60000", "commitBatchSize", "5"));
+
+        for (int i = 0; i < 10; i++) {
+            NumberItem item = new NumberItem("TestGroupCommit" + i);
+            item.setState(new DecimalType(i));
+            service.store(item);
+        }
+
+        // pending updates are committed on deactivation
+        service.deactivate();
+        assertEquals(0, service.getUncommittedCount());
+        assertEquals(10, service.getCommittedCount());
+        assertTrue(service.getCommitCount() <= 3);
+
+        service.activate();
+        PersistedItem persistedItem = service.persistedItem("TestGroupCommit5", null);
+        assertNotNull(persistedItem);
+        assertEquals(new DecimalType(5), persistedItem.getState());
+    }
+
     @Test
     void serviceIdIsCorrect() throws Exception {
         assertEquals("mapdb", service.getId());
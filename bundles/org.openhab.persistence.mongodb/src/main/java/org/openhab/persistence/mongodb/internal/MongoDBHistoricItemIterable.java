@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mongodb.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.HistoricItem;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Projections;
+
+/**
+ * Lazily iterates the result of a history query.
+ *
+ * The result is read in chunks of <code>fetchSize</code> documents, sorted by timestamp and then by id. Each chunk is
+ * a separate range query that continues behind the timestamp and id of the last document read, so no server cursor is
+ * kept open between chunks, deep results are not read with an ever growing <code>skip</code>, and documents with the
+ * same timestamp are neither skipped nor returned twice. Only the fields needed to restore the state are fetched.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MongoDBHistoricItemIterable implements Iterable<HistoricItem> {
+
+    private static final Bson PROJECTION = Projections.include(MongoDBFields.FIELD_ID, MongoDBFields.FIELD_TIMESTAMP,
+            MongoDBFields.FIELD_VALUE, MongoDBFields.FIELD_UNIT, MongoDBFields.FIELD_REALNAME);
+    private static final Bson KEY_PROJECTION = Projections.include(MongoDBFields.FIELD_ID,
+            MongoDBFields.FIELD_TIMESTAMP);
+
+    private final MongoCollection<Document> collection;
+    private final Document query;
+    private final boolean ascending;
+    private final long offset;
+    private final long limit;
+    private final int fetchSize;
+    private final Function<Document, HistoricItem> mapper;
+    private final @Nullable LongConsumer fetchListener;
+
+    /**
+     * @param collection the collection to query
+     * @param query the filter for the documents
+     * @param ascending whether to return the oldest documents first
+     * @param offset number of matching documents to skip
+     * @param limit maximum number of documents to return
+     * @param fetchSize number of documents read at once
+     * @param mapper converts a document into a {@link HistoricItem}
+     * @param fetchListener is told when the database has returned a chunk or failed to, it is passed the value of
+     *            {@link System#nanoTime()} when the chunk was requested
+     */
+    public MongoDBHistoricItemIterable(MongoCollection<Document> collection, Document query, boolean ascending,
+            long offset, long limit, int fetchSize, Function<Document, HistoricItem> mapper,
+            @Nullable LongConsumer fetchListener) {
+        this.collection = collection;
+        this.query = query;
+        this.ascending = ascending;
+        this.offset = offset;
+        this.limit = limit;
+        this.fetchSize = fetchSize;
+        this.mapper = mapper;
+        this.fetchListener = fetchListener;
+    }
+
+    @Override
+    public Iterator<HistoricItem> iterator() {
+        if (limit <= 0) {
+            return Collections.emptyIterator();
+        }
+        ChunkIterator iterator = new ChunkIterator();
+        if (offset > 0 && !iterator.seek(offset)) {
+            return Collections.emptyIterator();
+        }
+        return iterator;
+    }
+
+    private class ChunkIterator implements Iterator<HistoricItem> {
+        // sort key of the last document read, the next chunk starts behind it
+        private @Nullable Document boundary;
+        private long remaining = limit;
+        private Iterator<Document> chunk = Collections.emptyIterator();
+        private boolean exhausted;
+
+        /**
+         * Positions the iterator behind the first <code>offset</code> documents. Only the sort keys are read.
+         */
+        boolean seek(long offset) {
+            Document last = collection.find(query).projection(KEY_PROJECTION).sort(sort())
+                    .skip((int) Math.min(offset - 1, Integer.MAX_VALUE)).limit(1).first();
+            if (last == null) {
+                return false;
+            }
+            boundary = last;
+            return true;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!chunk.hasNext() && !exhausted && remaining > 0) {
+                fetch();
+            }
+            return chunk.hasNext() && remaining > 0;
+        }
+
+        @Override
+        public HistoricItem next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            remaining--;
+            return mapper.apply(chunk.next());
+        }
+
+        private void fetch() {
+            int size = (int) Math.min(fetchSize, remaining);
+            Document boundary = this.boundary;
+            Document chunkQuery = boundary == null ? query : behind(boundary);
+            long start = System.nanoTime();
+            List<Document> documents;
+            try {
+                documents = collection.find(chunkQuery).projection(PROJECTION).sort(sort()).limit(size)
+                        .into(new ArrayList<>(size));
+            } finally {
+                LongConsumer listener = fetchListener;
+                if (listener != null) {
+                    listener.accept(start);
+                }
+            }
+            exhausted = documents.size() < size;
+            if (!documents.isEmpty()) {
+                this.boundary = documents.getLast();
+            }
+            chunk = documents.iterator();
+        }
+
+        private Document sort() {
+            int direction = ascending ? 1 : -1;
+            return new Document(MongoDBFields.FIELD_TIMESTAMP, direction).append(MongoDBFields.FIELD_ID, direction);
+        }
+
+        /**
+         * Restricts the query to the documents behind the given one in iteration order: a later timestamp, or the same
+         * timestamp and a greater id. The timestamp bound is merged into the range of the query, so that the index on
+         * item and timestamp limits the scan.
+         */
+        private Document behind(Document last) {
+            Date timestamp = last.getDate(MongoDBFields.FIELD_TIMESTAMP);
+            Object id = last.get(MongoDBFields.FIELD_ID);
+            Document range = new Document();
+            Object existing = query.get(MongoDBFields.FIELD_TIMESTAMP);
+            if (existing instanceof Document existingRange) {
+                range.putAll(existingRange);
+            }
+            range.put(ascending ? "$gte" : "$lte", timestamp);
+            Document behindQuery = new Document(query);
+            behindQuery.put(MongoDBFields.FIELD_TIMESTAMP, range);
+            String behind = ascending ? "$gt" : "$lt";
+            behindQuery.put("$or", List.of(new Document(MongoDBFields.FIELD_TIMESTAMP, new Document(behind, timestamp)),
+                    new Document(MongoDBFields.FIELD_ID, new Document(behind, id))));
+            return behindQuery;
+        }
+    }
+}
@@ -13,17 +13,19 @@
 package org.openhab.persistence.mongodb.internal;
 
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
@@ -38,6 +40,7 @@ import org.openhab.core.persistence.QueryablePersistenceService;
 import org.openhab.core.persistence.strategy.PersistenceStrategy;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
+import org.openhab.io.metrics.internal.meters.PersistenceMeters;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
@@ -45,13 +48,19 @@ import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ConfigurationPolicy;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoException;
+import com.mongodb.MongoSocketException;
+import com.mongodb.MongoTimeoutException;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
-import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.InsertManyOptions;
 import com.mongodb.client.result.DeleteResult;
 
 /**
@@ -67,12 +76,22 @@ import com.mongodb.client.result.DeleteResult;
                 + "=org.openhab.mongodb")
 public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
+    private static final int DEFAULT_WRITE_BUFFER_SIZE = 10000;
+    private static final int DEFAULT_WRITE_BATCH_SIZE = 500;
+    private static final int DEFAULT_WRITE_FLUSH_INTERVAL = 1000;
+    private static final int QUERY_FETCH_SIZE = 1000;
+
     private final Logger logger = LoggerFactory.getLogger(MongoDBPersistenceService.class);
 
     private String url = "";
     private String db = "";
     private String collection = "";
     private boolean collectionPerItem;
+    private @Nullable MongoDBWriteBuffer writeBuffer;
+    private final PersistenceMeters meters = new PersistenceMeters("mongodb", () -> {
+        MongoDBWriteBuffer writeBuffer = this.writeBuffer;
+        return writeBuffer == null ? 0 : writeBuffer.getQueueDepth();
+    });
 
     private boolean initialized = false;
 
@@ -111,6 +130,14 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         collection = dbCollection == null ? "" : dbCollection;
         collectionPerItem = dbCollection == null || dbCollection.isBlank();
 
+        long writeFlushInterval = getConfigValue(config, "writeFlushInterval", DEFAULT_WRITE_FLUSH_INTERVAL);
+        if (writeFlushInterval > 0) {
+            writeBuffer = new MongoDBWriteBuffer(ThreadPoolManager.getScheduledPool("mongodb"), this::insertDocuments,
+                    (int) Math.max(1, getConfigValue(config, "writeBufferSize", DEFAULT_WRITE_BUFFER_SIZE)),
+                    (int) Math.max(1, getConfigValue(config, "writeBatchSize", DEFAULT_WRITE_BATCH_SIZE)),
+                    writeFlushInterval);
+        }
+
         if (!tryConnectToDatabase()) {
             logger.warn("Failed to connect to MongoDB server. Trying to reconnect later.");
         }
@@ -121,9 +148,38 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
     @Deactivate
     public void deactivate(final int reason) {
         logger.debug("MongoDB persistence bundle stopping. Disconnecting from database.");
+        MongoDBWriteBuffer writeBuffer = this.writeBuffer;
+        if (writeBuffer != null) {
+            writeBuffer.close();
+            this.writeBuffer = null;
+        }
         disconnectFromDatabase();
     }
 
+    private static long getConfigValue(Map<String, Object> config, String key, long defaultValue) {
+        Object value = config.get(key);
+        if (value instanceof Number number) {
+            return number.longValue();
+        } else if (value instanceof String string && !string.isBlank()) {
+            try {
+                return Long.parseLong(string.trim());
+            } catch (NumberFormatException e) {
+                LoggerFactory.getLogger(MongoDBPersistenceService.class)
+                        .warn("Invalid value '{}' for mongodb:{}, using {}", string, key, defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        meters.bind(meterRegistryProvider.getOHMeterRegistry());
+    }
+
+    protected void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        meters.unbind();
+    }
+
     @Override
     public String getId() {
         return "mongodb";
@@ -249,6 +305,7 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         if (alias != null) {
             filter.setItemName(alias);
         }
+        flushWriteBuffer();
         MongoCollection<Document> collection = prepareCollection(filter);
         // If collection creation failed, return nothing.
         if (collection == null) {
@@ -271,30 +328,18 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             logger.warn("Item {} not found", realItemName);
             return Collections.emptyList();
         }
-        List<HistoricItem> items = new ArrayList<>();
 
         logger.debug("Query: {}", query);
 
-        Integer sortDir = (filter.getOrdering() == Ordering.ASCENDING) ? 1 : -1;
-        MongoCursor<Document> cursor = null;
-        try {
-            cursor = collection.find(query).sort(new Document(MongoDBFields.FIELD_TIMESTAMP, sortDir))
-                    .skip(filter.getPageNumber() * filter.getPageSize()).limit(filter.getPageSize()).iterator();
-
-            while (cursor.hasNext()) {
-                Document obj = cursor.next();
-
-                final State state = MongoDBTypeConversions.getStateFromDocument(item, obj);
-
-                items.add(new MongoDBItem(realItemName, state, obj.getDate(MongoDBFields.FIELD_TIMESTAMP).toInstant()));
-            }
-        } finally {
-            if (cursor != null) {
-                cursor.close();
-            }
-        }
+        // paging resolves the offset once and then continues by timestamp and id, so no deep skip is needed per chunk
+        return new MongoDBHistoricItemIterable(collection, query, filter.getOrdering() == Ordering.ASCENDING,
+                (long) filter.getPageNumber() * filter.getPageSize(), filter.getPageSize(), QUERY_FETCH_SIZE,
+                historicItemMapper(realItemName, item), meters::recordQuery);
+    }
 
-        return items;
+    private Function<Document, HistoricItem> historicItemMapper(String realItemName, Item item) {
+        return obj -> new MongoDBItem(realItemName, MongoDBTypeConversions.getStateFromDocument(item, obj),
+                obj.getDate(MongoDBFields.FIELD_TIMESTAMP).toInstant());
     }
 
     private @Nullable Item getItem(String itemName) {
@@ -344,6 +389,20 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
+        String realItemName = item.getName();
+        String name = (alias != null) ? alias : realItemName;
+        String collectionName = collectionPerItem ? name : this.collection;
+        Document obj = createDocument(item, date, state, name);
+
+        MongoDBWriteBuffer writeBuffer = this.writeBuffer;
+        if (writeBuffer != null) {
+            // the connection is checked when the batch is written
+            if (writeBuffer.add(collectionName, obj)) {
+                logger.debug("MongoDB buffered {}={}", name, obj.get(MongoDBFields.FIELD_VALUE));
+            }
+            return;
+        }
+
         // Connect to mongodb server if we're not already connected
         // If we can't connect, log.
         if (!tryConnectToDatabase()) {
@@ -353,10 +412,6 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
-        String realItemName = item.getName();
-        String name = (alias != null) ? alias : realItemName;
-        String collectionName = collectionPerItem ? name : this.collection;
-
         @Nullable
         MongoCollection<Document> collection = connectToCollection(collectionName);
 
@@ -365,24 +420,79 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
-        Object value = MongoDBTypeConversions.convertValue(state);
+        long start = System.nanoTime();
+        try {
+            collection.insertOne(obj);
+        } catch (org.bson.BsonMaximumSizeExceededException e) {
+            logger.error("Document size exceeds maximum size of 16MB. Item {} not persisted.", name);
+            throw e;
+        } finally {
+            meters.recordStore(start);
+        }
+        logger.debug("MongoDB save {}={}", name, obj.get(MongoDBFields.FIELD_VALUE));
+    }
 
+    private Document createDocument(Item item, Date date, State state, String name) {
         Document obj = new Document();
         obj.put(MongoDBFields.FIELD_ID, new ObjectId());
         obj.put(MongoDBFields.FIELD_ITEM, name);
-        obj.put(MongoDBFields.FIELD_REALNAME, realItemName);
+        obj.put(MongoDBFields.FIELD_REALNAME, item.getName());
         obj.put(MongoDBFields.FIELD_TIMESTAMP, date);
-        obj.put(MongoDBFields.FIELD_VALUE, value);
+        obj.put(MongoDBFields.FIELD_VALUE, MongoDBTypeConversions.convertValue(state));
         if (item instanceof NumberItem && state instanceof QuantityType<?>) {
             obj.put(MongoDBFields.FIELD_UNIT, ((QuantityType<?>) state).getUnit().toString());
         }
+        return obj;
+    }
+
+    /**
+     * Inserts a batch of buffered documents. The batch is unordered, so the server may apply the inserts in parallel
+     * and a failing document does not prevent the others from being stored.
+     *
+     * @return false if the database cannot be reached, so the write buffer keeps the documents and writes them later
+     */
+    private boolean insertDocuments(String collectionName, List<Document> documents) {
+        if (!tryConnectToDatabase()) {
+            return false;
+        }
+
+        @Nullable
+        MongoCollection<Document> collection = connectToCollection(collectionName);
+
+        if (collection == null) {
+            // Logging is done in connectToCollection()
+            return false;
+        }
+
+        long start = System.nanoTime();
         try {
-            collection.insertOne(obj);
-        } catch (org.bson.BsonMaximumSizeExceededException e) {
-            logger.error("Document size exceeds maximum size of 16MB. Item {} not persisted.", name);
-            throw e;
+            collection.insertMany(documents, new InsertManyOptions().ordered(false));
+            logger.debug("MongoDB saved {} states to collection {}", documents.size(), collectionName);
+        } catch (MongoBulkWriteException e) {
+            logger.error("Failed to persist {} of {} states in collection {}: {}", e.getWriteErrors().size(),
+                    documents.size(), collectionName, e.getMessage());
+        } catch (MongoSocketException | MongoTimeoutException e) {
+            logger.debug("Lost connection while persisting {} states in collection {}: {}", documents.size(),
+                    collectionName, e.getMessage());
+            return false;
+        } catch (MongoException e) {
+            logger.error("Failed to persist {} states in collection {}: {}", documents.size(), collectionName,
+                    e.getMessage());
+        } finally {
+            meters.recordStore(start);
+        }
+        return true;
+    }
+
+    /**
+     * Writes buffered states, so that queries and removals see them. While the database cannot be reached, the
+     * buffered states are written by the pending retry instead, so the caller is not blocked by a failing write.
+     */
+    private void flushWriteBuffer() {
+        MongoDBWriteBuffer writeBuffer = this.writeBuffer;
+        if (writeBuffer != null && !writeBuffer.isRetryPending()) {
+            writeBuffer.flush();
         }
-        logger.debug("MongoDB save {}={}", name, value);
     }
 
     @Nullable
@@ -465,6 +575,7 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
     @Override
     public boolean remove(FilterCriteria filter) {
+        flushWriteBuffer();
         MongoCollection<Document> collection = prepareCollection(filter);
         // If collection creation failed, return nothing.
         if (collection == null) {
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mongodb.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bson.Document;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded buffer for documents to insert.
+ *
+ * Documents are written in batches of up to <code>batchSize</code> documents, grouped by collection. A flush is
+ * scheduled by the first document after the previous flush and runs after <code>flushInterval</code> milliseconds,
+ * or right away once a full batch is waiting. While the database cannot be reached, the documents which were not
+ * written are kept and written again later, waiting up to a minute between attempts. Documents are dropped while the
+ * buffer is full.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MongoDBWriteBuffer {
+
+    /**
+     * Inserts documents into a collection.
+     */
+    @FunctionalInterface
+    public interface BatchWriter {
+        /**
+         * @param collectionName name of the collection
+         * @param documents documents to insert
+         * @return false if the database could not be reached and the documents should be written again later
+         */
+        boolean write(String collectionName, List<Document> documents);
+    }
+
+    private record Entry(String collectionName, Document document) {
+    }
+
+    private static final long MIN_RETRY_DELAY_MS = 1000;
+    private static final long MAX_RETRY_DELAY_MS = 60000;
+
+    private final Logger logger = LoggerFactory.getLogger(MongoDBWriteBuffer.class);
+
+    private final BlockingQueue<Entry> queue;
+    private final ScheduledExecutorService scheduler;
+    private final BatchWriter writer;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushInterval;
+
+    // scheduling state, guarded by this
+    private @Nullable ScheduledFuture<?> flushJob;
+    private boolean flushScheduled;
+    private boolean fullBatchFlushScheduled;
+    private boolean retryPending;
+    private long retryDelay = MIN_RETRY_DELAY_MS;
+    private boolean closed;
+    private boolean overflowLogged;
+
+    // only one flush writes at a time, the documents of a failed attempt are written first by the next one
+    private final Object writeLock = new Object();
+    private volatile List<Entry> retryEntries = List.of();
+
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+
+    /**
+     * @param scheduler executor used for flushing
+     * @param writer inserts the documents of a batch into the named collection
+     * @param capacity maximum number of buffered documents
+     * @param batchSize maximum number of documents written by one flush step
+     * @param flushInterval time in milliseconds to collect documents before a batch which is not full is written
+     */
+    public MongoDBWriteBuffer(ScheduledExecutorService scheduler, BatchWriter writer, int capacity, int batchSize,
+            long flushInterval) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.scheduler = scheduler;
+        this.writer = writer;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * Adds a document and schedules a flush if none is pending.
+     *
+     * @return true if the document was buffered, false if it was dropped because the buffer is full
+     */
+    public boolean add(String collectionName, Document document) {
+        if (!queue.offer(new Entry(collectionName, document))) {
+            droppedCount.incrementAndGet();
+            synchronized (this) {
+                if (!overflowLogged) {
+                    overflowLogged = true;
+                    logger.warn("mongodb: Write buffer is full ({} documents). States are dropped until it is written.",
+                            capacity);
+                }
+            }
+            return false;
+        }
+        scheduleFlush();
+        return true;
+    }
+
+    private synchronized void scheduleFlush() {
+        // a pending retry writes the buffer once the database can be reached again
+        if (closed || retryPending) {
+            return;
+        }
+        try {
+            if (queue.size() >= batchSize) {
+                if (!fullBatchFlushScheduled) {
+                    fullBatchFlushScheduled = true;
+                    scheduler.execute(this::flush);
+                }
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                flushJob = scheduler.schedule(this::flush, flushInterval, TimeUnit.MILLISECONDS);
+            }
+        } catch (RejectedExecutionException e) {
+            flushScheduled = false;
+            fullBatchFlushScheduled = false;
+            logger.debug("mongodb: Flush of write buffer rejected: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Writes all buffered documents in the calling thread.
+     *
+     * @return false if documents could not be written because the database cannot be reached, they are kept and
+     *         written again later
+     */
+    public boolean flush() {
+        synchronized (this) {
+            flushScheduled = false;
+            fullBatchFlushScheduled = false;
+        }
+        synchronized (writeLock) {
+            List<Entry> batch = new ArrayList<>(retryEntries);
+            retryEntries = List.of();
+            if (batch.isEmpty()) {
+                queue.drainTo(batch, batchSize);
+            }
+            while (!batch.isEmpty()) {
+                List<Entry> unwritten = write(batch);
+                flushCount.incrementAndGet();
+                if (!unwritten.isEmpty()) {
+                    retryEntries = unwritten;
+                    retryLater(unwritten.size());
+                    return false;
+                }
+                logger.debug("MongoDB wrote {} buffered documents, {} remaining", batch.size(), queue.size());
+                batch.clear();
+                queue.drainTo(batch, batchSize);
+            }
+        }
+        synchronized (this) {
+            retryPending = false;
+            retryDelay = MIN_RETRY_DELAY_MS;
+            overflowLogged = false;
+        }
+        return true;
+    }
+
+    /**
+     * Writes the documents of a batch collection by collection.
+     *
+     * @return the entries which have not been written because the database could not be reached
+     */
+    private List<Entry> write(List<Entry> batch) {
+        Map<String, List<Entry>> entriesByCollection = new LinkedHashMap<>();
+        for (Entry entry : batch) {
+            entriesByCollection.computeIfAbsent(entry.collectionName(), k -> new ArrayList<>()).add(entry);
+        }
+        List<Entry> unwritten = new ArrayList<>();
+        for (Map.Entry<String, List<Entry>> collectionEntries : entriesByCollection.entrySet()) {
+            List<Entry> entries = collectionEntries.getValue();
+            if (!unwritten.isEmpty()) {
+                // the database could not be reached for a previous collection, do not try again right away
+                unwritten.addAll(entries);
+                continue;
+            }
+            List<Document> documents = entries.stream().map(Entry::document).toList();
+            try {
+                if (writer.write(collectionEntries.getKey(), documents)) {
+                    writtenCount.addAndGet(documents.size());
+                } else {
+                    unwritten.addAll(entries);
+                }
+            } catch (RuntimeException e) {
+                logger.error("Failed to write {} documents to collection {}: {}", documents.size(),
+                        collectionEntries.getKey(), e.getMessage(), e);
+            }
+        }
+        return unwritten;
+    }
+
+    private synchronized void retryLater(int unwritten) {
+        if (closed) {
+            logger.warn("mongodb: No connection to database. {} buffered states and {} queued states are lost.",
+                    unwritten, queue.size());
+            return;
+        }
+        logger.warn("mongodb: No connection to database. Writing {} buffered states again in {} ms.", unwritten,
+                retryDelay);
+        try {
+            flushJob = scheduler.schedule(this::flush, retryDelay, TimeUnit.MILLISECONDS);
+            retryPending = true;
+            retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY_MS);
+        } catch (RejectedExecutionException e) {
+            logger.debug("mongodb: Retry of write buffer rejected: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Stops scheduling flushes and writes the remaining documents.
+     */
+    public void close() {
+        ScheduledFuture<?> job;
+        synchronized (this) {
+            closed = true;
+            job = flushJob;
+        }
+        if (job != null) {
+            job.cancel(false);
+        }
+        flush();
+    }
+
+    /**
+     * @return true while documents are kept because the database could not be reached
+     */
+    public synchronized boolean isRetryPending() {
+        return retryPending;
+    }
+
+    public int getQueueDepth() {
+        return queue.size() + retryEntries.size();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+}
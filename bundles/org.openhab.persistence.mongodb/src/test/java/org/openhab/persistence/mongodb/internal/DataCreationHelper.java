@@ -356,6 +356,8 @@ public class DataCreationHelper {
         if (collectionName != null) {
             config.put("collection", collectionName);
         }
+        // write each state immediately, so that the tests can read it from the database right away
+        config.put("writeFlushInterval", "0");
 
         // Create a MongoClient connected to the mock server
         MongoClient mongoClient = MongoClients.create(dbContainer.getConnectionString());
@@ -1033,4 +1033,139 @@ public class MongoDBPersistenceServiceTest {
             dbContainer.stop();
         }
     }
+
+    /**
+     * Tests that paging through a query result returns every document once, also if documents with the same timestamp
+     * span the page boundaries.
+     */
+    @Test
+    public void testQueryPagesWithEqualTimestamps() {
+        DatabaseTestContainer dbContainer = new DatabaseTestContainer(new MemoryBackend());
+        try {
+            // Preparation
+            SetupResult setupResult = DataCreationHelper.setupMongoDB("testCollection", dbContainer);
+            MongoDBPersistenceService service = setupResult.service;
+
+            try {
+                Mockito.when(setupResult.itemRegistry.getItem("TestItem"))
+                        .thenReturn(DataCreationHelper.createNumberItem("TestItem", 0));
+            } catch (ItemNotFoundException e) {
+            }
+
+            service.activate(setupResult.bundleContext, setupResult.config);
+
+            MongoCollection<Document> collection = setupResult.database.getCollection("testCollection");
+            // two documents per timestamp, so pages of 5 end between documents with the same timestamp
+            for (int i = 0; i < 25; i++) {
+                collection.insertOne(
+                        DataCreationHelper.createDocument("TestItem", i, LocalDate.now().minusDays(25 - i / 2)));
+            }
+
+            // Execution
+            List<Double> values = new ArrayList<>();
+            Instant previous = Instant.MIN;
+            for (int page = 0; page < 6; page++) {
+                FilterCriteria filter = DataCreationHelper.createFilterCriteria("TestItem");
+                filter.setPageSize(5);
+                filter.setPageNumber(page);
+                int count = 0;
+                for (HistoricItem item : service.query(filter)) {
+                    assertFalse(item.getInstant().isBefore(previous));
+                    previous = item.getInstant();
+                    values.add(((DecimalType) item.getState()).doubleValue());
+                    count++;
+                }
+                assertEquals(page < 5 ? 5 : 0, count);
+            }
+
+            // Verification
+            assertEquals(25, values.size());
+            assertEquals(25, Set.copyOf(values).size());
+        } finally {
+            dbContainer.stop();
+        }
+    }
+
+    /**
+     * Tests that a result read in chunks ending between documents with the same timestamp returns each document once.
+     */
+    @Test
+    public void testIterableReadsChunksOfEqualTimestamps() {
+        DatabaseTestContainer dbContainer = new DatabaseTestContainer(new MemoryBackend());
+        try {
+            // Preparation
+            SetupResult setupResult = DataCreationHelper.setupMongoDB("testCollection", dbContainer);
+            MongoCollection<Document> collection = setupResult.database.getCollection("testCollection");
+            // five documents per timestamp, so chunks of 3 end between documents with the same timestamp
+            for (int i = 0; i < 20; i++) {
+                collection.insertOne(
+                        DataCreationHelper.createDocument("TestItem", i, LocalDate.now().minusDays(10 - i / 5)));
+            }
+            Document query = new Document(MongoDBFields.FIELD_ITEM, "TestItem");
+
+            for (boolean ascending : List.of(true, false)) {
+                // Execution
+                MongoDBHistoricItemIterable iterable = new MongoDBHistoricItemIterable(collection, query, ascending, 4,
+                        Long.MAX_VALUE, 3, obj -> new MongoDBItem("TestItem",
+                                new DecimalType(obj.getDouble(MongoDBFields.FIELD_VALUE)),
+                                obj.getDate(MongoDBFields.FIELD_TIMESTAMP).toInstant()),
+                        null);
+                List<Double> values = new ArrayList<>();
+                Instant previous = ascending ? Instant.MIN : Instant.MAX;
+                for (HistoricItem item : iterable) {
+                    Instant instant = item.getInstant();
+                    assertTrue(ascending ? !instant.isBefore(previous) : !instant.isAfter(previous));
+                    previous = instant;
+                    values.add(((DecimalType) item.getState()).doubleValue());
+                }
+
+                // Verification
+                assertEquals(16, values.size());
+                assertEquals(16, Set.copyOf(values).size());
+            }
+        } finally {
+            dbContainer.stop();
+        }
+    }
+
+    /**
+     * Tests that states stored with a write buffer are written before a query.
+     */
+    @Test
+    public void testStoreBufferedIsWrittenBeforeQuery() {
+        DatabaseTestContainer dbContainer = new DatabaseTestContainer(new MemoryBackend());
+        try {
+            // Preparation
+            SetupResult setupResult = DataCreationHelper.setupMongoDB("testCollection", dbContainer);
+            MongoDBPersistenceService service = setupResult.service;
+            NumberItem item = DataCreationHelper.createNumberItem("TestItem", 0);
+
+            try {
+                Mockito.when(setupResult.itemRegistry.getItem("TestItem")).thenReturn(item);
+            } catch (ItemNotFoundException e) {
+            }
+
+            setupResult.config.put("writeFlushInterval", "60000");
+            service.activate(setupResult.bundleContext, setupResult.config);
+
+            MongoCollection<Document> collection = setupResult.database.getCollection("testCollection");
+
+            // Execution
+            ZonedDateTime now = ZonedDateTime.now();
+            for (int i = 0; i < 3; i++) {
+                service.store(item, now.minusMinutes(i), new DecimalType(i));
+            }
+            long countBeforeQuery = collection.countDocuments();
+            Iterable<HistoricItem> result = service.query(DataCreationHelper.createFilterCriteria("TestItem"));
+
+            // Verification
+            assertEquals(0, countBeforeQuery);
+            assertEquals(3, collection.countDocuments());
+            VerificationHelper.verifyQueryResult(result, 2, -1, 3);
+
+            service.deactivate(1);
+        } finally {
+            dbContainer.stop();
+        }
+    }
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mongodb.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link MongoDBWriteBuffer} with a mocked scheduler.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MongoDBWriteBufferTest {
+
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    private final List<String> writes = new ArrayList<>();
+    private boolean reachable = true;
+
+    private MongoDBWriteBuffer createBuffer(int capacity, int batchSize) {
+        return new MongoDBWriteBuffer(scheduler, (collectionName, documents) -> {
+            if (!reachable) {
+                return false;
+            }
+            writes.add(collectionName + ":" + documents.size());
+            return true;
+        }, capacity, batchSize, 1000);
+    }
+
+    private Document createDocument(int value) {
+        return new Document(MongoDBFields.FIELD_VALUE, value);
+    }
+
+    @Test
+    public void flushWritesBatchesPerCollection() {
+        MongoDBWriteBuffer buffer = createBuffer(10, 3);
+        buffer.add("a", createDocument(1));
+        buffer.add("b", createDocument(2));
+        buffer.add("a", createDocument(3));
+        buffer.add("a", createDocument(4));
+
+        assertTrue(buffer.flush());
+
+        assertEquals(List.of("a:2", "b:1", "a:1"), writes);
+        assertEquals(4, buffer.getWrittenCount());
+        assertEquals(0, buffer.getQueueDepth());
+    }
+
+    @Test
+    public void delayedFlushIsScheduledOnce() {
+        MongoDBWriteBuffer buffer = createBuffer(10, 5);
+        buffer.add("a", createDocument(1));
+        buffer.add("a", createDocument(2));
+
+        verify(scheduler, times(1)).schedule(any(Runnable.class), eq(1000L), eq(TimeUnit.MILLISECONDS));
+        verify(scheduler, never()).execute(any(Runnable.class));
+    }
+
+    @Test
+    public void fullBatchIsFlushedImmediately() {
+        MongoDBWriteBuffer buffer = createBuffer(10, 3);
+        for (int i = 0; i < 4; i++) {
+            buffer.add("a", createDocument(i));
+        }
+
+        // the delayed flush of the first document does not hold back the full batch
+        verify(scheduler, times(1)).schedule(any(Runnable.class), eq(1000L), eq(TimeUnit.MILLISECONDS));
+        verify(scheduler, times(1)).execute(any(Runnable.class));
+    }
+
+    @Test
+    public void addDropsDocumentsWhenFull() {
+        MongoDBWriteBuffer buffer = createBuffer(2, 5);
+
+        assertTrue(buffer.add("a", createDocument(1)));
+        assertTrue(buffer.add("a", createDocument(2)));
+        assertFalse(buffer.add("a", createDocument(3)));
+        assertEquals(2, buffer.getQueueDepth());
+        assertEquals(1, buffer.getDroppedCount());
+    }
+
+    @Test
+    public void unreachableDatabaseKeepsDocumentsForRetry() {
+        MongoDBWriteBuffer buffer = createBuffer(10, 5);
+        buffer.add("a", createDocument(1));
+        buffer.add("b", createDocument(2));
+        reachable = false;
+
+        assertFalse(buffer.flush());
+        assertTrue(buffer.isRetryPending());
+        assertEquals(2, buffer.getQueueDepth());
+        // one flush scheduled by add(), one retry
+        verify(scheduler, times(2)).schedule(any(Runnable.class), eq(1000L), eq(TimeUnit.MILLISECONDS));
+
+        // the retry fails as well and waits longer
+        assertFalse(buffer.flush());
+        verify(scheduler).schedule(any(Runnable.class), eq(2000L), eq(TimeUnit.MILLISECONDS));
+
+        // the database is back
+        reachable = true;
+        buffer.add("a", createDocument(3));
+        assertTrue(buffer.flush());
+        assertFalse(buffer.isRetryPending());
+        assertEquals(List.of("a:1", "b:1", "a:1"), writes);
+        assertEquals(0, buffer.getQueueDepth());
+    }
+
+    @Test
+    public void fullBatchDoesNotBringRetryForward() {
+        MongoDBWriteBuffer buffer = createBuffer(10, 2);
+        buffer.add("a", createDocument(1));
+        reachable = false;
+        assertFalse(buffer.flush());
+
+        buffer.add("a", createDocument(2));
+        buffer.add("a", createDocument(3));
+
+        verify(scheduler, never()).execute(any(Runnable.class));
+    }
+
+    @Test
+    public void closeWritesRemainingDocuments() {
+        MongoDBWriteBuffer buffer = createBuffer(10, 5);
+        buffer.add("a", createDocument(1));
+
+        buffer.close();
+
+        assertEquals(List.of("a:1"), writes);
+    }
+}
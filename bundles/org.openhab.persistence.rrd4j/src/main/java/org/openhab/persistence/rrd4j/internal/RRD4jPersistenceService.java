@@ -27,14 +27,19 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.DoubleFunction;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -83,10 +88,14 @@ import org.rrd4j.DsType;
 import org.rrd4j.core.Archive;
 import org.rrd4j.core.FetchData;
 import org.rrd4j.core.FetchRequest;
+import org.rrd4j.core.RrdBackendFactory;
 import org.rrd4j.core.RrdDb;
 import org.rrd4j.core.RrdDb.Builder;
 import org.rrd4j.core.RrdDbPool;
 import org.rrd4j.core.RrdDef;
+import org.rrd4j.core.RrdMemoryBackendFactory;
+import org.rrd4j.core.RrdNioBackendFactory;
+import org.rrd4j.core.RrdRandomAccessFileBackendFactory;
 import org.rrd4j.core.Sample;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -118,6 +127,23 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     public static final String SERVICE_ID = "rrd4j";
 
+    /**
+     * Storage backends for the database files.
+     */
+    public enum Backend {
+        /** Files are read and written directly. */
+        FILE,
+        /** Files are memory-mapped and synced to disk periodically (default). */
+        NIO,
+        /** Databases are held in memory and written to the files periodically and on shutdown. */
+        MEMORY
+    }
+
+    private static final String CONFIG_BACKEND = "backend";
+    private static final String CONFIG_SYNC_PERIOD = "syncPeriod";
+    private static final int DEFAULT_SYNC_PERIOD = 300;
+    private static final RrdBackendFactory FILE_FACTORY = new RrdRandomAccessFileBackendFactory();
+
     private static final String DEFAULT_OTHER = "default_other";
     private static final String DEFAULT_NUMERIC = "default_numeric";
     private static final String DEFAULT_QUANTIFIABLE = "default_quantifiable";
@@ -128,6 +154,13 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
             new NamedThreadFactory("RRD4j"));
 
+    // writes to different database files run in parallel, each file is only accessed while holding its lock stripe
+    static final int WRITE_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors());
+    static final int LOCK_STRIPES = 64;
+    private final ExecutorService writeExecutor = Executors.newFixedThreadPool(WRITE_THREADS,
+            new NamedThreadFactory("RRD4j-write"));
+    private final Object[] fileLocks = new Object[LOCK_STRIPES];
+
     private final Map<String, RrdDefConfig> rrdDefs = new ConcurrentHashMap<>();
 
     private final ConcurrentSkipListMap<Key, Double> storageMap = new ConcurrentSkipListMap<>(Key::compareTo);
@@ -138,10 +171,27 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     private static final RrdDbPool DATABASE_POOL = new RrdDbPool();
 
+    private static volatile RrdBackendFactory backendFactory = RrdBackendFactory.getDefaultFactory();
+
     private final Logger logger = LoggerFactory.getLogger(RRD4jPersistenceService.class);
     private final ItemRegistry itemRegistry;
+    // time source for the store timestamps in milliseconds, replaceable in tests
+    private final LongSupplier clock;
     private boolean active = false;
 
+    private Backend backend = Backend.NIO;
+    private int syncPeriod = DEFAULT_SYNC_PERIOD;
+    private @Nullable ScheduledExecutorService syncExecutor;
+    private @Nullable ScheduledFuture<?> snapshotJob;
+    // memory-mapped databases are kept open, otherwise the pool would unmap and sync them after every write
+    private final Map<String, RrdDb> openDatabases = new ConcurrentHashMap<>();
+    private final Set<String> memoryDatabases = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong samplesWritten = new AtomicLong();
+    private final AtomicLong syncRuns = new AtomicLong();
+    private final AtomicLong snapshotCount = new AtomicLong();
+    private final AtomicLong snapshotBytes = new AtomicLong();
+
     public static Path getDatabasePath(String name) {
         return DB_FOLDER.resolve(name + ".rrd");
     }
@@ -150,11 +200,26 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         return DATABASE_POOL;
     }
 
+    /**
+     * @return the factory to use for opening the database files
+     */
+    public static RrdBackendFactory getBackendFactory() {
+        return backendFactory;
+    }
+
     private final ScheduledFuture<?> storeJob;
 
     @Activate
     public RRD4jPersistenceService(final @Reference ItemRegistry itemRegistry, Map<String, Object> config) {
+        this(itemRegistry, config, System::currentTimeMillis);
+    }
+
+    RRD4jPersistenceService(ItemRegistry itemRegistry, Map<String, Object> config, LongSupplier clock) {
         this.itemRegistry = itemRegistry;
+        this.clock = clock;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            fileLocks[i] = new Object();
+        }
         storeJob = scheduler.scheduleWithFixedDelay(() -> doStore(false), 1, 1, TimeUnit.SECONDS);
         modified(config);
         active = true;
@@ -162,6 +227,8 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     @Modified
     protected void modified(final Map<String, Object> config) {
+        configureBackend(config);
+
         // clean existing definitions
         rrdDefs.clear();
 
@@ -213,8 +280,9 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         while (keys.hasNext()) {
             String key = keys.next();
 
-            if ("service.pid".equals(key) || "component.name".equals(key)) {
-                // ignore service.pid and name
+            if ("service.pid".equals(key) || "component.name".equals(key) || CONFIG_BACKEND.equals(key)
+                    || CONFIG_SYNC_PERIOD.equals(key)) {
+                // ignore service.pid, name and backend settings
                 continue;
             }
 
@@ -275,6 +343,209 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
         // make sure we really store everything
         doStore(true);
+        writeExecutor.shutdown();
+        closeBackend();
+    }
+
+    private void configureBackend(Map<String, Object> config) {
+        Backend newBackend = Backend.NIO;
+        if (config.get(CONFIG_BACKEND) instanceof String value && !value.isBlank()) {
+            try {
+                newBackend = Backend.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                logger.warn("Unknown backend '{}', using {}", value, newBackend);
+            }
+        }
+        int newSyncPeriod = DEFAULT_SYNC_PERIOD;
+        Object period = config.get(CONFIG_SYNC_PERIOD);
+        if (period != null) {
+            try {
+                newSyncPeriod = Integer.parseInt(period.toString().trim());
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid sync period '{}', using {} seconds", period, newSyncPeriod);
+            }
+        }
+        if (active && newBackend == backend && newSyncPeriod == syncPeriod) {
+            return;
+        }
+
+        closeBackend();
+        backend = newBackend;
+        syncPeriod = newSyncPeriod;
+        switch (backend) {
+            case NIO -> {
+                // the executor runs the periodic sync of each open file, which forces the mapping to disk even if
+                // nothing changed, so its executions count sync runs rather than actual disk writes
+                ScheduledExecutorService executor = new ScheduledThreadPoolExecutor(1,
+                        new NamedThreadFactory("RRD4j-sync")) {
+                    @Override
+                    protected void afterExecute(@Nullable Runnable r, @Nullable Throwable t) {
+                        super.afterExecute(r, t);
+                        syncRuns.incrementAndGet();
+                    }
+                };
+                syncExecutor = executor;
+                backendFactory = new RrdNioBackendFactory(Math.max(1, syncPeriod), executor);
+            }
+            case MEMORY -> {
+                backendFactory = new RrdMemoryBackendFactory();
+                // load all files, so that charts can read them before the items are updated
+                scheduler.execute(this::loadMemoryDatabases);
+                if (syncPeriod > 0) {
+                    snapshotJob = scheduler.scheduleWithFixedDelay(this::snapshotMemoryDatabases, syncPeriod,
+                            syncPeriod, TimeUnit.SECONDS);
+                }
+            }
+            default -> backendFactory = FILE_FACTORY;
+        }
+        logger.debug("Using {} backend with sync period {} s", backend, syncPeriod);
+    }
+
+    private void closeBackend() {
+        ScheduledFuture<?> job = snapshotJob;
+        if (job != null) {
+            job.cancel(false);
+            snapshotJob = null;
+        }
+        if (backend == Backend.MEMORY) {
+            snapshotMemoryDatabases();
+            memoryDatabases.clear();
+        }
+        for (Map.Entry<String, RrdDb> entry : openDatabases.entrySet()) {
+            synchronized (getFileLock(entry.getKey())) {
+                try {
+                    entry.getValue().close();
+                } catch (IOException e) {
+                    logger.debug("Error closing rrd4j database: {}", e.getMessage());
+                }
+            }
+        }
+        openDatabases.clear();
+        ScheduledExecutorService executor = syncExecutor;
+        if (executor != null) {
+            executor.shutdown();
+            syncExecutor = null;
+        }
+    }
+
+    /**
+     * Writes the in-memory databases to their files.
+     */
+    private void snapshotMemoryDatabases() {
+        for (String alias : memoryDatabases) {
+            synchronized (getFileLock(alias)) {
+                Path path = getDatabasePath(alias);
+                try {
+                    Builder builder = RrdDb.getBuilder();
+                    builder.setPool(DATABASE_POOL);
+                    builder.setBackendFactory(backendFactory);
+                    builder.setPath(path.toString());
+                    try (RrdDb memoryDb = builder.build()) {
+                        Builder fileBuilder = RrdDb.getBuilder();
+                        fileBuilder.setBackendFactory(FILE_FACTORY);
+                        if (Files.exists(path)) {
+                            fileBuilder.setPath(path.toString());
+                        } else {
+                            Files.createDirectories(DB_FOLDER);
+                            fileBuilder.setRrdDef(memoryDb.getRrdDef());
+                        }
+                        try (RrdDb fileDb = fileBuilder.build()) {
+                            memoryDb.copyStateTo(fileDb);
+                        }
+                    }
+                    snapshotBytes.addAndGet(Files.size(path));
+                } catch (IOException e) {
+                    logger.warn("Failed to write rrd4j database '{}' to disk: {}", alias, e.getMessage());
+                }
+            }
+        }
+        snapshotCount.incrementAndGet();
+    }
+
+    private void loadMemoryDatabases() {
+        for (String filename : getRrdFiles()) {
+            String alias = filename.substring(0, filename.lastIndexOf(".rrd"));
+            synchronized (getFileLock(alias)) {
+                try {
+                    if (backend == Backend.MEMORY && !memoryDatabases.contains(alias)) {
+                        loadMemoryDatabase(alias, getDatabasePath(alias));
+                    }
+                } catch (IOException e) {
+                    logger.warn("Failed to load rrd4j database '{}' into memory: {}", alias, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies a database file into memory.
+     *
+     * @return false if there is no file for the database
+     */
+    private boolean loadMemoryDatabase(String alias, Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return false;
+        }
+        Builder fileBuilder = RrdDb.getBuilder();
+        fileBuilder.setBackendFactory(FILE_FACTORY);
+        fileBuilder.setPath(path.toString());
+        try (RrdDb fileDb = fileBuilder.build()) {
+            Builder builder = RrdDb.getBuilder();
+            builder.setPool(DATABASE_POOL);
+            builder.setBackendFactory(backendFactory);
+            builder.setRrdDef(fileDb.getRrdDef());
+            try (RrdDb memoryDb = builder.build()) {
+                fileDb.copyStateTo(memoryDb);
+            }
+        }
+        memoryDatabases.add(alias);
+        return true;
+    }
+
+    private void keepDatabaseOpen(String alias, Path path) throws IOException {
+        if (backend != Backend.NIO || openDatabases.containsKey(alias)) {
+            return;
+        }
+        if (openDatabases.size() + 16 >= DATABASE_POOL.getCapacity()) {
+            DATABASE_POOL.setCapacity(DATABASE_POOL.getCapacity() * 2);
+        }
+        Builder builder = RrdDb.getBuilder();
+        builder.setPool(DATABASE_POOL);
+        builder.setBackendFactory(backendFactory);
+        builder.setPath(path.toString());
+        openDatabases.put(alias, builder.build());
+    }
+
+    public Backend getBackend() {
+        return backend;
+    }
+
+    /**
+     * @return number of samples written to the databases
+     */
+    public long getSamplesWritten() {
+        return samplesWritten.get();
+    }
+
+    /**
+     * @return number of periodic sync runs of memory-mapped files, one per open file and sync period
+     */
+    public long getSyncRuns() {
+        return syncRuns.get();
+    }
+
+    /**
+     * @return number of times the in-memory databases have been written to disk
+     */
+    public long getSnapshotCount() {
+        return snapshotCount.get();
+    }
+
+    /**
+     * @return number of bytes written to disk by snapshots of the in-memory databases
+     */
+    public long getSnapshotBytes() {
+        return snapshotBytes.get();
     }
 
     @Override
@@ -331,7 +602,7 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
             return;
         }
 
-        long now = System.currentTimeMillis() / 1000;
+        long now = clock.getAsLong() / 1000;
         Double oldValue = storageMap.put(new Key(now, name), value);
         if (oldValue != null && !oldValue.equals(value)) {
             logger.debug(
@@ -341,21 +612,69 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     }
 
     private void doStore(boolean force) {
-        long now = System.currentTimeMillis() / 1000;
+        long now = clock.getAsLong() / 1000;
+        // values of one item must be written in order, so all values of a database file go to the same thread
+        List<List<Map.Entry<Key, Double>>> partitions = new ArrayList<>(WRITE_THREADS);
+        for (int i = 0; i < WRITE_THREADS; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        int count = 0;
         while (!storageMap.isEmpty()) {
             Key key = storageMap.firstKey();
             if (now > key.timestamp || force) {
                 // no new elements can be added for this timestamp because we are already past that time or the service
                 // requires forced storing
-                Double value = storageMap.pollFirstEntry().getValue();
-                writePointToDatabase(key.name, value, key.timestamp);
+                Map.Entry<Key, Double> entry = storageMap.pollFirstEntry();
+                if (entry != null) {
+                    partitions.get(Math.floorMod(entry.getKey().name.hashCode(), WRITE_THREADS)).add(entry);
+                    count++;
+                }
             } else {
-                return;
+                break;
             }
         }
+        if (count == 0) {
+            return;
+        }
+
+        List<Callable<@Nullable Void>> tasks = new ArrayList<>(WRITE_THREADS);
+        for (List<Map.Entry<Key, Double>> partition : partitions) {
+            if (!partition.isEmpty()) {
+                tasks.add(() -> {
+                    for (Map.Entry<Key, Double> entry : partition) {
+                        writePointToDatabase(entry.getKey().name, entry.getValue(), entry.getKey().timestamp);
+                    }
+                    return null;
+                });
+            }
+        }
+        try {
+            if (tasks.size() == 1 || writeExecutor.isShutdown()) {
+                for (Callable<@Nullable Void> task : tasks) {
+                    task.call();
+                }
+            } else {
+                writeExecutor.invokeAll(tasks);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.warn("Failed to store values in rrd4j database: {}", e.getMessage());
+        }
+        logger.trace("Stored {} values in {} partitions", count, tasks.size());
+    }
+
+    private Object getFileLock(String name) {
+        return fileLocks[Math.floorMod(name.hashCode(), LOCK_STRIPES)];
     }
 
-    private synchronized void writePointToDatabase(String name, double value, long timestamp) {
+    private void writePointToDatabase(String name, double value, long timestamp) {
+        synchronized (getFileLock(name)) {
+            writePointToDatabaseLocked(name, value, timestamp);
+        }
+    }
+
+    private void writePointToDatabaseLocked(String name, double value, long timestamp) {
         RrdDb db = null;
         try {
             db = getDB(name, true);
@@ -379,6 +698,7 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
                         Sample sample = db.createSample(timestamp - 1);
                         sample.setValue(DATASOURCE_STATE, lastValue);
                         sample.update();
+                        samplesWritten.incrementAndGet();
                         logger.debug("Stored '{}' as value '{}' with timestamp {} in rrd4j database (again)", name,
                                 lastValue, timestamp - 1);
                     }
@@ -396,6 +716,7 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
             }
             sample.setValue(DATASOURCE_STATE, storeValue);
             sample.update();
+            samplesWritten.incrementAndGet();
             logger.debug("Stored '{}' as value '{}' with timestamp {} in rrd4j database", name, storeValue, timestamp);
         } catch (Exception e) {
             logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
@@ -694,17 +1015,29 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         };
     }
 
-    protected synchronized @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
+    protected @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
+        // the lock prevents creating the same file twice, files of other items can be opened concurrently
+        synchronized (getFileLock(alias)) {
+            return getDBLocked(alias, createFileIfAbsent);
+        }
+    }
+
+    private @Nullable RrdDb getDBLocked(String alias, boolean createFileIfAbsent) {
         RrdDb db = null;
         Path path = getDatabasePath(alias);
         try {
             Builder builder = RrdDb.getBuilder();
             builder.setPool(DATABASE_POOL);
+            builder.setBackendFactory(backendFactory);
 
-            if (Files.exists(path)) {
+            boolean exists = backend == Backend.MEMORY
+                    ? memoryDatabases.contains(alias) || loadMemoryDatabase(alias, path)
+                    : Files.exists(path);
+            if (exists) {
                 // recreate the RrdDb instance from the file
                 builder.setPath(path.toString());
                 db = builder.build();
+                keepDatabaseOpen(alias, path);
             } else if (createFileIfAbsent) {
                 if (!Files.exists(DB_FOLDER)) {
                     Files.createDirectories(DB_FOLDER);
@@ -714,6 +1047,10 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
                     // create a new database file
                     builder.setRrdDef(rrdDef);
                     db = builder.build();
+                    if (backend == Backend.MEMORY) {
+                        memoryDatabases.add(alias);
+                    }
+                    keepDatabaseOpen(alias, path);
                 } else {
                     logger.debug(
                             "Did not create rrd4j database for item '{}' since no rrd definition could be determined. This is likely due to an unsupported item type.",
@@ -195,6 +195,7 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
         try {
             Builder builder = RrdDb.getBuilder();
             builder.setPool(RRD4jPersistenceService.getDatabasePool());
+            builder.setBackendFactory(RRD4jPersistenceService.getBackendFactory());
             builder.setPath(rrdName);
 
             RrdDb db = builder.build();
@@ -205,11 +206,13 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
         }
         if (item instanceof NumberItem) {
             // we only draw a line
-            graphDef.datasource(Integer.toString(counter), rrdName, "state", consolFun); // RRD4jService.getConsolidationFunction(item));
+            graphDef.datasource(Integer.toString(counter), rrdName, "state", consolFun,
+                    RRD4jPersistenceService.getBackendFactory()); // RRD4jService.getConsolidationFunction(item));
             graphDef.line(Integer.toString(counter), color, label, 2);
         } else {
             // we draw a line and fill the area beneath it with a transparent color
-            graphDef.datasource(Integer.toString(counter), rrdName, "state", consolFun); // RRD4jService.getConsolidationFunction(item));
+            graphDef.datasource(Integer.toString(counter), rrdName, "state", consolFun,
+                    RRD4jPersistenceService.getBackendFactory()); // RRD4jService.getConsolidationFunction(item));
             Color areaColor = AREACOLORS[counter % LINECOLORS.length];
 
             graphDef.area(Integer.toString(counter), areaColor);
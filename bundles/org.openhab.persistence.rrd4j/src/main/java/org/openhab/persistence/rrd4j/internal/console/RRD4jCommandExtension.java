@@ -52,8 +52,9 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
     private static final String CMD_LIST = "list";
     private static final String CMD_CHECK = "check";
     private static final String CMD_CLEAN = "clean";
-    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_LIST, CMD_CHECK, CMD_CLEAN),
-            false);
+    private static final String CMD_STATS = "stats";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(
+            List.of(CMD_LIST, CMD_CHECK, CMD_CLEAN, CMD_STATS), false);
 
     private final PersistenceServiceRegistry persistenceServiceRegistry;
     private final PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry;
@@ -89,10 +90,31 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
         } else if (args.length >= 1 && args.length <= 2 && CMD_CLEAN.equalsIgnoreCase(args[0])) {
             checkAndClean(persistenceService, console, args.length == 2 ? args[1] : null, false);
             return;
+        } else if (args.length == 1 && CMD_STATS.equalsIgnoreCase(args[0])) {
+            printStatistics(persistenceService, console);
+            return;
         }
         printUsage(console);
     }
 
+    private void printStatistics(RRD4jPersistenceService persistenceService, Console console) {
+        long samples = persistenceService.getSamplesWritten();
+        console.println("Backend:         " + persistenceService.getBackend());
+        console.println("Samples written: " + samples);
+        console.println("Sync runs:       " + persistenceService.getSyncRuns());
+        console.println("Snapshots:       " + persistenceService.getSnapshotCount());
+        console.println("Snapshot bytes:  " + persistenceService.getSnapshotBytes());
+        if (persistenceService.getBackend() != RRD4jPersistenceService.Backend.MEMORY) {
+            // files are updated in place through the page cache, which decides how many bytes reach the disk
+            console.println("Write amplification: not measured for the " + persistenceService.getBackend()
+                    + " backend, see the I/O statistics of the operating system");
+        } else if (samples > 0 && persistenceService.getSnapshotBytes() > 0) {
+            // each sample is one double value
+            console.println(String.format("Write amplification: %.1f",
+                    (double) persistenceService.getSnapshotBytes() / (samples * Double.BYTES)));
+        }
+    }
+
     private @Nullable RRD4jPersistenceService getPersistenceService() {
         for (PersistenceService persistenceService : persistenceServiceRegistry.getAll()) {
             if (persistenceService instanceof RRD4jPersistenceService service) {
@@ -155,7 +177,8 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
     public List<String> getUsages() {
         return List.of(buildCommandUsage(CMD_LIST, "list Round Robin Database files"),
                 buildCommandUsage(CMD_CHECK, "check for RRD files without existing item"),
-                buildCommandUsage(CMD_CLEAN + " [<itemName>]", "delete RRD files without existing item"));
+                buildCommandUsage(CMD_CLEAN + " [<itemName>]", "delete RRD files without existing item"),
+                buildCommandUsage(CMD_STATS, "show storage backend statistics"));
     }
 
     @Override
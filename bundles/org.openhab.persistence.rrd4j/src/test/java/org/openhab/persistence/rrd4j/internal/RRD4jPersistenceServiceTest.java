@@ -14,18 +14,29 @@ package org.openhab.persistence.rrd4j.internal;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.Mockito.when;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -37,6 +48,7 @@ import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.PersistedItem;
+import org.rrd4j.core.RrdDb;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -289,6 +301,145 @@ class RRD4jPersistenceServiceTest {
         assertEquals(new DecimalType(42.5), item.getState());
     }
 
+    @Test
+    void storeValuesOfManyItems() throws Exception {
+        List<NumberItem> items = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            NumberItem item = new NumberItem("TestNumber_MANY_" + i);
+            item.setState(new DecimalType(i));
+            when(itemRegistry.getItem(item.getName())).thenReturn(item);
+            items.add(item);
+        }
+
+        // values of different items are written in parallel
+        items.forEach(service::store);
+
+        for (NumberItem item : items) {
+            waitForStorage(item.getName(), STORAGE_TIMEOUT_MS);
+        }
+    }
+
+    @Test
+    void storeWritesDifferentItemsConcurrently() throws Exception {
+        int writeThreads = RRD4jPersistenceService.WRITE_THREADS;
+        assumeTrue(writeThreads > 1, "values are written by one thread per core");
+
+        // find two items which are written by different threads and do not share a file lock
+        List<NumberItem> items = new ArrayList<>();
+        int firstHash = 0;
+        for (int i = 0; items.size() < 2; i++) {
+            NumberItem item = new NumberItem("TestNumber_PARALLEL_" + i);
+            int hash = item.getName().hashCode();
+            if (items.isEmpty()) {
+                firstHash = hash;
+            } else if (Math.floorMod(hash, writeThreads) == Math.floorMod(firstHash, writeThreads)
+                    || Math.floorMod(hash, RRD4jPersistenceService.LOCK_STRIPES) == Math.floorMod(firstHash,
+                            RRD4jPersistenceService.LOCK_STRIPES)) {
+                continue;
+            }
+            item.setState(new DecimalType(i));
+            when(itemRegistry.getItem(item.getName())).thenReturn(item);
+            items.add(item);
+        }
+
+        // each write blocks until both writes have opened their database
+        CountDownLatch opened = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        // the clock stands still while both values are stored, so that they are written by the same store run
+        AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+        service.deactivate();
+        service = new RRD4jPersistenceService(itemRegistry, Map.of(), clock::get) {
+            @Override
+            protected @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
+                if (createFileIfAbsent && alias.startsWith("TestNumber_PARALLEL_")) {
+                    opened.countDown();
+                    try {
+                        release.await(STORAGE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.getDB(alias, createFileIfAbsent);
+            }
+        };
+
+        items.forEach(service::store);
+        clock.addAndGet(1000);
+
+        try {
+            assertTrue(opened.await(STORAGE_TIMEOUT_MS, TimeUnit.MILLISECONDS),
+                    "the second write did not start while the first one was blocked");
+        } finally {
+            release.countDown();
+        }
+        for (NumberItem item : items) {
+            waitForStorage(item.getName(), STORAGE_TIMEOUT_MS);
+        }
+    }
+
+    private void assertLatestValue(String itemName, DecimalType expected) {
+        FilterCriteria criteria = new FilterCriteria();
+        criteria.setItemName(itemName);
+        criteria.setOrdering(FilterCriteria.Ordering.DESCENDING);
+        criteria.setPageSize(1);
+
+        HistoricItem item = service.query(criteria).iterator().next();
+        assertEquals(itemName, item.getName());
+        assertEquals(expected, item.getState());
+    }
+
+    @ParameterizedTest
+    @EnumSource(RRD4jPersistenceService.Backend.class)
+    void storeAndRetrieveWithBackend(RRD4jPersistenceService.Backend backend) throws Exception {
+        NumberItem item = new NumberItem("TestNumber_BACKEND_" + backend);
+        item.setState(new DecimalType(42.5));
+        when(itemRegistry.getItem(item.getName())).thenReturn(item);
+
+        service.deactivate();
+        service = new RRD4jPersistenceService(itemRegistry,
+                Map.of("backend", backend.name().toLowerCase(), "syncPeriod", "1"));
+        assertEquals(backend, service.getBackend());
+
+        service.store(item);
+        waitForStorage(item.getName(), STORAGE_TIMEOUT_MS);
+        assertLatestValue(item.getName(), new DecimalType(42.5));
+
+        // the file written by the backend is read by the default backend
+        service.deactivate();
+        service = new RRD4jPersistenceService(itemRegistry, Map.of());
+        assertLatestValue(item.getName(), new DecimalType(42.5));
+    }
+
+    @Test
+    void memoryBackendSnapshotIsSavedAndLoaded() throws Exception {
+        NumberItem item = new NumberItem("TestNumber_SNAPSHOT");
+        item.setState(new DecimalType(17.25));
+        when(itemRegistry.getItem(item.getName())).thenReturn(item);
+        Path path = RRD4jPersistenceService.getDatabasePath(item.getName());
+        Files.deleteIfExists(path);
+
+        service.deactivate();
+        service = new RRD4jPersistenceService(itemRegistry, Map.of("backend", "memory", "syncPeriod", "1"));
+        service.store(item);
+        waitForStorage(item.getName(), STORAGE_TIMEOUT_MS);
+
+        // wait for a periodic snapshot taken after the value was written
+        long snapshots = service.getSnapshotCount();
+        long startTime = System.currentTimeMillis();
+        while (service.getSnapshotCount() <= snapshots + 1
+                && System.currentTimeMillis() - startTime < STORAGE_TIMEOUT_MS) {
+            Thread.sleep(POLL_INTERVAL_MS);
+        }
+        assertTrue(service.getSnapshotCount() > snapshots + 1, "no snapshot was taken");
+        assertTrue(service.getSnapshotBytes() > 0);
+        assertTrue(Files.exists(path));
+
+        // a new memory backend loads the snapshot
+        service.deactivate();
+        service = new RRD4jPersistenceService(itemRegistry, Map.of("backend", "memory", "syncPeriod", "0"));
+        assertLatestValue(item.getName(), new DecimalType(17.25));
+    }
+
     @Test
     void checkRddFormatCompatibility() throws Exception {
         PersistedItem persistedItem = service.persistedItem("KnownNumber", null);
@@ -72,6 +72,36 @@ class RRD4jCommandExtensionTest {
         order.verify(console).println("2 files found.");
     }
 
+    @Test
+    void statsCommandPrintsWriteAmplificationOfMemoryBackend() {
+        when(persistenceServiceRegistry.getAll()).thenReturn(Set.<PersistenceService> of(persistenceService));
+        when(persistenceService.getBackend()).thenReturn(RRD4jPersistenceService.Backend.MEMORY);
+        when(persistenceService.getSamplesWritten()).thenReturn(100L);
+        when(persistenceService.getSnapshotBytes()).thenReturn(4000L);
+
+        RRD4jCommandExtension extension = new RRD4jCommandExtension(persistenceServiceRegistry, itemRegistry,
+                persistenceServiceConfigurationRegistry);
+
+        extension.execute(new String[] { "stats" }, console);
+
+        verify(console).println("Backend:         MEMORY");
+        verify(console).println(String.format("Write amplification: %.1f", 5.0));
+    }
+
+    @Test
+    void statsCommandExplainsMissingWriteAmplificationOfFileBackends() {
+        when(persistenceServiceRegistry.getAll()).thenReturn(Set.<PersistenceService> of(persistenceService));
+        when(persistenceService.getBackend()).thenReturn(RRD4jPersistenceService.Backend.NIO);
+
+        RRD4jCommandExtension extension = new RRD4jCommandExtension(persistenceServiceRegistry, itemRegistry,
+                persistenceServiceConfigurationRegistry);
+
+        extension.execute(new String[] { "stats" }, console);
+
+        verify(console).println(
+                "Write amplification: not measured for the NIO backend, see the I/O statistics of the operating system");
+    }
+
     @Test
     void missingServicePrintsWarning() {
         when(persistenceServiceRegistry.getAll()).thenReturn(Set.of());
@@ -30,6 +30,7 @@ import org.osgi.service.component.annotations.Reference;
  *
  * <pre>
  * openhab:timescaledb downsample   - run the downsampling job immediately
+ * openhab:timescaledb stats        - show write buffer statistics
  * </pre>
  *
  * @author René Ulbricht - Initial contribution
@@ -40,7 +41,9 @@ public class TimescaleDBConsoleCommandExtension extends AbstractConsoleCommandEx
         implements ConsoleCommandCompleter {
 
     private static final String CMD_DOWNSAMPLE = "downsample";
-    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_DOWNSAMPLE), false);
+    private static final String CMD_STATS = "stats";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_DOWNSAMPLE, CMD_STATS),
+            false);
 
     private final TimescaleDBPersistenceService persistenceService;
 
@@ -52,7 +55,8 @@ public class TimescaleDBConsoleCommandExtension extends AbstractConsoleCommandEx
 
     @Override
     public List<String> getUsages() {
-        return List.of(buildCommandUsage(CMD_DOWNSAMPLE, "run the downsampling/retention job immediately"));
+        return List.of(buildCommandUsage(CMD_DOWNSAMPLE, "run the downsampling/retention job immediately"),
+                buildCommandUsage(CMD_STATS, "show write buffer statistics"));
     }
 
     @Override
@@ -75,8 +79,25 @@ public class TimescaleDBConsoleCommandExtension extends AbstractConsoleCommandEx
             } else {
                 console.println("TimescaleDB persistence service is not active — cannot run job.");
             }
+        } else if (args.length == 1 && CMD_STATS.equals(args[0])) {
+            printStatistics(console);
         } else {
             printUsage(console);
         }
     }
+
+    private void printStatistics(Console console) {
+        TimescaleDBWriteBuffer buffer = persistenceService.getWriteBuffer();
+        if (buffer == null) {
+            console.println("TimescaleDB write buffer is not active — states are written synchronously.");
+            return;
+        }
+        console.println("Queue depth:        " + buffer.getQueueDepth() + " / " + buffer.getCapacity());
+        console.println("Rows written:       " + buffer.getWrittenCount());
+        console.println("Rows dropped:       " + buffer.getDroppedCount());
+        console.println("Flushes:            " + buffer.getFlushCount());
+        console.println("Failed flushes:     " + buffer.getFailedFlushCount());
+        console.println("Rows in last flush: " + buffer.getLastBatchSize());
+        console.println(String.format("Rows per flush:     %.1f", buffer.getAverageBatchSize()));
+    }
 }
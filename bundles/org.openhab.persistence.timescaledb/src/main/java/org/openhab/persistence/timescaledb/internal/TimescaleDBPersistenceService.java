@@ -15,6 +15,7 @@ package org.openhab.persistence.timescaledb.internal;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
@@ -29,6 +30,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.config.core.ConfigurableService;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
@@ -42,12 +44,15 @@ import org.openhab.core.persistence.QueryablePersistenceService;
 import org.openhab.core.persistence.strategy.PersistenceStrategy;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
+import org.openhab.io.metrics.internal.meters.PersistenceMeters;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ConfigurationPolicy;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -65,6 +70,10 @@ import com.zaxxer.hikari.HikariDataSource;
  * Item names are cached in-memory ({@code name → item_id}) to avoid a SELECT on every
  * {@link #store} call. The cache is populated lazily on first store per item.
  *
+ * <p>
+ * States are buffered in a {@link TimescaleDBWriteBuffer} and written in batches by a background thread, so
+ * {@link #store} does not block on the database. Queries and removals write pending states first.
+ *
  * @author René Ulbricht - Initial contribution
  */
 @NonNullByDefault
@@ -82,6 +91,8 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
 
     private static final String SERVICE_ID = "timescaledb";
     private static final String SERVICE_LABEL = "TimescaleDB";
+    // maximum time a query waits for a running flush of the write buffer
+    private static final long QUERY_FLUSH_TIMEOUT_MS = 5000;
 
     // item name → item_id, populated lazily
     private final Map<String, Integer> itemIdCache = new ConcurrentHashMap<>();
@@ -93,6 +104,11 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
     private @Nullable HikariDataSource dataSource;
     private @Nullable ScheduledFuture<?> downsampleJob;
     private @Nullable TimescaleDBDownsampleJob downsampleJobInstance;
+    private @Nullable TimescaleDBWriteBuffer writeBuffer;
+    private final PersistenceMeters meters = new PersistenceMeters(SERVICE_ID, () -> {
+        TimescaleDBWriteBuffer buffer = writeBuffer;
+        return buffer != null ? buffer.getQueueDepth() : 0;
+    });
 
     @Activate
     public TimescaleDBPersistenceService(final @Reference ItemRegistry itemRegistry,
@@ -128,6 +144,9 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
         String chunkInterval = (String) config.getOrDefault("chunkInterval", "7 days");
         int retentionDays = parseIntConfig(config, "retentionDays", 0);
         int compressionAfterDays = parseIntConfig(config, "compressionAfterDays", 0);
+        int writeBufferSize = parseIntConfig(config, "writeBufferSize", 10000);
+        int writeBatchSize = parseIntConfig(config, "writeBatchSize", 500);
+        int writeFlushInterval = parseIntConfig(config, "writeFlushInterval", 1000);
 
         LOGGER.debug(
                 "Activating TimescaleDB persistence: url={}, user={}, maxConnections={}, "
@@ -166,10 +185,24 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
                 TimeUnit.DAYS.toSeconds(1), TimeUnit.SECONDS);
         LOGGER.info("Downsampling job scheduled: first run in {}s, then every 24h", initialDelay);
 
+        if (writeBufferSize > 0) {
+            writeBuffer = new TimescaleDBWriteBuffer(ThreadPoolManager.getScheduledPool(THREAD_POOL_NAME),
+                    this::writeBatch, writeBufferSize, Math.max(1, writeBatchSize), writeFlushInterval);
+        }
+
         metadataRegistry.addRegistryChangeListener(this);
         LOGGER.info("TimescaleDB persistence service activated");
     }
 
+    /**
+     * Returns the write buffer, for statistics shown by the Karaf console command.
+     *
+     * @return the write buffer, or {@code null} if the service is not activated or writes synchronously.
+     */
+    public @Nullable TimescaleDBWriteBuffer getWriteBuffer() {
+        return writeBuffer;
+    }
+
     /**
      * Triggers the downsampling job immediately in the calling thread.
      * Intended for use by the Karaf console command for on-demand testing.
@@ -198,6 +231,12 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
         }
         downsampleJobInstance = null;
 
+        TimescaleDBWriteBuffer buffer = writeBuffer;
+        if (buffer != null) {
+            buffer.close();
+            writeBuffer = null;
+        }
+
         HikariDataSource ds = dataSource;
         if (ds != null) {
             ds.close();
@@ -210,6 +249,16 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
     // PersistenceService
     // -------------------------------------------------------------------------
 
+    /** Publishes store and query latencies and the write buffer depth while the meter registry is available. */
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        meters.bind(meterRegistryProvider.getOHMeterRegistry());
+    }
+
+    void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        meters.unbind();
+    }
+
     @Override
     public String getId() {
         return SERVICE_ID;
@@ -265,20 +314,58 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
         @Nullable
         String metadataJson = metadataService.getMetadataConfigJson(name);
 
-        HikariDataSource ds = dataSource;
-        if (ds == null) {
+        if (dataSource == null) {
             LOGGER.warn("TimescaleDB data source not available — cannot store item '{}'", name);
             return;
         }
 
-        try (Connection conn = ds.getConnection()) {
-            int itemId = getOrCreateItemId(conn, name, label, valueStr, metadataJson);
-            TimescaleDBQuery.insert(conn, itemId, date, row);
+        TimescaleDBWriteBuffer.Entry entry = new TimescaleDBWriteBuffer.Entry(name, label, valueStr, metadataJson, date,
+                row);
+        TimescaleDBWriteBuffer buffer = writeBuffer;
+        if (buffer != null) {
+            buffer.add(entry);
+            return;
+        }
+        try {
+            writeBatch(List.of(entry));
         } catch (SQLException e) {
             LOGGER.error("Failed to store item '{}': {}", name, e.getMessage(), e);
         }
     }
 
+    /**
+     * Writes buffered states, resolving the item_id of each item through the cache.
+     */
+    private void writeBatch(List<TimescaleDBWriteBuffer.Entry> batch) throws SQLException {
+        HikariDataSource ds = dataSource;
+        if (ds == null) {
+            throw new SQLException("TimescaleDB data source not available", "08003");
+        }
+        long start = System.nanoTime();
+        try (Connection conn = ds.getConnection()) {
+            List<TimescaleDBQuery.InsertRow> rows = new ArrayList<>(batch.size());
+            for (TimescaleDBWriteBuffer.Entry entry : batch) {
+                int itemId = getOrCreateItemId(conn, entry.name(), entry.label(), entry.value(),
+                        entry.metadataJson());
+                rows.add(new TimescaleDBQuery.InsertRow(itemId, entry.timestamp(), entry.row()));
+            }
+            TimescaleDBQuery.insertBatch(conn, rows);
+        } finally {
+            meters.recordStore(start);
+        }
+    }
+
+    /**
+     * Writes pending states before reading or deleting, so that callers see their own writes. This is skipped while the
+     * database is not reachable, so that callers are not blocked until the connection times out.
+     */
+    private void flushWriteBuffer() {
+        TimescaleDBWriteBuffer buffer = writeBuffer;
+        if (buffer != null && buffer.getQueueDepth() > 0 && !buffer.tryFlush(QUERY_FLUSH_TIMEOUT_MS)) {
+            LOGGER.debug("Write buffer not flushed before query, {} states are pending", buffer.getQueueDepth());
+        }
+    }
+
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
         return query(filter, null);
@@ -293,6 +380,7 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
         }
 
         String queryName = alias != null ? alias : itemName;
+        flushWriteBuffer();
 
         @Nullable
         Integer itemId = itemIdCache.get(queryName);
@@ -332,11 +420,14 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
             return Collections.emptyList();
         }
 
+        long start = System.nanoTime();
         try (Connection conn = ds.getConnection()) {
             return TimescaleDBQuery.query(conn, item, itemId, filter);
         } catch (SQLException e) {
             LOGGER.error("Query failed for item '{}': {}", queryName, e.getMessage(), e);
             return Collections.emptyList();
+        } finally {
+            meters.recordQuery(start);
         }
     }
 
@@ -347,6 +438,7 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
             LOGGER.warn("FilterCriteria has no item name — cannot remove data");
             return false;
         }
+        flushWriteBuffer();
 
         @Nullable
         Integer itemId = itemIdCache.get(itemName);
@@ -56,6 +56,14 @@ public class TimescaleDBQuery {
     // timestamp can coexist and only true duplicates are dropped.
     private static final String SQL_INSERT = "INSERT INTO items (time, item_id, value, string, unit) VALUES (?, ?, ?, ?, ?) ON CONFLICT DO NOTHING";
 
+    // Multi-row form of SQL_INSERT, one "(?, ?, ?, ?, ?)" group per row is appended.
+    // COPY is not used because it cannot skip duplicates, a single duplicate row would fail the whole batch.
+    private static final String SQL_INSERT_BATCH = "INSERT INTO items (time, item_id, value, string, unit) VALUES ";
+    private static final String SQL_INSERT_BATCH_CONFLICT = " ON CONFLICT DO NOTHING";
+
+    // Rows per multi-row INSERT, keeps the number of bind parameters well below the PostgreSQL limit of 65535
+    static final int MAX_ROWS_PER_INSERT = 1000;
+
     // --- item_meta lookup / insert ---
     private static final String SQL_SELECT_ITEM_ID = "SELECT id FROM item_meta WHERE name = ?";
 
@@ -101,6 +109,52 @@ public class TimescaleDBQuery {
                 row.unit());
     }
 
+    /**
+     * A row to insert with {@link #insertBatch}.
+     */
+    public record InsertRow(int itemId, ZonedDateTime timestamp, TimescaleDBMapper.Row row) {
+    }
+
+    /**
+     * Inserts several item state rows with multi-row INSERT statements.
+     *
+     * @param connection The JDBC connection.
+     * @param rows The rows to insert.
+     * @return The number of inserted rows (duplicates are not counted).
+     * @throws SQLException on any database error.
+     */
+    public static int insertBatch(Connection connection, List<InsertRow> rows) throws SQLException {
+        int inserted = 0;
+        for (int start = 0; start < rows.size(); start += MAX_ROWS_PER_INSERT) {
+            List<InsertRow> chunk = rows.subList(start, Math.min(rows.size(), start + MAX_ROWS_PER_INSERT));
+            StringBuilder sql = new StringBuilder(SQL_INSERT_BATCH);
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "(?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?)");
+            }
+            sql.append(SQL_INSERT_BATCH_CONFLICT);
+
+            try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+                int index = 1;
+                for (InsertRow insertRow : chunk) {
+                    TimescaleDBMapper.Row row = insertRow.row();
+                    ps.setTimestamp(index++, Timestamp.from(insertRow.timestamp().toInstant()));
+                    ps.setInt(index++, insertRow.itemId());
+                    Double value = row.value();
+                    if (value != null) {
+                        ps.setDouble(index++, value);
+                    } else {
+                        ps.setNull(index++, Types.DOUBLE);
+                    }
+                    ps.setString(index++, row.string());
+                    ps.setString(index++, row.unit());
+                }
+                inserted += ps.executeUpdate();
+            }
+        }
+        LOGGER.debug("Stored {} of {} rows in a batch", inserted, rows.size());
+        return inserted;
+    }
+
     /**
      * Returns the item_id for the given name, inserting or updating the {@code item_meta} row as needed.
      *
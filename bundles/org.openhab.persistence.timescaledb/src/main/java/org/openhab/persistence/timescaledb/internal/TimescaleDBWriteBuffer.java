@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.timescaledb.internal;
+
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded buffer that decouples {@code store()} calls from the database.
+ *
+ * <p>
+ * Entries are written in batches of up to {@code batchSize} rows by a {@link BatchWriter}. A flush is scheduled by
+ * the first entry after the previous flush and runs after {@code flushInterval} milliseconds, or immediately once a
+ * full batch is waiting, even if a flush is already scheduled.
+ *
+ * <p>
+ * If a batch fails because the database is not reachable, it is kept and retried with an increasing delay (up to
+ * {@link #MAX_RETRY_DELAY_MS}) until the connection pool has reconnected. New entries are buffered meanwhile; when the
+ * buffer is full they are dropped, so memory use stays bounded. If a batch fails for other reasons, its entries are
+ * written one at a time, so that only the failing entries are discarded.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TimescaleDBWriteBuffer {
+
+    static final long MAX_RETRY_DELAY_MS = 60_000;
+
+    /**
+     * A buffered state, with the item_meta fields needed to resolve the item_id when it is written.
+     */
+    public record Entry(String name, @Nullable String label, @Nullable String value, @Nullable String metadataJson,
+            ZonedDateTime timestamp, TimescaleDBMapper.Row row) {
+    }
+
+    /**
+     * Writes a batch of entries to the database.
+     */
+    @FunctionalInterface
+    public interface BatchWriter {
+        void write(List<Entry> batch) throws SQLException;
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimescaleDBWriteBuffer.class);
+
+    private final BlockingQueue<Entry> queue;
+    private final ScheduledExecutorService scheduler;
+    private final BatchWriter writer;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushInterval;
+
+    private final AtomicBoolean flushPending = new AtomicBoolean();
+    // an immediate flush for a full batch, in addition to a flush scheduled after the flush interval
+    private final AtomicBoolean fullBatchFlushPending = new AtomicBoolean();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // a batch that failed with a connection error, written before anything else
+    private volatile List<Entry> retryBatch = List.of();
+    private long retryDelay;
+    private volatile @Nullable ScheduledFuture<?> flushJob;
+    private volatile boolean closed;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong failedFlushCount = new AtomicLong();
+    private volatile int lastBatchSize;
+
+    /**
+     * @param scheduler executor used for flushing
+     * @param writer writes a batch to the database
+     * @param capacity maximum number of buffered entries
+     * @param batchSize maximum number of entries written at once
+     * @param flushInterval time in milliseconds to collect entries before a batch which is not full is written
+     */
+    public TimescaleDBWriteBuffer(ScheduledExecutorService scheduler, BatchWriter writer, int capacity, int batchSize,
+            long flushInterval) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.scheduler = scheduler;
+        this.writer = writer;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * Adds an entry and schedules a flush if none is pending.
+     *
+     * @return {@code true} if the entry was buffered, {@code false} if it was dropped because the buffer is full
+     */
+    public boolean add(Entry entry) {
+        if (!queue.offer(entry)) {
+            if (droppedCount.getAndIncrement() % capacity == 0) {
+                LOGGER.warn("TimescaleDB write buffer is full ({} entries), dropping states. Dropped so far: {}",
+                        capacity, droppedCount.get());
+            }
+            return false;
+        }
+        if (closed) {
+            return true;
+        }
+        if (flushPending.compareAndSet(false, true)) {
+            schedule(queue.size() >= batchSize ? 0 : flushInterval);
+        } else if (queue.size() >= batchSize && retryBatch.isEmpty()
+                && fullBatchFlushPending.compareAndSet(false, true)) {
+            // while the database is not reachable, the retry is not brought forward
+            try {
+                scheduler.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                fullBatchFlushPending.set(false);
+                LOGGER.debug("Flush of TimescaleDB write buffer rejected: {}", e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes all buffered entries in the calling thread.
+     *
+     * @return {@code true} if the buffer is empty afterwards, {@code false} if writing failed and will be retried
+     */
+    public boolean flush() {
+        flushLock.lock();
+        try {
+            return flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Writes all buffered entries like {@link #flush()}, unless a batch is waiting for a retry because the database is
+     * not reachable, or a running flush does not finish within the given time.
+     *
+     * @param timeout maximum time in milliseconds to wait for a running flush
+     * @return {@code true} if the buffer is empty afterwards
+     */
+    public boolean tryFlush(long timeout) {
+        if (!retryBatch.isEmpty()) {
+            return false;
+        }
+        try {
+            if (!flushLock.tryLock(timeout, TimeUnit.MILLISECONDS)) {
+                return false;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        try {
+            return retryBatch.isEmpty() && flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private boolean flushLocked() {
+        flushPending.set(false);
+        fullBatchFlushPending.set(false);
+        List<Entry> batch = retryBatch;
+        retryBatch = List.of();
+        if (batch.isEmpty()) {
+            batch = drain();
+        }
+        while (!batch.isEmpty()) {
+            int written = batch.size();
+            try {
+                writer.write(batch);
+            } catch (SQLException | RuntimeException e) {
+                failedFlushCount.incrementAndGet();
+                if (e instanceof SQLException sqlException && isConnectionError(sqlException)) {
+                    return retryLater(batch, e);
+                }
+                if (batch.size() == 1) {
+                    LOGGER.error("Failed to write buffered state of item '{}', discarding it: {}", batch.get(0).name(),
+                            e.getMessage(), e);
+                    batch = drain();
+                    continue;
+                }
+                LOGGER.debug("Failed to write {} buffered states, writing them one at a time: {}", batch.size(),
+                        e.getMessage());
+                written = 0;
+                for (int i = 0; i < batch.size(); i++) {
+                    Entry entry = batch.get(i);
+                    try {
+                        writer.write(List.of(entry));
+                        written++;
+                    } catch (SQLException | RuntimeException entryException) {
+                        if (entryException instanceof SQLException sqlException && isConnectionError(sqlException)) {
+                            writtenCount.addAndGet(written);
+                            return retryLater(new ArrayList<>(batch.subList(i, batch.size())), entryException);
+                        }
+                        LOGGER.error("Failed to write buffered state of item '{}', discarding it: {}", entry.name(),
+                                entryException.getMessage(), entryException);
+                    }
+                }
+            }
+            retryDelay = 0;
+            if (written > 0) {
+                lastBatchSize = written;
+                writtenCount.addAndGet(written);
+                flushCount.incrementAndGet();
+                LOGGER.debug("Wrote {} buffered states, {} remaining", written, queue.size());
+            }
+            batch = drain();
+        }
+        return true;
+    }
+
+    /**
+     * Keeps a batch which failed because the database is not reachable and schedules its retry.
+     *
+     * @return {@code false}
+     */
+    private boolean retryLater(List<Entry> batch, Exception e) {
+        retryBatch = batch;
+        retryDelay = Math.min(MAX_RETRY_DELAY_MS, Math.max(1000, retryDelay * 2));
+        LOGGER.warn("Failed to write {} buffered states, retrying in {} s: {}", batch.size(), retryDelay / 1000,
+                e.getMessage());
+        if (!closed && flushPending.compareAndSet(false, true)) {
+            schedule(retryDelay);
+        }
+        return false;
+    }
+
+    /**
+     * Stops scheduling flushes and writes the remaining entries once.
+     */
+    public void close() {
+        closed = true;
+        ScheduledFuture<?> job = flushJob;
+        if (job != null) {
+            job.cancel(false);
+        }
+        if (!flush()) {
+            LOGGER.warn("Discarding {} buffered states which could not be written", getQueueDepth());
+        }
+    }
+
+    private List<Entry> drain() {
+        List<Entry> batch = new ArrayList<>(Math.min(batchSize, capacity));
+        queue.drainTo(batch, batchSize);
+        return batch;
+    }
+
+    private void schedule(long delay) {
+        try {
+            flushJob = scheduler.schedule(this::flush, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            flushPending.set(false);
+            LOGGER.debug("Flush of TimescaleDB write buffer rejected: {}", e.getMessage());
+        }
+    }
+
+    static boolean isConnectionError(SQLException e) {
+        String state = e.getSQLState();
+        return e instanceof SQLTransientException || e instanceof SQLRecoverableException
+                || (state != null && state.startsWith("08"));
+    }
+
+    /**
+     * @return number of buffered entries, including a batch waiting for a retry
+     */
+    public int getQueueDepth() {
+        return queue.size() + retryBatch.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    public long getFailedFlushCount() {
+        return failedFlushCount.get();
+    }
+
+    /**
+     * @return number of rows written by the last successful flush
+     */
+    public int getLastBatchSize() {
+        return lastBatchSize;
+    }
+
+    /**
+     * @return average number of rows written per successful flush
+     */
+    public double getAverageBatchSize() {
+        long flushes = flushCount.get();
+        return flushes == 0 ? 0 : (double) writtenCount.get() / flushes;
+    }
+}
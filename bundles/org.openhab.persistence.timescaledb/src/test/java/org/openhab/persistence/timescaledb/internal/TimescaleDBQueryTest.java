@@ -79,6 +79,30 @@ class TimescaleDBQueryTest {
         verify(preparedStatement).executeUpdate();
     }
 
+    @Test
+    void insertBatchWritesAllRowsWithOneStatementPerChunk() throws Exception {
+        var capturedSql = new java.util.ArrayList<String>();
+        when(connection.prepareStatement(anyString())).thenAnswer(inv -> {
+            capturedSql.add(inv.getArgument(0));
+            return preparedStatement;
+        });
+        when(preparedStatement.executeUpdate()).thenReturn(TimescaleDBQuery.MAX_ROWS_PER_INSERT, 2);
+
+        var rows = new java.util.ArrayList<TimescaleDBQuery.InsertRow>();
+        for (int i = 0; i < TimescaleDBQuery.MAX_ROWS_PER_INSERT + 2; i++) {
+            rows.add(new TimescaleDBQuery.InsertRow(7, ZonedDateTime.now(),
+                    new TimescaleDBMapper.Row(1.0, null, null)));
+        }
+
+        assertEquals(TimescaleDBQuery.MAX_ROWS_PER_INSERT + 2, TimescaleDBQuery.insertBatch(connection, rows));
+        assertEquals(2, capturedSql.size());
+        assertTrue(capturedSql.get(1).endsWith("VALUES (?, ?, ?, ?, ?), (?, ?, ?, ?, ?) ON CONFLICT DO NOTHING"),
+                capturedSql.get(1));
+        // parameters are numbered per statement, the second row of each chunk starts at index 6
+        verify(preparedStatement, times(2)).setInt(7, 7);
+        verify(preparedStatement, times(2)).setString(10, null);
+    }
+
     @Test
     void insertSqlcontainsonconflictdoNothing() throws Exception {
         var capturedSql = new java.util.ArrayList<String>();
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.timescaledb.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.DefaultLocation;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TimescaleDBWriteBuffer} using a mocked scheduler.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault({ DefaultLocation.RETURN_TYPE, DefaultLocation.PARAMETER })
+@SuppressWarnings("null")
+class TimescaleDBWriteBufferTest {
+
+    private ScheduledExecutorService scheduler;
+    private List<Integer> batchSizes;
+    private List<SQLException> failures;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = mock(ScheduledExecutorService.class);
+        batchSizes = new ArrayList<>();
+        failures = new ArrayList<>();
+    }
+
+    private TimescaleDBWriteBuffer createBuffer(int capacity, int batchSize) {
+        return new TimescaleDBWriteBuffer(scheduler, batch -> {
+            if (!failures.isEmpty()) {
+                throw failures.removeFirst();
+            }
+            batchSizes.add(batch.size());
+        }, capacity, batchSize, 1000);
+    }
+
+    private TimescaleDBWriteBuffer.Entry createEntry(double value) {
+        return new TimescaleDBWriteBuffer.Entry("Sensor1", null, null, null, ZonedDateTime.now(),
+                new TimescaleDBMapper.Row(value, null, null));
+    }
+
+    @Test
+    void flushWritesAllEntriesInBatches() {
+        TimescaleDBWriteBuffer buffer = createBuffer(10, 2);
+        for (int i = 0; i < 5; i++) {
+            buffer.add(createEntry(i));
+        }
+
+        assertTrue(buffer.flush());
+
+        assertEquals(List.of(2, 2, 1), batchSizes);
+        assertEquals(0, buffer.getQueueDepth());
+        assertEquals(5, buffer.getWrittenCount());
+        assertEquals(3, buffer.getFlushCount());
+        assertEquals(1, buffer.getLastBatchSize());
+    }
+
+    @Test
+    void addSchedulesOneFlushUntilFlushed() {
+        TimescaleDBWriteBuffer buffer = createBuffer(10, 5);
+        buffer.add(createEntry(1));
+        buffer.add(createEntry(2));
+        verify(scheduler, times(1)).schedule(any(Runnable.class), eq(1000L), eq(TimeUnit.MILLISECONDS));
+
+        buffer.flush();
+        buffer.add(createEntry(3));
+        verify(scheduler, times(2)).schedule(any(Runnable.class), eq(1000L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void fullBatchIsFlushedImmediately() {
+        TimescaleDBWriteBuffer buffer = createBuffer(10, 1);
+        buffer.add(createEntry(1));
+
+        verify(scheduler).schedule(any(Runnable.class), eq(0L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void addDropsEntriesWhenFull() {
+        TimescaleDBWriteBuffer buffer = createBuffer(2, 5);
+
+        assertTrue(buffer.add(createEntry(1)));
+        assertTrue(buffer.add(createEntry(2)));
+        assertFalse(buffer.add(createEntry(3)));
+        assertEquals(2, buffer.getQueueDepth());
+        assertEquals(1, buffer.getDroppedCount());
+    }
+
+    @Test
+    void connectionErrorKeepsBatchForRetry() {
+        TimescaleDBWriteBuffer buffer = createBuffer(10, 5);
+        buffer.add(createEntry(1));
+        buffer.add(createEntry(2));
+        failures.add(new SQLTransientConnectionException("connection refused"));
+
+        assertFalse(buffer.flush());
+        assertEquals(2, buffer.getQueueDepth());
+        assertEquals(1, buffer.getFailedFlushCount());
+        // one flush scheduled by add(), one retry
+        verify(scheduler, times(2)).schedule(any(Runnable.class), eq(1000L), eq(TimeUnit.MILLISECONDS));
+
+        // the database is back
+        assertTrue(buffer.flush());
+        assertEquals(List.of(2), batchSizes);
+        assertEquals(0, buffer.getQueueDepth());
+    }
+
+    @Test
+    void otherErrorsDiscardTheBatch() {
+        TimescaleDBWriteBuffer buffer = createBuffer(10, 5);
+        buffer.add(createEntry(1));
+        failures.add(new SQLException("invalid input syntax", "22P02"));
+
+        assertTrue(buffer.flush());
+        assertEquals(0, buffer.getQueueDepth());
+        assertEquals(0, buffer.getWrittenCount());
+        assertEquals(1, buffer.getFailedFlushCount());
+    }
+
+    @Test
+    void fullBatchIsFlushedWhileDelayedFlushIsPending() {
+        TimescaleDBWriteBuffer buffer = createBuffer(10, 3);
+        for (int i = 0; i < 4; i++) {
+            buffer.add(createEntry(i));
+        }
+
+        verify(scheduler, times(1)).schedule(any(Runnable.class), eq(1000L), eq(TimeUnit.MILLISECONDS));
+        verify(scheduler, times(1)).execute(any(Runnable.class));
+
+        assertTrue(buffer.flush());
+        assertEquals(List.of(3, 1), batchSizes);
+    }
+
+    @Test
+    void fullBatchDoesNotBringRetryForward() {
+        TimescaleDBWriteBuffer buffer = createBuffer(10, 2);
+        buffer.add(createEntry(1));
+        failures.add(new SQLTransientConnectionException("connection refused"));
+        assertFalse(buffer.flush());
+
+        buffer.add(createEntry(2));
+        buffer.add(createEntry(3));
+
+        verify(scheduler, never()).execute(any(Runnable.class));
+    }
+
+    @Test
+    void failedBatchIsWrittenOneAtATime() {
+        List<Double> written = new ArrayList<>();
+        TimescaleDBWriteBuffer buffer = new TimescaleDBWriteBuffer(scheduler, batch -> {
+            if (batch.stream().anyMatch(entry -> entry.row().value() == 2.0)) {
+                throw new SQLException("invalid input syntax", "22P02");
+            }
+            batch.forEach(entry -> written.add(entry.row().value()));
+        }, 10, 5, 1000);
+        for (int i = 1; i <= 4; i++) {
+            buffer.add(createEntry(i));
+        }
+
+        assertTrue(buffer.flush());
+
+        assertEquals(List.of(1.0, 3.0, 4.0), written);
+        assertEquals(3, buffer.getWrittenCount());
+        assertEquals(0, buffer.getQueueDepth());
+    }
+
+    @Test
+    void connectionErrorWhileWritingOneAtATimeKeepsRemainingEntries() {
+        List<Double> written = new ArrayList<>();
+        TimescaleDBWriteBuffer buffer = new TimescaleDBWriteBuffer(scheduler, batch -> {
+            if (batch.size() > 1) {
+                throw new SQLException("invalid input syntax", "22P02");
+            }
+            if (batch.get(0).row().value() == 3.0 && !written.contains(-1.0)) {
+                written.add(-1.0);
+                throw new SQLTransientConnectionException("connection refused");
+            }
+            written.add(batch.get(0).row().value());
+        }, 10, 5, 1000);
+        for (int i = 1; i <= 4; i++) {
+            buffer.add(createEntry(i));
+        }
+
+        assertFalse(buffer.flush());
+        assertEquals(2, buffer.getQueueDepth());
+
+        // the database is back
+        assertTrue(buffer.flush());
+        assertEquals(List.of(1.0, 2.0, -1.0, 3.0, 4.0), written);
+        assertEquals(4, buffer.getWrittenCount());
+    }
+
+    @Test
+    void tryFlushIsSkippedWhileRetryIsPending() {
+        TimescaleDBWriteBuffer buffer = createBuffer(10, 5);
+        buffer.add(createEntry(1));
+        failures.add(new SQLTransientConnectionException("connection refused"));
+        assertFalse(buffer.flush());
+
+        assertFalse(buffer.tryFlush(100));
+        assertEquals(List.of(), batchSizes);
+        assertEquals(1, buffer.getQueueDepth());
+    }
+
+    @Test
+    void tryFlushWritesEntries() {
+        TimescaleDBWriteBuffer buffer = createBuffer(10, 5);
+        buffer.add(createEntry(1));
+
+        assertTrue(buffer.tryFlush(100));
+        assertEquals(List.of(1), batchSizes);
+    }
+
+    @Test
+    void closeWritesRemainingEntries() {
+        TimescaleDBWriteBuffer buffer = createBuffer(10, 5);
+        buffer.add(createEntry(1));
+
+        buffer.close();
+
+        assertEquals(List.of(1), batchSizes);
+    }
+}
@@ -14,9 +14,14 @@ package org.openhab.transform.bin2json.internal;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
+import org.openhab.io.metrics.internal.meters.TransformationMeters;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,6 +36,16 @@ import org.slf4j.LoggerFactory;
 public class Bin2JsonTransformationService implements TransformationService {
 
     private Logger logger = LoggerFactory.getLogger(Bin2JsonTransformationService.class);
+    private final TransformationMeters meters = new TransformationMeters("BIN2JSON");
+
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        meters.bind(meterRegistryProvider.getOHMeterRegistry());
+    }
+
+    protected void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        meters.unbind();
+    }
 
     /**
      * Transforms the input <code>source</code> by Java Binary Block Parser syntax.
@@ -40,6 +55,15 @@ public class Bin2JsonTransformationService implements TransformationService {
      */
     @Override
     public @Nullable String transform(String syntax, String source) throws TransformationException {
+        long start = System.nanoTime();
+        try {
+            return doTransform(syntax, source);
+        } finally {
+            meters.record(start);
+        }
+    }
+
+    private @Nullable String doTransform(String syntax, String source) throws TransformationException {
         final long startTime = System.currentTimeMillis();
         logger.debug("About to transform '{}' by the Bin2Json syntax '{}'", source, syntax);
 
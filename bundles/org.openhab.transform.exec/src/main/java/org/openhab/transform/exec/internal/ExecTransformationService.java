@@ -17,12 +17,16 @@ import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.io.net.exec.ExecUtil;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
+import org.openhab.io.metrics.internal.meters.TransformationMeters;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,6 +42,7 @@ import org.slf4j.LoggerFactory;
 public class ExecTransformationService implements TransformationService {
     private static final Pattern SPLIT_ON_SPACE = Pattern.compile("(['])((?:\\\\\\1|.)+?)\\1|([^\\s']+)");
     private final Logger logger = LoggerFactory.getLogger(ExecTransformationService.class);
+    private final TransformationMeters meters = new TransformationMeters("EXEC");
     private final ExecTransformationWhitelistWatchService execTransformationWhitelistWatchService;
 
     @Activate
@@ -46,6 +51,15 @@ public class ExecTransformationService implements TransformationService {
         this.execTransformationWhitelistWatchService = execTransformationWhitelistWatchService;
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        meters.bind(meterRegistryProvider.getOHMeterRegistry());
+    }
+
+    protected void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        meters.unbind();
+    }
+
     /**
      * Transforms the input <code>source</code> by the command line.
      *
@@ -55,6 +69,15 @@ public class ExecTransformationService implements TransformationService {
      */
     @Override
     public @Nullable String transform(String commandLine, String source) throws TransformationException {
+        long start = System.nanoTime();
+        try {
+            return doTransform(commandLine, source);
+        } finally {
+            meters.record(start);
+        }
+    }
+
+    private @Nullable String doTransform(String commandLine, String source) throws TransformationException {
         if (commandLine == null || source == null) {
             throw new TransformationException("the given parameters 'commandLine' and 'source' must not be null");
         }
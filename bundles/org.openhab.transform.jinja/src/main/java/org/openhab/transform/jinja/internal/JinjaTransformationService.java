@@ -13,29 +13,41 @@
 package org.openhab.transform.jinja.internal;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
+import org.openhab.io.metrics.internal.meters.TransformationMeters;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hubspot.jinjava.Jinjava;
+import com.hubspot.jinjava.interpret.Context;
 import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
+import com.hubspot.jinjava.interpret.JinjavaInterpreter;
+import com.hubspot.jinjava.interpret.TemplateError;
+import com.hubspot.jinjava.interpret.TemplateError.ErrorType;
+import com.hubspot.jinjava.tree.Node;
 
 /**
  * <p>
  * The implementation of {@link TransformationService} which transforms the input by Jinja2 Expressions.
  *
+ * <p>
+ * Parsed templates are cached. The JSON value is converted lazily, see {@link JsonNodeWrapper}.
+ *
  * @author Jochen Klein - Initial contribution
  *
  */
@@ -43,10 +55,33 @@ import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
 @Component(property = { "openhab.transform=JINJA" })
 public class JinjaTransformationService implements TransformationService {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int TEMPLATE_CACHE_SIZE = 200;
+
     private final Logger logger = LoggerFactory.getLogger(JinjaTransformationService.class);
+    private final TransformationMeters meters = new TransformationMeters("JINJA");
 
     private final Jinjava jinjava = new Jinjava();
 
+    // parsed templates are only read while rendering, so they can be shared between threads
+    private final Map<String, Node> templateCache = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(@Nullable Map.Entry<String, Node> eldest) {
+            return size() > TEMPLATE_CACHE_SIZE;
+        }
+    };
+
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        meters.bind(meterRegistryProvider.getOHMeterRegistry());
+    }
+
+    protected void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        meters.unbind();
+    }
+
     /**
      * Transforms the input <code>value</code> by Jinja template.
      *
@@ -56,6 +91,15 @@ public class JinjaTransformationService implements TransformationService {
      */
     @Override
     public @Nullable String transform(String template, String value) throws TransformationException {
+        long start = System.nanoTime();
+        try {
+            return doTransform(template, value);
+        } finally {
+            meters.record(start);
+        }
+    }
+
+    private @Nullable String doTransform(String template, String value) throws TransformationException {
         String transformationResult;
         Map<String, @Nullable Object> bindings = new HashMap<>();
 
@@ -64,14 +108,14 @@ public class JinjaTransformationService implements TransformationService {
         bindings.put("value", value);
 
         try {
-            JsonNode tree = new ObjectMapper().readTree(value);
-            bindings.put("value_json", toObject(tree));
+            JsonNode tree = OBJECT_MAPPER.readTree(value);
+            bindings.put("value_json", JsonNodeWrapper.toObject(tree));
         } catch (IOException e) {
             // ok, then value_json is null...
         }
 
         try {
-            transformationResult = jinjava.render(template, bindings);
+            transformationResult = render(template, bindings);
         } catch (FatalTemplateErrorsException e) {
             throw new TransformationException("An error occurred while transformation. " + e.getMessage(), e);
         }
@@ -81,31 +125,42 @@ public class JinjaTransformationService implements TransformationService {
         return transformationResult;
     }
 
-    private static @Nullable Object toObject(JsonNode node) {
-        switch (node.getNodeType()) {
-            case ARRAY: {
-                List<@Nullable Object> result = new ArrayList<>();
-                for (JsonNode el : node) {
-                    result.add(toObject(el));
-                }
-                return result;
+    /**
+     * Renders the template like {@link Jinjava#render(String, Map)}, but parses it only if it is not cached yet.
+     */
+    private String render(String template, Map<String, @Nullable Object> bindings) throws TransformationException {
+        @SuppressWarnings("null")
+        Context context = new Context(jinjava.getGlobalContext(), bindings);
+        JinjavaInterpreter interpreter = new JinjavaInterpreter(jinjava, context, jinjava.getGlobalConfig());
+        JinjavaInterpreter.pushCurrent(interpreter);
+        String output;
+        try {
+            Node root;
+            synchronized (templateCache) {
+                root = templateCache.get(template);
             }
-            case NUMBER:
-                return node.decimalValue();
-            case OBJECT: {
-                Map<String, @Nullable Object> result = new HashMap<>();
-                for (Entry<String, JsonNode> field : node.properties()) {
-                    result.put(field.getKey(), toObject(field.getValue()));
+            if (root == null) {
+                root = interpreter.parse(template);
+                // parse errors are reported to the parsing interpreter, so only error-free templates are cached
+                if (interpreter.getErrorsCopy().isEmpty()) {
+                    synchronized (templateCache) {
+                        templateCache.put(template, root);
+                    }
                 }
-                return result;
             }
-            case STRING:
-                return node.asText();
-            case BOOLEAN:
-                return node.asBoolean();
-            case NULL:
-            default:
-                return null;
+            output = interpreter.render(root);
+        } catch (RuntimeException e) {
+            throw new TransformationException("An error occurred while transformation. " + e.getMessage(), e);
+        } finally {
+            JinjavaInterpreter.popCurrent();
+        }
+
+        @SuppressWarnings("null")
+        List<TemplateError> fatalErrors = interpreter.getErrorsCopy().stream()
+                .filter(error -> error.getSeverity() == ErrorType.FATAL).toList();
+        if (!fatalErrors.isEmpty()) {
+            throw new FatalTemplateErrorsException(template, fatalErrors);
         }
+        return output;
     }
 }
@@ -113,4 +113,26 @@ public class JinjaTransformationServiceTest {
         // then map key is defined
         assertEquals("true", transformedResponse);
     }
+
+    @Test
+    public void testCachedTemplateWithDifferentValues() throws TransformationException {
+        String template = "{{ value_json.sensor.values[1] }} {{ value_json.sensor.unit }}";
+
+        assertEquals("2.5 C", processor.transform(template, "{\"sensor\":{\"values\":[1,2.5],\"unit\":\"C\"}}"));
+        assertEquals("3 F", processor.transform(template, "{\"sensor\":{\"values\":[2,3],\"unit\":\"F\"}}"));
+    }
+
+    @Test
+    public void testTemplateErrorRepeated() {
+        assertThrows(TransformationException.class,
+                () -> processor.transform("Hello {{{ value_json.string }}!", "{\"string\": \"world\"}"));
+        assertThrows(TransformationException.class,
+                () -> processor.transform("Hello {{{ value_json.string }}!", "{\"string\": \"world\"}"));
+    }
+
+    @Test
+    public void testObjectAndArraySize() throws TransformationException {
+        assertEquals("2 3", processor.transform("{{ value_json|length }} {{ value_json.list|length }}",
+                "{\"list\": [true, null, \"x\"], \"other\": {}}"));
+    }
 }
@@ -12,18 +12,27 @@
  */
 package org.openhab.transform.jsonpath.internal;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
 import org.openhab.core.types.UnDefType;
+import org.openhab.io.metrics.internal.meters.TransformationMeters;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.InvalidJsonException;
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
@@ -32,6 +41,9 @@ import com.jayway.jsonpath.PathNotFoundException;
 /**
  * The implementation of a {@link TransformationService} which transforms the input by JSonPath Expressions.
  *
+ * The parsed documents of the most recent sources and the compiled expressions are cached, so extracting several
+ * values from the same payload (e.g. for several channels) parses it only once.
+ *
  * @author Gaël L'hopital - Initial contribution
  * @author Sebastian Janzen - Initial contribution
  */
@@ -39,7 +51,26 @@ import com.jayway.jsonpath.PathNotFoundException;
 @Component(property = { "openhab.transform=JSONPATH" })
 public class JSonPathTransformationService implements TransformationService {
 
+    private static final int DOCUMENT_CACHE_SIZE = 16;
+    private static final int MAX_CACHED_SOURCE_LENGTH = 128 * 1024;
+    private static final int PATH_CACHE_SIZE = 500;
+
     private final Logger logger = LoggerFactory.getLogger(JSonPathTransformationService.class);
+    private final TransformationMeters meters = new TransformationMeters("JSONPATH");
+
+    private final Map<String, DocumentContext> documentCache = new LRUMap<>(DOCUMENT_CACHE_SIZE);
+    private final Map<String, JsonPath> pathCache = new LRUMap<>(PATH_CACHE_SIZE);
+    private final AtomicLong documentCacheHits = new AtomicLong();
+    private final AtomicLong documentCacheMisses = new AtomicLong();
+
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        meters.bind(meterRegistryProvider.getOHMeterRegistry());
+    }
+
+    protected void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        meters.unbind();
+    }
 
     /**
      * Transforms the input <code>source</code> by JSonPath expression.
@@ -51,6 +82,15 @@ public class JSonPathTransformationService implements TransformationService {
      */
     @Override
     public @Nullable String transform(String jsonPathExpression, String source) throws TransformationException {
+        long start = System.nanoTime();
+        try {
+            return doTransform(jsonPathExpression, source);
+        } finally {
+            meters.record(start);
+        }
+    }
+
+    private @Nullable String doTransform(String jsonPathExpression, String source) throws TransformationException {
         if (jsonPathExpression == null || source == null) {
             throw new TransformationException("the given parameters 'JSonPath' and 'source' must not be null");
         }
@@ -62,7 +102,7 @@ public class JSonPathTransformationService implements TransformationService {
             return null;
         }
         try {
-            Object transformationResult = JsonPath.read(source, jsonPathExpression);
+            Object transformationResult = getDocument(source).read(getPath(jsonPathExpression));
             logger.debug("transformation resulted in '{}'", transformationResult);
             if (transformationResult == null) {
                 return null;
@@ -78,6 +118,55 @@ public class JSonPathTransformationService implements TransformationService {
         }
     }
 
+    private DocumentContext getDocument(String source) {
+        if (source.length() > MAX_CACHED_SOURCE_LENGTH) {
+            return JsonPath.parse(source);
+        }
+        DocumentContext document;
+        synchronized (documentCache) {
+            document = documentCache.get(source);
+        }
+        if (document != null) {
+            documentCacheHits.incrementAndGet();
+            return document;
+        }
+        documentCacheMisses.incrementAndGet();
+        // parse outside the lock, documents are only read afterwards, so they can be shared between threads
+        document = JsonPath.parse(source);
+        synchronized (documentCache) {
+            documentCache.put(source, document);
+        }
+        return document;
+    }
+
+    private JsonPath getPath(String jsonPathExpression) {
+        JsonPath path;
+        synchronized (pathCache) {
+            path = pathCache.get(jsonPathExpression);
+        }
+        if (path == null) {
+            path = JsonPath.compile(jsonPathExpression);
+            synchronized (pathCache) {
+                pathCache.put(jsonPathExpression, path);
+            }
+        }
+        return path;
+    }
+
+    /**
+     * @return number of transformations which found the parsed source in the cache
+     */
+    public long getDocumentCacheHits() {
+        return documentCacheHits.get();
+    }
+
+    /**
+     * @return number of transformations which had to parse the source, sources too large for the cache excluded
+     */
+    public long getDocumentCacheMisses() {
+        return documentCacheMisses.get();
+    }
+
     private String flattenList(List<?> list) {
         if (list.size() == 1) {
             return list.get(0).toString();
@@ -102,4 +191,20 @@ public class JSonPathTransformationService implements TransformationService {
     private String createStringList(List<?> list) {
         return list.stream().map(n -> "\"" + n + "\"").collect(Collectors.joining(", ", "[", "]"));
     }
+
+    private static class LRUMap<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 1L;
+
+        private final int maxEntries;
+
+        LRUMap(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(@Nullable Map.Entry<K, V> eldest) {
+            return size() > maxEntries;
+        }
+    }
 }
@@ -129,4 +129,23 @@ public class JSonPathTransformationServiceTest {
         String transformedResponse = processor.transform("$.data", json);
         assertEquals(list, transformedResponse);
     }
+
+    @Test
+    public void testSourceIsParsedOnce() throws TransformationException {
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+        assertEquals("alice", processor.transform("$[1].name", JSON_ARRAY));
+        assertEquals("2", processor.transform("$[1].id", new String(JSON_ARRAY)));
+
+        assertEquals(1, processor.getDocumentCacheMisses());
+        assertEquals(2, processor.getDocumentCacheHits());
+    }
+
+    @Test
+    public void testInvalidJsonIsNotCached() {
+        assertThrows(TransformationException.class, () -> processor.transform("$", "{id:"));
+        assertThrows(TransformationException.class, () -> processor.transform("$", "{id:"));
+
+        assertEquals(2, processor.getDocumentCacheMisses());
+        assertEquals(0, processor.getDocumentCacheHits());
+    }
 }
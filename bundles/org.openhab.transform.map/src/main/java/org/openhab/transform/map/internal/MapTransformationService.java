@@ -34,14 +34,18 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.config.core.ConfigOptionProvider;
 import org.openhab.core.config.core.ParameterOption;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.transform.Transformation;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationRegistry;
 import org.openhab.core.transform.TransformationService;
+import org.openhab.io.metrics.internal.meters.TransformationMeters;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -67,6 +71,7 @@ public class MapTransformationService
             .compile("\\s*\\|(?:\\?delimiter=(?<delimiter>\\W+?))?(?<map>.+)", Pattern.DOTALL);
 
     private final Logger logger = LoggerFactory.getLogger(MapTransformationService.class);
+    private final TransformationMeters meters = new TransformationMeters("MAP");
     private final TransformationRegistry transformationRegistry;
     private final Map<String, Properties> cachedTransformations = new ConcurrentHashMap<>();
     private final Map<String, Properties> cachedInlineMap = new LRUMap<>(1000);
@@ -82,8 +87,26 @@ public class MapTransformationService
         transformationRegistry.removeRegistryChangeListener(this);
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        meters.bind(meterRegistryProvider.getOHMeterRegistry());
+    }
+
+    protected void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        meters.unbind();
+    }
+
     @Override
     public @Nullable String transform(String function, String source) throws TransformationException {
+        long start = System.nanoTime();
+        try {
+            return doTransform(function, source);
+        } finally {
+            meters.record(start);
+        }
+    }
+
+    private @Nullable String doTransform(String function, String source) throws TransformationException {
         Properties properties = null;
 
         Matcher matcher = INLINE_MAP_CONFIG_PATTERN.matcher(function);
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.regex.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link RegExPatternCache} holds compiled {@link Pattern}s, keyed by the regular expression and the flags. The
+ * least recently used patterns are evicted once the cache holds <code>maxEntries</code> patterns.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class RegExPatternCache {
+
+    private record Key(String regex, int flags) {
+    }
+
+    private final Map<Key, Pattern> patterns;
+
+    RegExPatternCache(int maxEntries) {
+        patterns = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(@Nullable Map.Entry<Key, Pattern> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the compiled pattern, compiling and caching it if it is not cached yet.
+     *
+     * @throws PatternSyntaxException if the expression is invalid, invalid expressions are not cached
+     */
+    Pattern get(String regex, int flags) {
+        Key key = new Key(regex, flags);
+        synchronized (patterns) {
+            Pattern pattern = patterns.get(key);
+            if (pattern != null) {
+                return pattern;
+            }
+        }
+        // compile outside the lock, a concurrent compilation of the same expression is harmless
+        Pattern pattern = Pattern.compile(regex, flags);
+        synchronized (patterns) {
+            patterns.put(key, pattern);
+        }
+        return pattern;
+    }
+
+    int size() {
+        synchronized (patterns) {
+            return patterns.size();
+        }
+    }
+}
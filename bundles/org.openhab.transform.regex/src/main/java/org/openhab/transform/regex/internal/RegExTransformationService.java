@@ -17,9 +17,14 @@ import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
+import org.openhab.io.metrics.internal.meters.TransformationMeters;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,11 +42,34 @@ import org.slf4j.LoggerFactory;
 public class RegExTransformationService implements TransformationService {
 
     private final Logger logger = LoggerFactory.getLogger(RegExTransformationService.class);
+    private final TransformationMeters meters = new TransformationMeters("REGEX");
 
     private static final Pattern SUBSTR_PATTERN = Pattern.compile("^s/(.*?[^\\\\])/(.*?[^\\\\])/(.*)$");
+    private static final int PATTERN_CACHE_SIZE = 1000;
+
+    // the regex profiles transform through this service, so they share the cache
+    private final RegExPatternCache patternCache = new RegExPatternCache(PATTERN_CACHE_SIZE);
+
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        meters.bind(meterRegistryProvider.getOHMeterRegistry());
+    }
+
+    protected void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        meters.unbind();
+    }
 
     @Override
     public @Nullable String transform(String regExpression, String source) throws TransformationException {
+        long start = System.nanoTime();
+        try {
+            return doTransform(regExpression, source);
+        } finally {
+            meters.record(start);
+        }
+    }
+
+    private @Nullable String doTransform(String regExpression, String source) throws TransformationException {
         if (regExpression == null || source == null) {
             throw new TransformationException("the given parameters 'regex' and 'source' must not be null");
         }
@@ -56,40 +84,39 @@ public class RegExTransformationService implements TransformationService {
             String regex = substMatcher.group(1);
             String substitution = substMatcher.group(2);
             String options = substMatcher.group(3);
+            Matcher matcher = patternCache.get(regex, 0).matcher(source.trim());
             if ("g".equals(options)) {
-                result = source.trim().replaceAll(regex, substitution);
+                result = matcher.replaceAll(substitution);
             } else {
-                result = source.trim().replaceFirst(regex, substitution);
+                result = matcher.replaceFirst(substitution);
             }
             if (result != null) {
                 return result;
             }
         }
 
-        Matcher matcher = Pattern.compile("^" + regExpression + "$", Pattern.DOTALL).matcher(source.trim());
+        // the whole (trimmed) source has to match, so the match found by matches() is the only one
+        Matcher matcher = patternCache.get("^" + regExpression + "$", Pattern.DOTALL).matcher(source.trim());
         if (!matcher.matches()) {
             logger.debug(
                     "the given regex '^{}$' doesn't match the given content '{}' -> couldn't compute transformation",
                     regExpression, source);
             return null;
         }
-        matcher.reset();
-
-        while (matcher.find()) {
-            if (matcher.groupCount() == 0) {
-                logger.info(
-                        "the given regular expression '^{}$' doesn't contain a group. No content will be extracted and returned!",
-                        regExpression);
-                continue;
-            }
 
-            result = matcher.group(1);
+        if (matcher.groupCount() == 0) {
+            logger.info(
+                    "the given regular expression '^{}$' doesn't contain a group. No content will be extracted and returned!",
+                    regExpression);
+            return result;
+        }
+
+        result = matcher.group(1);
 
-            if (matcher.groupCount() > 1) {
-                logger.debug(
-                        "the given regular expression '^{}$' contains more than one group. Only the first group will be returned!",
-                        regExpression);
-            }
+        if (matcher.groupCount() > 1) {
+            logger.debug(
+                    "the given regular expression '^{}$' contains more than one group. Only the first group will be returned!",
+                    regExpression);
         }
 
         return result;
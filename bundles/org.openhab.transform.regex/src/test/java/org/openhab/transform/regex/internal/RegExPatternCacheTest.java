@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.regex.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RegExPatternCacheTest {
+
+    @Test
+    public void testSamePatternIsReturned() {
+        RegExPatternCache cache = new RegExPatternCache(10);
+
+        Pattern pattern = cache.get("a(.*)", 0);
+
+        assertSame(pattern, cache.get("a(.*)", 0));
+        assertNotSame(pattern, cache.get("a(.*)", Pattern.DOTALL));
+        assertEquals(Pattern.DOTALL, cache.get("a(.*)", Pattern.DOTALL).flags());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedPatternIsEvicted() {
+        RegExPatternCache cache = new RegExPatternCache(2);
+
+        Pattern first = cache.get("first", 0);
+        Pattern second = cache.get("second", 0);
+        cache.get("first", 0);
+        cache.get("third", 0);
+
+        assertEquals(2, cache.size());
+        assertSame(first, cache.get("first", 0));
+        assertNotSame(second, cache.get("second", 0));
+    }
+
+    @Test
+    public void testInvalidPatternIsNotCached() {
+        RegExPatternCache cache = new RegExPatternCache(10);
+
+        assertThrows(PatternSyntaxException.class, () -> cache.get("(", 0));
+        assertEquals(0, cache.size());
+    }
+}
@@ -75,4 +75,14 @@ public class RegExTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("varX=12 varY=54 ", transformedResponse);
     }
+
+    @Test
+    public void testTransformByRegex_repeatedWithCachedPattern() throws TransformationException {
+        // method under test
+        assertEquals("12", processor.transform("T=(\\d+).*", "T=12;H=40"));
+        assertEquals("13", processor.transform("T=(\\d+).*", "T=13;H=41"));
+        assertNull(processor.transform("T=(\\d+).*", "H=41"));
+        assertEquals("x-x", processor.transform("s/[0-9]/x/g", "1-2"));
+        assertEquals("x-2", processor.transform("s/[0-9]/x/", "1-2"));
+    }
 }
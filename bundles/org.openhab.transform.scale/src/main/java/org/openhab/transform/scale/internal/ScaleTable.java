@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.scale.internal;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link ScaleTable} is the compiled form of a scale configuration.
+ *
+ * A value is mapped to the label of the first range (in the order of the configuration) containing it. If no two
+ * ranges overlap, there is at most one such range and it is found by a binary search over the ranges sorted by their
+ * lower bounds. Otherwise, the ranges are scanned in order.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ScaleTable {
+
+    /** Orders ranges by where they start, an unbounded lower end first, an inclusive bound before an exclusive one */
+    private static final Comparator<Range> BY_LOWER_BOUND = (a, b) -> {
+        if (a.min == null || b.min == null) {
+            return a.min == null ? (b.min == null ? 0 : -1) : 1;
+        }
+        int cmp = a.min.compareTo(b.min);
+        return cmp != 0 ? cmp : Boolean.compare(b.minInclusive, a.minInclusive);
+    };
+
+    private final String format;
+    private final @Nullable String nonNumeric;
+    // in the order of the configuration
+    private final Range[] ranges;
+    private final String[] labels;
+    // non-empty ranges sorted by lower bound, null if ranges overlap
+    private final Range @Nullable [] sortedRanges;
+    private final String @Nullable [] sortedLabels;
+
+    /**
+     * @param format the presentation format
+     * @param nonNumeric the label for non-numeric values, <code>null</code> if there is none
+     * @param ranges the ranges in the order of the configuration
+     * @param labels the labels of the ranges
+     */
+    ScaleTable(String format, @Nullable String nonNumeric, List<Range> ranges, List<String> labels) {
+        this.format = format;
+        this.nonNumeric = nonNumeric;
+        this.ranges = ranges.toArray(Range[]::new);
+        this.labels = labels.toArray(String[]::new);
+
+        Integer[] order = IntStream.range(0, this.ranges.length).filter(i -> !isEmpty(this.ranges[i])).boxed()
+                .sorted((i, j) -> BY_LOWER_BOUND.compare(this.ranges[i], this.ranges[j])).toArray(Integer[]::new);
+        Range[] sorted = Arrays.stream(order).map(i -> this.ranges[i]).toArray(Range[]::new);
+        boolean overlapping = false;
+        for (int i = 1; i < sorted.length && !overlapping; i++) {
+            overlapping = overlaps(sorted[i - 1], sorted[i]);
+        }
+        if (overlapping) {
+            sortedRanges = null;
+            sortedLabels = null;
+        } else {
+            sortedRanges = sorted;
+            sortedLabels = Arrays.stream(order).map(i -> this.labels[i]).toArray(String[]::new);
+        }
+    }
+
+    String getFormat() {
+        return format;
+    }
+
+    @Nullable
+    String getNonNumeric() {
+        return nonNumeric;
+    }
+
+    /**
+     * @return whether the ranges are looked up by binary search
+     */
+    boolean isIndexed() {
+        return sortedRanges != null;
+    }
+
+    /**
+     * @return the label of the first range containing the value, <code>null</code> if no range contains it
+     */
+    @Nullable
+    String lookup(BigDecimal value) {
+        Range[] sortedRanges = this.sortedRanges;
+        String[] sortedLabels = this.sortedLabels;
+        if (sortedRanges != null && sortedLabels != null) {
+            // find the last range starting at or before the value, it is the only one which can contain it
+            int low = 0;
+            int high = sortedRanges.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (startsAtOrBefore(sortedRanges[mid], value)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low > 0 && sortedRanges[low - 1].contains(value) ? sortedLabels[low - 1] : null;
+        }
+        for (int i = 0; i < ranges.length; i++) {
+            if (ranges[i].contains(value)) {
+                return labels[i];
+            }
+        }
+        return null;
+    }
+
+    private static boolean startsAtOrBefore(Range range, BigDecimal value) {
+        if (range.min == null) {
+            return true;
+        }
+        int cmp = value.compareTo(range.min);
+        return cmp > 0 || (cmp == 0 && range.minInclusive);
+    }
+
+    private static boolean isEmpty(Range range) {
+        if (range.min == null || range.max == null) {
+            return false;
+        }
+        int cmp = range.min.compareTo(range.max);
+        return cmp > 0 || (cmp == 0 && !(range.minInclusive && range.maxInclusive));
+    }
+
+    /**
+     * Checks if two non-empty ranges overlap, the first one not starting after the second one.
+     */
+    private static boolean overlaps(Range first, Range second) {
+        if (first.max == null || second.min == null) {
+            return true;
+        }
+        int cmp = first.max.compareTo(second.min);
+        return cmp > 0 || (cmp == 0 && first.maxInclusive && second.minInclusive);
+    }
+}
@@ -16,12 +16,13 @@ import java.io.IOException;
 import java.io.StringReader;
 import java.math.BigDecimal;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -37,15 +38,19 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.config.core.ConfigOptionProvider;
 import org.openhab.core.config.core.ParameterOption;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.transform.Transformation;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationRegistry;
 import org.openhab.core.transform.TransformationService;
+import org.openhab.io.metrics.internal.meters.TransformationMeters;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -63,6 +68,7 @@ public class ScaleTransformationService
         implements TransformationService, ConfigOptionProvider, RegistryChangeListener<Transformation> {
 
     private final Logger logger = LoggerFactory.getLogger(ScaleTransformationService.class);
+    private final TransformationMeters meters = new TransformationMeters("SCALE");
 
     private static final String PROFILE_CONFIG_URI = "profile:transform:SCALE";
     private static final String CONFIG_PARAM_FUNCTION = "function";
@@ -75,12 +81,12 @@ public class ScaleTransformationService
     private static final String FORMAT = "format";
     private static final String FORMAT_VALUE = "%value%";
     private static final String FORMAT_LABEL = "%label%";
+    private static final Pattern FORMAT_VALUE_PATTERN = Pattern.compile(FORMAT_VALUE);
+    private static final Pattern FORMAT_LABEL_PATTERN = Pattern.compile(FORMAT_LABEL);
 
-    /** Inaccessible range used to store presentation format ]0..0[ */
-    private static final Range FORMAT_RANGE = Range.range(BigDecimal.ZERO, false, BigDecimal.ZERO, false);
     private final TransformationRegistry transformationRegistry;
 
-    private final Map<String, Map<@Nullable Range, String>> cachedTransformations = new ConcurrentHashMap<>();
+    private final Map<String, ScaleTable> cachedTransformations = new ConcurrentHashMap<>();
 
     @Activate
     public ScaleTransformationService(@Reference TransformationRegistry transformationRegistry) {
@@ -141,8 +147,26 @@ public class ScaleTransformationService
         }
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        meters.bind(meterRegistryProvider.getOHMeterRegistry());
+    }
+
+    protected void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        meters.unbind();
+    }
+
     @Override
     public @Nullable String transform(String function, String source) throws TransformationException {
+        long start = System.nanoTime();
+        try {
+            return doTransform(function, source);
+        } finally {
+            meters.record(start);
+        }
+    }
+
+    private @Nullable String doTransform(String function, String source) throws TransformationException {
         // always get a configuration from the registry to account for changed system locale
         Transformation transformation = transformationRegistry.get(function, null);
 
@@ -150,7 +174,7 @@ public class ScaleTransformationService
             if (!cachedTransformations.containsKey(transformation.getUID())) {
                 importConfiguration(transformation);
             }
-            Map<@Nullable Range, String> data = cachedTransformations.get(transformation.getUID());
+            ScaleTable data = cachedTransformations.get(transformation.getUID());
 
             if (data != null) {
                 String target;
@@ -164,7 +188,7 @@ public class ScaleTransformationService
                         final QuantityType<?> quantity = new QuantityType<>(source);
                         return formatResult(data, source, quantity.toBigDecimal());
                     } catch (IllegalArgumentException e2) {
-                        String nonNumeric = data.get(null);
+                        String nonNumeric = data.getNonNumeric();
                         if (nonNumeric != null) {
                             target = nonNumeric;
                         } else {
@@ -181,25 +205,23 @@ public class ScaleTransformationService
         throw new TransformationException("Could not find configuration '" + function + "' or failed to parse it.");
     }
 
-    private String formatResult(Map<@Nullable Range, String> data, String source, final BigDecimal value)
-            throws TransformationException {
-        String format = data.get(FORMAT_RANGE);
-        String result = getScaleResult(data, source, value);
-        return format.replaceAll(FORMAT_VALUE, source).replaceAll(FORMAT_LABEL, result);
-    }
-
-    private String getScaleResult(Map<@Nullable Range, String> data, String source, final BigDecimal value)
-            throws TransformationException {
-        return data.entrySet().stream().filter(entry -> entry.getKey() != null && entry.getKey().contains(value))
-                .findFirst().map(Map.Entry::getValue)
-                .orElseThrow(() -> new TransformationException("No matching range for '" + source + "'"));
+    private String formatResult(ScaleTable data, String source, final BigDecimal value) throws TransformationException {
+        String result = data.lookup(value);
+        if (result == null) {
+            throw new TransformationException("No matching range for '" + source + "'");
+        }
+        String formatted = FORMAT_VALUE_PATTERN.matcher(data.getFormat()).replaceAll(source);
+        return FORMAT_LABEL_PATTERN.matcher(formatted).replaceAll(result);
     }
 
     private void importConfiguration(@Nullable Transformation configuration) {
         if (configuration != null) {
             try {
-                final Map<@Nullable Range, String> data = new LinkedHashMap<>();
-                data.put(FORMAT_RANGE, FORMAT_LABEL);
+                final List<Range> ranges = new ArrayList<>();
+                final List<String> labels = new ArrayList<>();
+                String format = FORMAT_LABEL;
+                @Nullable
+                String nonNumeric = null;
                 final OrderedProperties properties = new OrderedProperties();
                 String function = configuration.getConfiguration().get(Transformation.FUNCTION);
                 if (function == null) {
@@ -222,12 +244,13 @@ public class ScaleTransformationService
                         final BigDecimal highValue = highLimit.isEmpty() ? null : new BigDecimal(highLimit);
                         final Range range = Range.range(lowValue, lowerInclusive, highValue, upperInclusive);
 
-                        data.put(range, value);
+                        ranges.add(range);
+                        labels.add(value);
                     } else {
                         if (NON_NUMBER.equals(entry)) {
-                            data.put(null, value);
+                            nonNumeric = value;
                         } else if (FORMAT.equals(entry)) {
-                            data.put(FORMAT_RANGE, value);
+                            format = value;
                         } else {
                             logger.warn(
                                     "Scale transformation configuration '{}' does not comply with syntax for entry : '{}', '{}'",
@@ -236,6 +259,9 @@ public class ScaleTransformationService
                     }
                 }
 
+                ScaleTable data = new ScaleTable(format, nonNumeric, ranges, labels);
+                logger.trace("Scale transformation '{}' has {} ranges, indexed: {}", configuration.getUID(),
+                        ranges.size(), data.isIndexed());
                 cachedTransformations.put(configuration.getUID(), data);
             } catch (IOException | NumberFormatException ignored) {
             }
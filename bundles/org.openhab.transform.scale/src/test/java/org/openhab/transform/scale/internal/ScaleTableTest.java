@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.scale.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ScaleTableTest {
+
+    @Test
+    public void testBoundsOfAdjacentRanges() {
+        ScaleTable table = new ScaleTable("%label%", null,
+                List.of(Range.lessThan(BigDecimal.ZERO), Range.closedOpen(BigDecimal.ZERO, BigDecimal.TEN),
+                        Range.closed(BigDecimal.TEN, BigDecimal.TEN),
+                        Range.greaterThan(BigDecimal.TEN)),
+                List.of("negative", "low", "ten", "high"));
+
+        assertTrue(table.isIndexed());
+        assertEquals("negative", table.lookup(new BigDecimal("-0.001")));
+        assertEquals("low", table.lookup(BigDecimal.ZERO));
+        assertEquals("low", table.lookup(new BigDecimal("9.999")));
+        assertEquals("ten", table.lookup(new BigDecimal("10.0")));
+        assertEquals("high", table.lookup(new BigDecimal("10.001")));
+    }
+
+    @Test
+    public void testGapIsNotMatched() {
+        ScaleTable table = new ScaleTable("%label%", null,
+                List.of(Range.closed(BigDecimal.ONE, BigDecimal.TWO), Range.open(BigDecimal.TEN, new BigDecimal(20))),
+                List.of("a", "b"));
+
+        assertTrue(table.isIndexed());
+        assertNull(table.lookup(BigDecimal.ZERO));
+        assertNull(table.lookup(new BigDecimal(5)));
+        assertNull(table.lookup(BigDecimal.TEN));
+        assertNull(table.lookup(new BigDecimal(20)));
+    }
+
+    @Test
+    public void testOverlappingRangesMatchFirstInOrder() {
+        ScaleTable table = new ScaleTable("%label%", null,
+                List.of(Range.closed(new BigDecimal(5), BigDecimal.TEN), Range.closed(BigDecimal.ZERO, BigDecimal.TEN)),
+                List.of("inner", "outer"));
+
+        assertFalse(table.isIndexed());
+        assertEquals("outer", table.lookup(BigDecimal.ONE));
+        assertEquals("inner", table.lookup(new BigDecimal(7)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 10, 100, 1000 })
+    public void testIndexedLookupMatchesScan(int size) {
+        Random random = new Random(size);
+        List<Range> ranges = new ArrayList<>();
+        List<String> labels = new ArrayList<>();
+        int lower = 0;
+        boolean lowerInclusive = true;
+        for (int i = 0; i < size; i++) {
+            // bands with random widths, gaps and bound types
+            int upper = lower + 1 + random.nextInt(5);
+            boolean upperInclusive = random.nextBoolean();
+            ranges.add(Range.range(new BigDecimal(lower), lowerInclusive, new BigDecimal(upper), upperInclusive));
+            labels.add("band" + i);
+            int gap = random.nextInt(2);
+            lower = upper + gap;
+            lowerInclusive = gap > 0 || !upperInclusive ? random.nextBoolean() : false;
+        }
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            order.add(i);
+        }
+        Collections.shuffle(order, random);
+        List<Range> shuffledRanges = order.stream().map(ranges::get).toList();
+        List<String> shuffledLabels = order.stream().map(labels::get).toList();
+
+        ScaleTable table = new ScaleTable("%label%", null, shuffledRanges, shuffledLabels);
+
+        assertTrue(table.isIndexed());
+        for (int i = -2; i <= lower * 2 + 2; i++) {
+            BigDecimal value = new BigDecimal(i).divide(BigDecimal.TWO);
+            assertEquals(scan(shuffledRanges, shuffledLabels, value), table.lookup(value), "value " + value);
+        }
+    }
+
+    private static @Nullable String scan(List<Range> ranges, List<String> labels, BigDecimal value) {
+        for (int i = 0; i < ranges.size(); i++) {
+            if (ranges.get(i).contains(value)) {
+                return labels.get(i);
+            }
+        }
+        return null;
+    }
+}
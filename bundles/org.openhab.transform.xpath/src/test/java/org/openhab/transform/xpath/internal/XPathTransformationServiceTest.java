@@ -13,10 +13,23 @@
 package org.openhab.transform.xpath.internal;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.transform.TransformationException;
+import org.openhab.io.metrics.internal.meters.TransformationMeters;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * @author Thomas.Eichstaedt-Engelen - Initial contribution
@@ -38,4 +51,55 @@ public class XPathTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testTransformByXPathRepeatedAfterInvalidDocument() throws TransformationException {
+        assertThrows(TransformationException.class,
+                () -> processor.transform("//current_conditions/temp_c/@data", "<xml_api_reply>"));
+
+        // the cached expression and the reused document builder still work
+        assertEquals("8", processor.transform("//current_conditions/temp_c/@data", source));
+        assertEquals("8", processor.transform("//current_conditions/temp_c/@data", source));
+        assertEquals("", processor.transform("//current_conditions/unknown/@data", source));
+    }
+
+    @Test
+    public void testTransformByXPathConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                results.add(executor.submit(() -> processor.transform("//current_conditions/temp_c/@data", source)));
+            }
+            for (Future<String> result : results) {
+                assertEquals("8", result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        processor.deactivate();
+        assertEquals("8", processor.transform("//current_conditions/temp_c/@data", source));
+    }
+
+    @Test
+    public void testTransformationLatencyIsRecorded() throws TransformationException {
+        CompositeMeterRegistry meterRegistry = new CompositeMeterRegistry();
+        meterRegistry.add(new SimpleMeterRegistry());
+        MeterRegistryProvider meterRegistryProvider = mock(MeterRegistryProvider.class);
+        when(meterRegistryProvider.getOHMeterRegistry()).thenReturn(meterRegistry);
+        processor.setMeterRegistryProvider(meterRegistryProvider);
+
+        processor.transform("//current_conditions/temp_c/@data", source);
+        assertThrows(TransformationException.class,
+                () -> processor.transform("//current_conditions/temp_c/@data", "<xml_api_reply>"));
+
+        Timer timer = meterRegistry.find(TransformationMeters.METRIC_TRANSFORMATION_LATENCY)
+                .tag(TransformationMeters.TAG_TYPE, "XPATH").timer();
+        assertNotNull(timer);
+        assertEquals(2, timer.count());
+
+        processor.unsetMeterRegistryProvider(meterRegistryProvider);
+        assertNull(meterRegistry.find(TransformationMeters.METRIC_TRANSFORMATION_LATENCY).timer());
+    }
 }
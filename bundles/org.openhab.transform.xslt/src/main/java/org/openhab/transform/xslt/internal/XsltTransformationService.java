@@ -15,9 +15,16 @@ package org.openhab.transform.xslt.internal;
 import java.io.File;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.transform.Source;
-import javax.xml.transform.Transformer;
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
@@ -25,9 +32,17 @@ import javax.xml.transform.stream.StreamSource;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.OpenHAB;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
+import org.openhab.core.service.WatchService;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
+import org.openhab.io.metrics.internal.meters.TransformationMeters;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,14 +50,60 @@ import org.slf4j.LoggerFactory;
  * <p>
  * The implementation of {@link TransformationService} which transforms the input by XSLT.
  *
+ * <p>
+ * Compiled stylesheets are cached and dropped when their file or a file they include or import changes.
+ *
  * @author Thomas.Eichstaedt-Engelen - Initial contribution
  */
 @NonNullByDefault
 @Component(property = { "openhab.transform=XSLT" })
-public class XsltTransformationService implements TransformationService {
+public class XsltTransformationService implements TransformationService, WatchService.WatchEventListener {
 
     private final Logger logger = LoggerFactory.getLogger(XsltTransformationService.class);
 
+    private final WatchService watchService;
+    private final TransformerFactory transformerFactory = TransformerFactory.newInstance();
+    private final Map<Path, CachedTemplates> templatesCache = new ConcurrentHashMap<>();
+    private final TransformationMeters meters = new TransformationMeters("XSLT");
+
+    /**
+     * A compiled stylesheet and the files it was compiled from.
+     */
+    private record CachedTemplates(Templates templates, Set<Path> files) {
+    }
+
+    @Activate
+    public XsltTransformationService(
+            final @Reference(target = WatchService.CONFIG_WATCHER_FILTER) WatchService watchService) {
+        this.watchService = watchService;
+        watchService.registerListener(this, Path.of(TransformationService.TRANSFORM_FOLDER_NAME));
+    }
+
+    @Deactivate
+    public void deactivate() {
+        watchService.unregisterListener(this);
+        templatesCache.clear();
+    }
+
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        meters.bind(meterRegistryProvider.getOHMeterRegistry());
+    }
+
+    protected void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        meters.unbind();
+    }
+
+    @Override
+    public void processWatchEvent(WatchService.Kind kind, Path path) {
+        Path changed = watchService.getWatchPath().resolve(path).toAbsolutePath().normalize();
+        // a changed directory drops all stylesheets below it
+        if (templatesCache.values()
+                .removeIf(cached -> cached.files().stream().anyMatch(file -> file.startsWith(changed)))) {
+            logger.debug("Dropped cached stylesheets for '{}'", changed);
+        }
+    }
+
     /**
      * Transforms the input <code>source</code> by XSLT.
      *
@@ -60,12 +121,12 @@ public class XsltTransformationService implements TransformationService {
             throw new TransformationException("the given parameters 'filename' and 'source' must not be null");
         }
 
-        Source xsl = null;
+        Path file;
 
         try {
             String path = OpenHAB.getConfigFolder() + File.separator + TransformationService.TRANSFORM_FOLDER_NAME
                     + File.separator + filename;
-            xsl = new StreamSource(new File(path));
+            file = Path.of(path).toAbsolutePath().normalize();
         } catch (Exception e) {
             String message = "opening file '" + filename + "' throws exception";
 
@@ -73,23 +134,65 @@ public class XsltTransformationService implements TransformationService {
             throw new TransformationException(message, e);
         }
 
-        logger.debug("about to transform '{}' by the function '{}'", source, xsl);
+        logger.debug("about to transform '{}' by the function '{}'", source, file);
 
         StringReader xml = new StringReader(source);
         StringWriter out = new StringWriter();
 
-        Transformer transformer;
-
+        long start = System.nanoTime();
         try {
-            transformer = TransformerFactory.newInstance().newTransformer(xsl);
-            transformer.transform(new StreamSource(xml), new StreamResult(out));
+            getTemplates(file).newTransformer().transform(new StreamSource(xml), new StreamResult(out));
         } catch (Exception e) {
             logger.error("transformation throws exception", e);
             throw new TransformationException("transformation throws exception", e);
+        } finally {
+            meters.record(start);
         }
 
         logger.debug("transformation resulted in '{}'", out.toString());
 
         return out.toString();
     }
+
+    private Templates getTemplates(Path file) throws TransformerConfigurationException {
+        CachedTemplates cached = templatesCache.get(file);
+        if (cached == null) {
+            Set<Path> files = new HashSet<>();
+            files.add(file);
+            Templates templates;
+            // the factory is not thread-safe, compiled templates are
+            synchronized (transformerFactory) {
+                transformerFactory.setURIResolver((href, base) -> resolveStylesheet(href, base, files));
+                try {
+                    templates = transformerFactory.newTemplates(new StreamSource(file.toFile()));
+                } finally {
+                    transformerFactory.setURIResolver(null);
+                }
+            }
+            cached = new CachedTemplates(templates, Set.copyOf(files));
+            templatesCache.put(file, cached);
+        }
+        return cached.templates();
+    }
+
+    /**
+     * Resolves a stylesheet referenced by <code>xsl:include</code> or <code>xsl:import</code> and records local files,
+     * so that the compiled stylesheet is dropped when one of them changes.
+     *
+     * @return the included file or <code>null</code> to let the processor resolve other references
+     */
+    private @Nullable Source resolveStylesheet(String href, @Nullable String base, Set<Path> files) {
+        try {
+            URI uri = base == null || base.isEmpty() ? new URI(href) : new URI(base).resolve(href);
+            if (!"file".equals(uri.getScheme())) {
+                return null;
+            }
+            Path included = Path.of(uri).toAbsolutePath().normalize();
+            files.add(included);
+            return new StreamSource(included.toFile());
+        } catch (Exception e) {
+            logger.debug("Cannot track stylesheet '{}' included from '{}': {}", href, base, e.getMessage());
+            return null;
+        }
+    }
 }
@@ -13,6 +13,7 @@
 package org.openhab.transform.xslt.internal;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -23,6 +24,7 @@ import java.nio.file.StandardCopyOption;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openhab.core.OpenHAB;
+import org.openhab.core.service.WatchService;
 import org.openhab.core.transform.TransformationException;
 
 /**
@@ -40,7 +42,9 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
             Files.createDirectories(transformHttpPath);
         }
 
-        processor = new XsltTransformationService();
+        WatchService watchService = mock(WatchService.class);
+        when(watchService.getWatchPath()).thenReturn(Paths.get(OpenHAB.getConfigFolder()));
+        processor = new XsltTransformationService(watchService);
     }
 
     @Test
@@ -54,4 +58,57 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testChangedStylesheetIsReloadedAfterWatchEvent() throws TransformationException, IOException {
+        Path stylesheet = transformHttpPath.resolve("changing.xsl");
+        Files.copy(getClass().getResourceAsStream("google_weather.xsl"), stylesheet,
+                StandardCopyOption.REPLACE_EXISTING);
+        assertEquals("8", processor.transform("http/changing.xsl", source));
+
+        Files.writeString(stylesheet, """
+                <?xml version="1.0"?>
+                <xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" version="1.0">
+                    <xsl:output method="text" />
+                    <xsl:template match="/">changed</xsl:template>
+                </xsl:stylesheet>
+                """);
+
+        // the compiled stylesheet is used until the file change is reported
+        assertEquals("8", processor.transform("http/changing.xsl", source));
+
+        processor.processWatchEvent(WatchService.Kind.MODIFY, Path.of("transform", "http", "changing.xsl"));
+
+        assertEquals("changed", processor.transform("http/changing.xsl", source));
+    }
+
+    @Test
+    public void testStylesheetIsReloadedAfterIncludedFileChanged() throws TransformationException, IOException {
+        Path included = transformHttpPath.resolve("included.xsl");
+        Files.writeString(included, """
+                <?xml version="1.0"?>
+                <xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" version="1.0">
+                    <xsl:template name="result">included</xsl:template>
+                </xsl:stylesheet>
+                """);
+        Files.writeString(transformHttpPath.resolve("including.xsl"), """
+                <?xml version="1.0"?>
+                <xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" version="1.0">
+                    <xsl:include href="included.xsl" />
+                    <xsl:output method="text" />
+                    <xsl:template match="/"><xsl:call-template name="result" /></xsl:template>
+                </xsl:stylesheet>
+                """);
+        assertEquals("included", processor.transform("http/including.xsl", source));
+
+        Files.writeString(included, """
+                <?xml version="1.0"?>
+                <xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" version="1.0">
+                    <xsl:template name="result">changed</xsl:template>
+                </xsl:stylesheet>
+                """);
+        processor.processWatchEvent(WatchService.Kind.MODIFY, Path.of("transform", "http", "included.xsl"));
+
+        assertEquals("changed", processor.transform("http/including.xsl", source));
+    }
 }